@@ -1,6 +1,5 @@
 package roborally.astar;
 
-import java.math.BigInteger;
 import java.util.*;
 
 import roborally.astar.Tile.TileValueIndex;
@@ -9,10 +8,13 @@ import roborally.model.Cost;
 import roborally.model.Direction;
 import roborally.model.dynamicObject.Robot;
 import roborally.model.energy.Energy;
+import roborally.model.energy.EnergyUnit;
 
 /**
  * A class implementing the A-star algorithm.
  * 
+ * @note	The search itself is performed by an A-star engine working on primitive values.
+ * 
  * @version	Pandora: A New Hope
  * @author 	Matthias Moulin & Ruben Pieters
  *
@@ -24,7 +26,7 @@ public final class Astar {
 	 * 
 	 * @note	The order in which the elements appear correspond with DIRECTIONS_ENUM
 	 */
-	public final static BigInteger[][] DIRECTIONS = { {BigInteger.ZERO,BigInteger.valueOf(-1)}, {BigInteger.ONE,BigInteger.ZERO}, {BigInteger.ZERO,BigInteger.ONE}, {BigInteger.valueOf(-1),BigInteger.ZERO} };
+	public final static long[][] DIRECTIONS = { {0L,-1L}, {1L,0L}, {0L,1L}, {-1L,0L} };
 	/**
 	 * Variable storing the possible directions to go from a tile.
 	 * 
@@ -33,26 +35,82 @@ public final class Astar {
 	public final static Direction[] DIRECTIONS_ENUM = { Direction.UP, Direction.RIGHT, Direction.DOWN, Direction.LEFT };
 	/**
 	 * The H multiplier to use for the a-star heuristic.
+	 * 
+	 * @note	Any multiplier above one makes the heuristic inadmissible,
+	 * 			zero reduces the search to a uniform cost search.
 	 */
-	public final static BigInteger H_ESTIMATE = BigInteger.valueOf(0);
+	public final static long H_ESTIMATE = 1L;
 	/**
-	 * The multiplier to add turns to the g score.
+	 * The amounts of tiles that will be maximally searched per Manhattan
+	 * distance difference between the end and start tile.
 	 */
-	public final static BigInteger TURN_PUNISH = BigInteger.valueOf(1);
+	public final static long SEARCH_LIMIT_PER_MHDISTANCEUNIT = 200L;
+	
 	/**
-	 * The multiplier to add translations to the g score.
+	 * Returns an estimate of the energy still needed to go from the given
+	 * search state to the given end coordinates, that never exceeds the real cost.
+	 * 
+	 * @param 	x
+	 * 			The horizontal coordinate of the search state.
+	 * @param 	y
+	 * 			The vertical coordinate of the search state.
+	 * @param 	direction
+	 * 			The direction of the search state.
+	 * @param 	endX
+	 * 			The horizontal coordinate of the end position.
+	 * @param 	endY
+	 * 			The vertical coordinate of the end position.
+	 * @param	moveCost
+	 * 			The energy amount needed for one translation.
+	 * @param	turnCost
+	 * 			The energy amount needed for one turn.
+	 * @return	Every remaining translation costs at least the move cost and the turns
+	 * 			needed to face the end position cost at least the turn cost each.
+	 * 			| result == (|x - endX| + |y - endY|)*moveCost
+	 * 			|	+ getMinimalTurnsToFace(x, y, direction, endX, endY)*turnCost
 	 */
-	public final static BigInteger TRANSLATE_PUNISH = BigInteger.valueOf(5);
+	public static double getHeuristicEstimate(long x, long y, Direction direction, long endX, long endY,
+			double moveCost, double turnCost){
+		double distance = (double) Math.abs(x - endX) + (double) Math.abs(y - endY);
+		return distance*moveCost + getMinimalTurnsToFace(x, y, direction, endX, endY)*turnCost;
+	}
+	
 	/**
-	 * The amounts of tiles that will be maximally searched per Manhattan
-	 * distance difference between the end and start tile.
+	 * Returns the minimal number of turns a robot at the given coordinates facing
+	 * the given direction has to make before reaching the given end coordinates.
+	 * 
+	 * @param 	x
+	 * 			The horizontal coordinate of the robot.
+	 * @param 	y
+	 * 			The vertical coordinate of the robot.
+	 * @param 	direction
+	 * 			The direction of the robot.
+	 * @param 	endX
+	 * 			The horizontal coordinate of the end position.
+	 * @param 	endY
+	 * 			The vertical coordinate of the end position.
+	 * @return	If the end position lies in a straight line, the number of efficient turns
+	 * 			to face that line's direction. If it lies in a quadrant, the robot has to face
+	 * 			both directions of that quadrant, which takes one turn more than the number of
+	 * 			efficient turns to the nearest of both.
 	 */
-	public final static BigInteger SEARCH_LIMIT_PER_MHDISTANCEUNIT = BigInteger.valueOf(200);
+	public static int getMinimalTurnsToFace(long x, long y, Direction direction, long endX, long endY){
+		Direction horizontal = (endX > x)? Direction.RIGHT : Direction.LEFT;
+		Direction vertical = (endY > y)? Direction.DOWN : Direction.UP;
+		if(endX == x && endY == y)
+			return 0;
+		if(endY == y)
+			return Direction.amountOfEfficientTurnsToDirection(direction, horizontal);
+		if(endX == x)
+			return Direction.amountOfEfficientTurnsToDirection(direction, vertical);
+		return 1 + Math.min(Direction.amountOfEfficientTurnsToDirection(direction, horizontal),
+				Direction.amountOfEfficientTurnsToDirection(direction, vertical));
+	}
 	
 	/**
-	 * Returns a tile list that contains efficient paths to the end position if energy is not taken into consideration.
+	 * Returns a tile list that contains the optimal route to the end position if energy is not taken into consideration.
 	 * If energy is taken into consideration it returns a tile list of every possible ending tile that is reachable with the
-	 * given robot and board.
+	 * given robot and board, each tile describing the route that reaches its position with the least energy.
 	 * 
 	 * @pre		The given start model may not refer the null reference.
 	 * 			| startmodel != null
@@ -89,9 +147,16 @@ public final class Astar {
 	 * 			| 	if (getDirectionDimension(tile.getDirection()) == 2)
 	 * 			|		then tile.getParentPosition().getCoordinate(Dimension.HORIZONTAL) - tile.getPosition().getCoordinate(Dimension.HORIZONTAL) = 0
 	 * 			| 			&& tile.getParentPosition().getCoordinate(Dimension.VERTICAL) - tile.getPosition().getCoordinate(Dimension.VERTICAL) = tile.getDirection().getDirectionOrder()
-	 * @return	If energy is not taken into consideration, the last tile must be the ending position.
+	 * @return	If energy is not taken into consideration, the first tile is the start position, the last tile must
+	 * 			be the ending position and every other tile is the parent of the next tile.
 	 * 			| if (!takeEnergyIntoConsideration)
 	 * 			| 	then result.get(result.size()-1).getPosition().equals(endpos)
+	 * 			|		&& for each i in [1..result.size()-1] :
+	 * 			|			result.get(i).getParentPosition().equals(result.get(i-1).getPosition())
+	 * @return	If energy is taken into consideration, every position occurs in at most one tile.
+	 * 			| if (takeEnergyIntoConsideration)
+	 * 			|	then for each i, j in [0..result.size()-1] :
+	 * 			|		i == j || !result.get(i).getPosition().equals(result.get(j).getPosition())
 	 * @return 	If energy is taken into consideration, every Tile has a positive energy
 	 * 			| if (takeEnergyIntoConsideration)
 	 * 			|	then for each tile in result : 
@@ -104,116 +169,12 @@ public final class Astar {
 	 */
 	public static List<Tile> getAstarTileList(Robot startmodel, Position endpos, boolean takeEnergyIntoConsideration)
 			throws IllegalArgumentException{
-		PriorityQueue<Tile> openList = new PriorityQueue<Tile>();
-		List<Tile> closedList = new ArrayList<Tile>();
-		
-		Tile parentTile = new Tile();
-		
-		boolean found = false;
-		BigInteger maxX = BigInteger.valueOf(startmodel.getBoard().getSizeAt(Dimension.HORIZONTAL));
-		BigInteger maxY = BigInteger.valueOf(startmodel.getBoard().getSizeAt(Dimension.VERTICAL));
-		
-		BigInteger counter = BigInteger.ZERO;
-		BigInteger mhDistance = startmodel.getPosition().getManhattanDistanceSeparation(endpos);
-		
-		parentTile.setNodeValueGHF(BigInteger.ZERO, BigInteger.ZERO);
-		parentTile.setNodeValueXY(BigInteger.valueOf(startmodel.getCoordinate(Dimension.HORIZONTAL)), BigInteger.valueOf(startmodel.getCoordinate(Dimension.VERTICAL)));
-		parentTile.setNodeValuePXPY(parentTile.getNodeValueAtIndex(TileValueIndex.X), parentTile.getNodeValueAtIndex(TileValueIndex.Y));
-		parentTile.setEnergy(startmodel.getEnergy());
-		parentTile.setDirection(startmodel.getDirection());
-		
-		openList.add(parentTile);
-		
-		while (openList.size() > 0){
-			parentTile = openList.poll();
-			//System.out.println("parent:"+parentTile.toString());
-			counter = counter.add(BigInteger.ONE);
-			//System.out.println(counter + " :: " + SEARCH_LIMIT_PER_MHDISTANCEUNIT.multiply(mhDistance) + " // " + counter.compareTo(SEARCH_LIMIT_PER_MHDISTANCEUNIT.multiply(mhDistance)));
-			if (!takeEnergyIntoConsideration && counter.compareTo(SEARCH_LIMIT_PER_MHDISTANCEUNIT.multiply(mhDistance)) > 0){
-				throw new IllegalArgumentException("Search limit has been reached, position is unreachable or too complex to reach.");
-			}
-			
-			if (parentTile.getNodeValueAtIndex(TileValueIndex.X).equals(BigInteger.valueOf(endpos.getCoordinate(Dimension.HORIZONTAL)))
-				&& parentTile.getNodeValueAtIndex(TileValueIndex.Y).equals(BigInteger.valueOf(endpos.getCoordinate(Dimension.VERTICAL)))){
-				closedList.add(parentTile);
-				found = true;
-				break;
-			}
-			
-			for (int i = 0; i < 4; i++){				
-				Tile newTile = new Tile();
-				newTile.setNodeValueXY(parentTile.getNodeValueAtIndex(TileValueIndex.X).add(DIRECTIONS[i][0]), parentTile.getNodeValueAtIndex(TileValueIndex.Y).add(DIRECTIONS[i][1]));
-				newTile.setEnergy(parentTile.getEnergy().subtract(startmodel.getEnergyCostOf(Cost.MOVE)));
-				newTile.setDirection(DIRECTIONS_ENUM[i]);
-				
-				BigInteger newTileX = newTile.getNodeValueAtIndex(TileValueIndex.X);
-				BigInteger newTileY = newTile.getNodeValueAtIndex(TileValueIndex.Y);
-				
-				if ( newTileX.compareTo(BigInteger.ZERO) < 0
-						|| newTileY.compareTo(BigInteger.ZERO) < 0
-						|| newTileX.compareTo(maxX) > 0
-						|| newTileY.compareTo(maxY) > 0 ){
-					continue;
-				}
-				
-				if (parentTile.getParentPosition().equals(newTile.getPosition())){
-					continue;
-				}
-				
-				BigInteger Gscore = parentTile.getNodeValueAtIndex(TileValueIndex.G).add(TRANSLATE_PUNISH);
-
-				if (!startmodel.getBoard().canHaveBoardModelAtNoBindingCheck(newTile.getPosition(), startmodel)){
-					continue;
-				}
-				
-				int turnsFromParent = Direction.amountOfEfficientTurnsToDirection(parentTile.getDirection(), newTile.getDirection());
-				
-				newTile.setNodeValueT(parentTile.getNodeValueAtIndex(TileValueIndex.T).add(BigInteger.valueOf(turnsFromParent)));
-				Gscore = Gscore.add(TURN_PUNISH.multiply(newTile.getNodeValueAtIndex(TileValueIndex.T)));
-				newTile.setEnergy(newTile.getEnergy().subtract(startmodel.getEnergyCostOf(Cost.TURN).multiply(turnsFromParent)));
-
-				if (takeEnergyIntoConsideration && newTile.getEnergy().getEnergyAmount() < 0){
-					continue;
-				}
-                
-                Tile tileInOpenList = null;
-                
-                for (Tile tile : openList){
-                	if (tile.getNodeValueAtIndex(TileValueIndex.X).equals(newTileX) && tile.getNodeValueAtIndex(TileValueIndex.Y).equals(newTileY)){
-                		tileInOpenList = tile;
-                		break;
-                	}
-                }
-                
-                if (tileInOpenList != null && tileInOpenList.getNodeValueAtIndex(TileValueIndex.G).compareTo(Gscore) <= 0)
-                    continue;
-                
-                Tile tileInClosedList = null;
-                
-                for (Tile tile : closedList){
-                	if (tile.getNodeValueAtIndex(TileValueIndex.X).equals(newTileX) && tile.getNodeValueAtIndex(TileValueIndex.Y).equals(newTileY)){
-                		tileInClosedList = tile;
-                		break;
-                	}
-                }
-                
-                if (tileInClosedList != null && tileInClosedList.getNodeValueAtIndex(TileValueIndex.G).compareTo(Gscore) <= 0)
-                    continue;
-                
-                newTile.setNodeValuePXPY(parentTile.getNodeValueAtIndex(TileValueIndex.X), parentTile.getNodeValueAtIndex(TileValueIndex.Y));
-                newTile.setNodeValueGHF(Gscore, endpos.getManhattanDistanceSeparation(new Position(newTileX.longValue(), newTileY.longValue())).multiply(H_ESTIMATE));
-
-				//System.out.println(newTile.toString());
-                openList.add(newTile);
-			}
-			
-			closedList.add(parentTile);
-		}
-
-		if (found || takeEnergyIntoConsideration){
-			return closedList;
+		AstarEngine engine = new AstarEngine();
+		if(takeEnergyIntoConsideration){
+			engine.flood(startmodel);
+			return engine.getReachedTileList();
 		}
-		throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+		return engine.getTileRoute(engine.search(startmodel, endpos));
 	}
 	
 	/**
@@ -239,45 +200,215 @@ public final class Astar {
 	 * @throws	NullPointerException
 	 * 			At least one of the given lists refers the null reference.
 	 * 			| (closedTiles1 == null || closedTiles2 == null)
+	 * @note	Instead of comparing all pairs of tiles, the closest pair is found by sweeping
+	 * 			both lists once for each quadrant around the tiles of the first list.
 	 */
 	public static Tile[] findOptimalRoute(List<Tile> closedTiles1, List<Tile> closedTiles2)
 			throws NullPointerException{
 		if(closedTiles1 == null || closedTiles2 == null)
 			throw new NullPointerException("At least one of the given lists refers the null reference.");
+		Tile[] tiles1 = closedTiles1.toArray(new Tile[closedTiles1.size()]);
+		Tile[] tiles2 = closedTiles2.toArray(new Tile[closedTiles2.size()]);
+		long[] x1 = new long[tiles1.length], y1 = new long[tiles1.length];
+		long[] x2 = new long[tiles2.length], y2 = new long[tiles2.length];
+		double[] energy1 = new double[tiles1.length], energy2 = new double[tiles2.length];
+		for (int i = 0; i < tiles1.length; i++){
+			x1[i] = tiles1[i].getLongNodeValueAtIndex(TileValueIndex.X);
+			y1[i] = tiles1[i].getLongNodeValueAtIndex(TileValueIndex.Y);
+			energy1[i] = tiles1[i].getEnergy().getEnergyAmountIn(EnergyUnit.WS);
+		}
+		for (int j = 0; j < tiles2.length; j++){
+			x2[j] = tiles2[j].getLongNodeValueAtIndex(TileValueIndex.X);
+			y2[j] = tiles2[j].getLongNodeValueAtIndex(TileValueIndex.Y);
+			energy2[j] = tiles2[j].getEnergy().getEnergyAmountIn(EnergyUnit.WS);
+		}
+		int[] pair = findClosestPair(x1, y1, energy1, x2, y2, energy2);
 		Tile[] tiles = new Tile[2];
-		Energy energy = null;
-		BigInteger mhdistance = BigInteger.valueOf(-1);
-		
-		for (Tile otile1 : closedTiles1){
-			for (Tile otile2 : closedTiles2){
-				Position pos1 = otile1.getPosition();
-				Position pos2 = otile2.getPosition();
-				if (otile1.getPosition().equals(otile2.getPosition())){
-					continue;
-				}
-				if (tiles[0] == null & tiles[1] == null){
-					tiles[0] = otile1;
-					tiles[1] = otile2;
-				}
-				BigInteger mhdistancesep = pos1.getManhattanDistanceSeparation(pos2);
-				if (mhdistance.equals(BigInteger.valueOf(-1)) || mhdistancesep.compareTo(mhdistance) < 0){
-					tiles[0] = otile1;
-					tiles[1] = otile2;
-					mhdistance = mhdistancesep;
-					energy = otile1.getEnergy().add(otile2.getEnergy());
-					continue;
-				}
-				if (mhdistancesep.equals(mhdistance)){
-					Energy oenergy = otile1.getEnergy().add(otile2.getEnergy());
-					if (oenergy.compareTo(energy) > 0){
-						tiles[0] = otile1;
-						tiles[1] = otile2;
-						energy = oenergy;
+		if (pair[0] >= 0){
+			tiles[0] = tiles1[pair[0]];
+			tiles[1] = tiles2[pair[1]];
+		}
+		return tiles;
+	}
+	
+	/**
+	 * Returns the indices of the closest pair of distinct positions, the first of the given
+	 * first positions and the second of the given second positions.
+	 * 
+	 * @param 	x1
+	 * 			The horizontal coordinates of the first positions.
+	 * @param 	y1
+	 * 			The vertical coordinates of the first positions.
+	 * @param 	energy1
+	 * 			The energy amounts (in Ws) of the first positions.
+	 * @param 	x2
+	 * 			The horizontal coordinates of the second positions.
+	 * @param 	y2
+	 * 			The vertical coordinates of the second positions.
+	 * @param 	energy2
+	 * 			The energy amounts (in Ws) of the second positions.
+	 * @return	The pair of indices that minimizes the Manhattan distance between both positions
+	 * 			as first priority and as second priority maximizes the total energy amount,
+	 * 			without pairing equal positions, or {-1, -1} if there is no such pair.
+	 * @note	Every second position lies in exactly one of four quadrants around a different first
+	 * 			position. For each quadrant, all positions are swept once in order of their horizontal
+	 * 			coordinate, while a Fenwick tree indexed by vertical coordinate keeps the best second
+	 * 			position swept so far. Within a quadrant, the Manhattan distance is the sum of both
+	 * 			coordinate differences, so the best second position is the one with the least sum of
+	 * 			coordinates. The pair is found in O((n+m) log(n+m)) time for n first and m second positions.
+	 */
+	private static int[] findClosestPair(final long[] x1, long[] y1, double[] energy1,
+			final long[] x2, long[] y2, double[] energy2){
+		final int n1 = x1.length;
+		int n2 = x2.length;
+		int[] result = { -1, -1 };
+		if (n1 == 0 || n2 == 0)
+			return result;
+		Integer[] order = new Integer[n1 + n2];
+		for (int i = 0; i < order.length; i++)
+			order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>(){
+			@Override
+			public int compare(Integer i, Integer j){
+				return Long.compare(i < n1 ? x1[i] : x2[i - n1], j < n1 ? x1[j] : x2[j - n1]);
+			}
+		});
+		long[] ys = Arrays.copyOf(y2, n2);
+		Arrays.sort(ys);
+		int m = 0;
+		for (int j = 0; j < n2; j++)
+			if (m == 0 || ys[j] != ys[m - 1])
+				ys[m++] = ys[j];
+		int[] tree = new int[m + 1];
+		long bestDx = 0, bestDy = 0;
+		double bestEnergy = 0;
+		for (int quadrant = 0; quadrant < 4; quadrant++){
+			boolean xPositive = quadrant == 0 || quadrant == 3;
+			boolean yPositive = quadrant == 0 || quadrant == 1;
+			boolean xStrict = quadrant == 0 || quadrant == 2;
+			Arrays.fill(tree, -1);
+			int from = 0;
+			while (from < order.length){
+				int to = from + 1;
+				long x = getX(order, from, xPositive, x1, x2);
+				while (to < order.length && getX(order, to, xPositive, x1, x2) == x)
+					to++;
+				for (int pass = 0; pass < 2; pass++){
+					boolean query = (pass == 0) == xStrict;
+					for (int k = from; k < to; k++){
+						int index = order[xPositive ? order.length - 1 - k : k];
+						if (query && index < n1){
+							long y = y1[index];
+							int length = yPositive
+									? m - (xStrict ? getLowerBound(ys, m, y) : getUpperBound(ys, m, y))
+									: (xStrict ? getUpperBound(ys, m, y) : getLowerBound(ys, m, y));
+							int other = -1;
+							for (int i = length; i > 0; i -= i & -i)
+								if (isBetter(tree[i], other, xPositive, yPositive, x2, y2, energy2))
+									other = tree[i];
+							if (other < 0)
+								continue;
+							long dx = x2[other] >= x1[index] ? x2[other] - x1[index] : x1[index] - x2[other];
+							long dy = y2[other] >= y ? y2[other] - y : y - y2[other];
+							double energy = energy1[index] + energy2[other];
+							int comparison = result[0] < 0 ? -1 : compareUnsignedSums(dx, dy, bestDx, bestDy);
+							if (comparison < 0 || (comparison == 0 && energy > bestEnergy)){
+								result[0] = index;
+								result[1] = other;
+								bestDx = dx;
+								bestDy = dy;
+								bestEnergy = energy;
+							}
+						}
+						else if (!query && index >= n1){
+							int rank = getLowerBound(ys, m, y2[index - n1]);
+							for (int i = (yPositive ? m - rank : rank + 1); i <= m; i += i & -i)
+								if (isBetter(index - n1, tree[i], xPositive, yPositive, x2, y2, energy2))
+									tree[i] = index - n1;
+						}
 					}
 				}
+				from = to;
 			}
 		}
-		return tiles;
+		return result;
+	}
+	
+	/**
+	 * Returns the horizontal coordinate of the position at the given sweep step,
+	 * when positions are swept in order of decreasing horizontal coordinate in the
+	 * given orientation.
+	 */
+	private static long getX(Integer[] order, int step, boolean xPositive, long[] x1, long[] x2){
+		int index = order[xPositive ? order.length - 1 - step : step];
+		return index < x1.length ? x1[index] : x2[index - x1.length];
+	}
+	
+	/**
+	 * Checks whether the second position with the given index is a better partner than the
+	 * other second position for all first positions of a quadrant with the given orientation:
+	 * it has the least sum of oriented coordinates, or the same sum and more energy.
+	 */
+	private static boolean isBetter(int index, int other, boolean xPositive, boolean yPositive,
+			long[] x2, long[] y2, double[] energy2){
+		if (index < 0)
+			return false;
+		if (other < 0)
+			return true;
+		// Negating a coordinate as its bitwise complement reverses its order without overflow.
+		int comparison = compareSums(xPositive ? x2[index] : ~x2[index], yPositive ? y2[index] : ~y2[index],
+				xPositive ? x2[other] : ~x2[other], yPositive ? y2[other] : ~y2[other]);
+		return comparison < 0 || (comparison == 0 && energy2[index] > energy2[other]);
+	}
+	
+	/**
+	 * Compares the exact sum of the first two given values with the exact sum of the last two.
+	 */
+	private static int compareSums(long a1, long b1, long a2, long b2){
+		long low1 = a1 + b1;
+		long low2 = a2 + b2;
+		long high1 = (a1 >> 63) + (b1 >> 63) + ((low1 ^ Long.MIN_VALUE) < (a1 ^ Long.MIN_VALUE) ? 1 : 0);
+		long high2 = (a2 >> 63) + (b2 >> 63) + ((low2 ^ Long.MIN_VALUE) < (a2 ^ Long.MIN_VALUE) ? 1 : 0);
+		if (high1 != high2)
+			return high1 < high2 ? -1 : 1;
+		return Long.compare(low1 ^ Long.MIN_VALUE, low2 ^ Long.MIN_VALUE);
+	}
+	
+	/**
+	 * Compares the exact sum of the first two given unsigned values with the exact sum of the last two.
+	 */
+	private static int compareUnsignedSums(long a1, long b1, long a2, long b2){
+		return compareSums(a1 ^ Long.MIN_VALUE, b1 ^ Long.MIN_VALUE, a2 ^ Long.MIN_VALUE, b2 ^ Long.MIN_VALUE);
+	}
+	
+	/**
+	 * Returns the number of the first given number of sorted values that are less than the given value.
+	 */
+	private static int getLowerBound(long[] values, int length, long value){
+		int low = 0, high = length;
+		while (low < high){
+			int middle = (low + high) >>> 1;
+			if (values[middle] < value)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+	
+	/**
+	 * Returns the number of the first given number of sorted values that are less than or equal to the given value.
+	 */
+	private static int getUpperBound(long[] values, int length, long value){
+		int low = 0, high = length;
+		while (low < high){
+			int middle = (low + high) >>> 1;
+			if (values[middle] <= value)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
 	}
 	
 	/**
@@ -402,10 +533,36 @@ public final class Astar {
 	 */
 	public static Energy getEnergyRequiredForAstarRoute(Robot startmodel, Position endpos)
 			throws IllegalArgumentException, NullPointerException{
-		if(startmodel == null || endpos == null)
+		return getEnergyRequiredForAstarRoute(startmodel, endpos, new AstarEngine());
+	}
+	
+	/**
+	 * Returns the lowest amount of energy required for the given robot
+	 * in order to reach the given end position, searched with the given engine.
+	 * 
+	 * @param	startmodel
+	 * 			The robot to start the calculation with.
+	 * @param	endpos
+	 * 			The end position the robot must reach.
+	 * @param	engine
+	 * 			The A-star engine to search with.
+	 * @return	| result.equals(getEnergyRequiredForAstarRoute(startmodel, endpos))
+	 * @post	The given engine describes the search of the route, including the
+	 * 			number of nodes it had to expand.
+	 * @throws	IllegalArgumentException
+	 * 			If the end position is too complex to reach.
+	 * @throws  IllegalArgumentException
+	 * 			If the ending path can not be reached.
+	 * @throws	NullPointerException
+	 * 			At least one of the given arguments refers the null reference.
+	 * 			| (startmodel == null || endpos == null || engine == null)
+	 */
+	public static Energy getEnergyRequiredForAstarRoute(Robot startmodel, Position endpos, AstarEngine engine)
+			throws IllegalArgumentException, NullPointerException{
+		if(startmodel == null || endpos == null || engine == null)
 			throw new NullPointerException("At least one of the given arguments refers the null reference.");
-		List<Tile> closedTiles = getAstarTileList(startmodel, endpos, false);
-		return startmodel.getEnergy().subtract(closedTiles.get(closedTiles.size() - 1).getEnergy());
+		int end = engine.search(startmodel, endpos);
+		return startmodel.getEnergy().subtract(engine.getEnergy(end));
 	}
 	
 	/**
@@ -425,23 +582,88 @@ public final class Astar {
 	 * 			|	Tile[] endTiles = findOptimalRoute(Astar.getAstarTileList(first, second.getPosition(), true),
 	 * 			|									   Astar.getAstarTileList(second, first.getPosition(), true))
 	 * 			| in :
-	 * 			| result == Collections.addAll(new ArrayList<List<Position>>(),
-	 * 			|				Astar.generatePositionListFromTileList(tileList1, endTiles[0]), 
-	 * 			|				Astar.generatePositionListFromTileList(tileList2, endTiles[1]))
+	 * 			| result.get(0).get(result.get(0).size()-1).equals(endTiles[0].getPosition())
+	 * 			| 	&& result.get(1).get(result.get(1).size()-1).equals(endTiles[1].getPosition())
+	 * @return	Both routes start at the position of their robot and reach their end position
+	 * 			with the least energy.
 	 * @throws	NullPointerException
 	 * 			At least one of the given robots refers the null reference.
 	 * 			| (first == null || second == null)
 	 */
 	public static List<List<Position>> generateOptimalPositionLists(Robot first, Robot second)
 			throws NullPointerException{
-		if(first == null || second == null)
-			throw new NullPointerException("At least one of the given robots refers the null reference.");
+		return generateOptimalPositionLists(first, second, new PathfindingContext());
+	}
+	
+	/**
+	 * Returns two position lists that describe the optimal path for the two given robots
+	 * to minimize their Manhattan distance with the least energy requirements,
+	 * searched with the engines of the given pathfinding context.
+	 * 
+	 * @pre		The given robots are located on the same board.
+	 * 			| first.getBoard() == second.getBoard()
+	 * @param	first
+	 * 			The first robot to work with.
+	 * @param	second
+	 * 			The second robot to work with.
+	 * @param	context
+	 * 			The pathfinding context to search with.
+	 * @return	| result.equals(generateOptimalPositionLists(first, second))
+	 * @throws	NullPointerException
+	 * 			At least one of the given arguments refers the null reference.
+	 * 			| (first == null || second == null || context == null)
+	 */
+	public static List<List<Position>> generateOptimalPositionLists(Robot first, Robot second, PathfindingContext context)
+			throws NullPointerException{
+		if(first == null || second == null || context == null)
+			throw new NullPointerException("At least one of the given arguments refers the null reference.");
+		AstarEngine engine1 = context.getEngine();
+		AstarEngine engine2 = context.getOtherEngine();
+		engine1.flood(first);
+		engine2.flood(second);
+		int[] endNodes = findOptimalNodes(engine1, engine2);
 		List<List<Position>> returnList = new ArrayList<List<Position>>();
-		List<Tile> tileList1 = Astar.getAstarTileList(first, second.getPosition(), true);
-		List<Tile> tileList2 = Astar.getAstarTileList(second, first.getPosition(), true);
-		Tile[] endTiles = findOptimalRoute(tileList1, tileList2);
-		returnList.add(Astar.generatePositionListFromTileList(tileList1, endTiles[0]));
-		returnList.add(Astar.generatePositionListFromTileList(tileList2, endTiles[1]));
+		returnList.add(engine1.getPositionRoute(endNodes[0]));
+		returnList.add(engine2.getPositionRoute(endNodes[1]));
 		return returnList;
 	}
+	
+	/**
+	 * Returns the optimal end nodes for the positions reached by the last floods of the given engines.
+	 * 
+	 * @param 	engine1
+	 * 			The engine of the first robot.
+	 * @param 	engine2
+	 * 			The engine of the second robot.
+	 * @return	The pair of reached positions, one of each engine, that minimizes the Manhattan distance
+	 * 			between both positions as first priority and as second priority maximizes the total
+	 * 			amount of energy left, found with the same quadrant sweeps as findOptimalRoute.
+	 * 			| findOptimalRoute(engine1.getReachedTileList(), engine2.getReachedTileList())
+	 * 			|	describes the same distance and total energy as the nodes of result
+	 */
+	private static int[] findOptimalNodes(AstarEngine engine1, AstarEngine engine2){
+		double rate1 = engine1.getEnergyUnit().toEnergyUnit(EnergyUnit.WS);
+		double rate2 = engine2.getEnergyUnit().toEnergyUnit(EnergyUnit.WS);
+		int n1 = engine1.getNbReachedCells();
+		int n2 = engine2.getNbReachedCells();
+		int[] nodes1 = new int[n1], nodes2 = new int[n2];
+		long[] x1 = new long[n1], y1 = new long[n1], x2 = new long[n2], y2 = new long[n2];
+		double[] energy1 = new double[n1], energy2 = new double[n2];
+		for (int i = 0; i < n1; i++){
+			nodes1[i] = engine1.getReachedCellAt(i);
+			x1[i] = engine1.getX(nodes1[i]);
+			y1[i] = engine1.getY(nodes1[i]);
+			energy1[i] = engine1.getEnergyAmount(nodes1[i])*rate1;
+		}
+		for (int j = 0; j < n2; j++){
+			nodes2[j] = engine2.getReachedCellAt(j);
+			x2[j] = engine2.getX(nodes2[j]);
+			y2[j] = engine2.getY(nodes2[j]);
+			energy2[j] = engine2.getEnergyAmount(nodes2[j])*rate2;
+		}
+		int[] pair = findClosestPair(x1, y1, energy1, x2, y2, energy2);
+		if (pair[0] < 0)
+			return new int[]{ AstarEngine.NO_NODE, AstarEngine.NO_NODE };
+		return new int[]{ nodes1[pair[0]], nodes2[pair[1]] };
+	}
 }
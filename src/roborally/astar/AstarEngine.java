@@ -0,0 +1,781 @@
+package roborally.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.*;
+
+import roborally.board.Board;
+import roborally.board.Dimension;
+import roborally.board.Position;
+import roborally.model.Cost;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Energy;
+import roborally.model.energy.EnergyUnit;
+
+/**
+ * A class of A-star search engines working on primitive values only.
+ *
+ * The nodes of a search are stored in a pool of parallel primitive arrays
+ * (a struct of arrays), indexed by an integer node number. A node represents
+ * a search state: a position together with the direction the robot faces.
+ * The open set is a binary heap of node numbers that supports decrease-key,
+ * and every node is registered in a node index under a packed long key of its
+ * state, which serves as the closed set. No objects are created per explored node.
+ * Since turning costs depend on the direction, distinguishing the directions
+ * makes the energy of the found routes optimal.
+ *
+ * The G score of a node is the energy spent to reach it: the energy of a node
+ * is the energy of its parent decreased by the move cost and the turn cost of
+ * the robot. The H score is the admissible estimate of Astar.getHeuristicEstimate,
+ * so the search is directed towards the end position.
+ *
+ * @invar	The number of nodes never exceeds the capacity of the node pool.
+ * 			| getNbNodes() <= getCapacity()
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class AstarEngine {
+
+	/**
+	 * Variable containing the standard initial capacity of the node pool.
+	 */
+	public static final int STANDARD_INITIAL_CAPACITY = 256;
+
+	/**
+	 * Variable containing the node number used to refer no node.
+	 */
+	public static final int NO_NODE = NodeIndex.NO_NODE;
+
+	/**
+	 * Initializes a new A-star engine with a node pool of the standard initial capacity.
+	 *
+	 * @effect	| this(STANDARD_INITIAL_CAPACITY)
+	 */
+	public AstarEngine(){
+		this(STANDARD_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Initializes a new A-star engine with a node pool of the given initial capacity.
+	 *
+	 * @param 	initialCapacity
+	 * 			The initial capacity of the node pool.
+	 * @post	The new engine contains no nodes.
+	 * 			| new.getNbNodes() == 0
+	 * @throws	IllegalArgumentException
+	 * 			The given initial capacity is not strictly positive.
+	 * 			| initialCapacity <= 0
+	 */
+	public AstarEngine(int initialCapacity) throws IllegalArgumentException{
+		if(initialCapacity <= 0)
+			throw new IllegalArgumentException("The given initial capacity is invalid.");
+		allocate(initialCapacity);
+		states = new NodeIndex(initialCapacity);
+		cells = new NodeIndex(initialCapacity);
+	}
+
+	/**
+	 * Searches an optimal route for the given robot to the given end position.
+	 *
+	 * @param	robot
+	 * 			The robot to seek the path with.
+	 * @param	endpos
+	 * 			The end position to seek the path to.
+	 * @return	The node of the end position reached with the least energy.
+	 * 			No route of the given robot to the given end position requires less
+	 * 			energy than the G score of the resulting node.
+	 * 			| getX(result) == endpos.getCoordinate(Dimension.HORIZONTAL)
+	 * 			|	&& getY(result) == endpos.getCoordinate(Dimension.VERTICAL)
+	 * @throws	IllegalArgumentException
+	 * 			If the end position is too complex to reach.
+	 * @throws  IllegalArgumentException
+	 * 			If the end position can not be reached.
+	 * @throws	NullPointerException
+	 * 			At least one of the given arguments refers the null reference.
+	 * 			| robot == null || endpos == null
+	 */
+	public int search(Robot robot, Position endpos)
+			throws IllegalArgumentException, NullPointerException{
+		if(robot == null || endpos == null)
+			throw new NullPointerException("At least one of the given arguments refers the null reference.");
+		int end = run(robot, endpos.getCoordinate(Dimension.HORIZONTAL), endpos.getCoordinate(Dimension.VERTICAL), false);
+		if(end == NO_NODE)
+			throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+		return end;
+	}
+
+	/**
+	 * Searches all positions the given robot can reach with its current energy.
+	 *
+	 * @param	robot
+	 * 			The robot to seek the positions of.
+	 * @post	Every position the given robot can reach with its energy is registered
+	 * 			as a reached cell, together with the node reaching it with the least energy.
+	 * 			The cells are registered in the order of increasing energy requirements.
+	 * @throws	NullPointerException
+	 * 			The given robot refers the null reference.
+	 * 			| robot == null
+	 */
+	public void flood(Robot robot)
+			throws NullPointerException{
+		if(robot == null)
+			throw new NullPointerException("The given robot refers the null reference.");
+		run(robot, -1L, -1L, true);
+	}
+
+	/**
+	 * Runs a search for the given robot over the states formed by a position and a direction.
+	 *
+	 * @param	robot
+	 * 			The robot to seek the path with.
+	 * @param	endX
+	 * 			The horizontal coordinate of the end position, or -1 if there is none.
+	 * @param	endY
+	 * 			The vertical coordinate of the end position, or -1 if there is none.
+	 * @param	flood
+	 * 			Whether the energy of the robot bounds the search instead of the end position.
+	 * @return	The first node of the end position taken from the open heap,
+	 * 			or NO_NODE if the end position is not reached.
+	 * @throws	IllegalArgumentException
+	 * 			If the search is not a flood and the end position is too complex to reach.
+	 */
+	@Model
+	private int run(Robot robot, long endX, long endY, boolean flood)
+			throws IllegalArgumentException{
+		clear();
+		Board board = robot.getBoard();
+		long maxX = board.getSizeAt(Dimension.HORIZONTAL);
+		long maxY = board.getSizeAt(Dimension.VERTICAL);
+		this.endX = endX;
+		this.endY = endY;
+		heuristic = !flood;
+
+		Energy startEnergy = robot.getEnergy();
+		energyUnit = startEnergy.getEnergyUnit();
+		moveCost = robot.getEnergyCostOf(Cost.MOVE).toEnergyUnit(energyUnit).getEnergyAmount();
+		Energy turnCost = robot.getEnergyCostOf(Cost.TURN);
+		for(int turns = 0; turns < turnCosts.length; turns++)
+			turnCosts[turns] = turnCost.multiply(turns).toEnergyUnit(energyUnit).getEnergyAmount();
+
+		originX = robot.getCoordinate(Dimension.HORIZONTAL);
+		originY = robot.getCoordinate(Dimension.VERTICAL);
+		long limit = flood ? Long.MAX_VALUE : getSearchLimit(Math.abs(originX - endX) + Math.abs(originY - endY));
+
+		int start = newNode(originX, originY, robot.getDirection(), 0.0, 0L, startEnergy.getEnergyAmount(), NO_NODE);
+		states.put(packStateKey(originX, originY, nodeDirection[start]), start);
+		push(start);
+
+		while(heapSize > 0){
+			int parent = pop();
+			nbExpandedNodes++;
+			if(nbExpandedNodes > limit)
+				throw new IllegalArgumentException("Search limit has been reached, position is unreachable or too complex to reach.");
+
+			long cellKey = packCellKey(nodeX[parent], nodeY[parent]);
+			if(cells.get(cellKey) == NO_NODE){
+				cells.put(cellKey, parent);
+				addReachedCell(parent);
+			}
+			if(nodeX[parent] == endX && nodeY[parent] == endY)
+				return parent;
+
+			Direction parentDirection = Astar.DIRECTIONS_ENUM[nodeDirection[parent]];
+			for(int i = 0; i < 4; i++){
+				long x = nodeX[parent] + Astar.DIRECTIONS[i][0];
+				long y = nodeY[parent] + Astar.DIRECTIONS[i][1];
+				if(x < 0 || y < 0 || x > maxX || y > maxY)
+					continue;
+				if(!isWithinWindow(x, y))
+					continue;
+				if(!board.canHaveBoardModelAtNoBindingCheck(x, y, robot))
+					continue;
+
+				int turns = Direction.amountOfEfficientTurnsToDirection(parentDirection, Astar.DIRECTIONS_ENUM[i]);
+				double g = nodeG[parent] + moveCost + turnCosts[turns];
+				double energy = (nodeEnergy[parent] - moveCost) - turnCosts[turns];
+				if(flood && energy < 0)
+					continue;
+
+				long key = packStateKey(x, y, i);
+				int node = states.get(key);
+				if(node == NO_NODE){
+					node = newNode(x, y, Astar.DIRECTIONS_ENUM[i], g, nodeTurns[parent] + turns, energy, parent);
+					states.put(key, node);
+					push(node);
+				}
+				else if(g < nodeG[node]){
+					setNode(node, Astar.DIRECTIONS_ENUM[i], g, nodeTurns[parent] + turns, energy, parent);
+					if(heapPosition[node] >= 0)
+						decreaseKey(node);
+					else
+						push(node);
+				}
+			}
+		}
+		return NO_NODE;
+	}
+
+	/**
+	 * Returns the maximal number of nodes that may be expanded for a search
+	 * over the given Manhattan distance.
+	 *
+	 * @param 	mhDistance
+	 * 			The Manhattan distance between start and end position.
+	 * @return	The product of the search limit per Manhattan distance unit and the given
+	 * 			distance, saturated at Long.MAX_VALUE.
+	 */
+	@Model
+	private static long getSearchLimit(long mhDistance){
+		if(mhDistance < 0 || mhDistance > Long.MAX_VALUE / Astar.SEARCH_LIMIT_PER_MHDISTANCEUNIT)
+			return Long.MAX_VALUE;
+		return Astar.SEARCH_LIMIT_PER_MHDISTANCEUNIT * mhDistance;
+	}
+
+	/**
+	 * Checks whether the given coordinates lie within the window around the start
+	 * position that can be represented by a packed key.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 */
+	@Model
+	private boolean isWithinWindow(long x, long y){
+		long dx = x - originX;
+		long dy = y - originY;
+		return dx >= -WINDOW && dx < WINDOW && dy >= -WINDOW && dy < WINDOW;
+	}
+
+	/**
+	 * Variable containing the largest offset from the start position that can be represented
+	 * in the 31 bit halves of a packed key.
+	 */
+	private static final long WINDOW = 1L << 30;
+
+	/**
+	 * Returns the packed key for the given coordinates: the horizontal and vertical
+	 * offsets from the start position of the search, as two 31 bit halves.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 */
+	@Model
+	private long packCellKey(long x, long y){
+		return (((x - originX) & 0x7FFFFFFFL) << 31) | ((y - originY) & 0x7FFFFFFFL);
+	}
+
+	/**
+	 * Returns the packed key for the given search state: the packed key of its
+	 * coordinates, followed by two bits for the ordinal number of its direction
+	 * in DIRECTIONS_ENUM.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 * @param	direction
+	 * 			The ordinal number of the direction in DIRECTIONS_ENUM.
+	 */
+	@Model
+	private long packStateKey(long x, long y, int direction){
+		return (packCellKey(x, y) << 2) | direction;
+	}
+
+	/**
+	 * Removes all nodes of this engine, keeping the capacity of its pool.
+	 *
+	 * @post	| new.getNbNodes() == 0 && new.getNbReachedCells() == 0 && new.getNbExpandedNodes() == 0
+	 */
+	@Model
+	private void clear(){
+		states.clear();
+		cells.clear();
+		nbNodes = 0;
+		heapSize = 0;
+		nbReachedCells = 0;
+		nbExpandedNodes = 0;
+	}
+
+	/**
+	 * Returns the number of nodes created by the last search.
+	 */
+	@Basic
+	public int getNbNodes(){
+		return nbNodes;
+	}
+
+	/**
+	 * Returns the number of nodes expanded by the last search,
+	 * counting every node each time it is taken from the open heap.
+	 */
+	@Basic
+	public long getNbExpandedNodes(){
+		return nbExpandedNodes;
+	}
+
+	/**
+	 * Returns the capacity of the node pool of this engine.
+	 */
+	@Basic
+	public int getCapacity(){
+		return nodeX.length;
+	}
+
+	/**
+	 * Returns the number of positions reached by the last search.
+	 */
+	@Basic
+	public int getNbReachedCells(){
+		return nbReachedCells;
+	}
+
+	/**
+	 * Returns the node of the position that was reached at the given index (0-based)
+	 * by the last search: the first node of that position taken from the open heap.
+	 * After a flood, this is the node reaching that position with the least energy.
+	 *
+	 * @param 	i
+	 * 			The index of the reached position.
+	 * @throws	IndexOutOfBoundsException
+	 * 			| i < 0 || i >= getNbReachedCells()
+	 */
+	public int getReachedCellAt(int i) throws IndexOutOfBoundsException{
+		if(i < 0 || i >= nbReachedCells)
+			throw new IndexOutOfBoundsException();
+		return reachedCells[i];
+	}
+
+	/**
+	 * Returns the node of the reached position with the given coordinates,
+	 * or NO_NODE if the last search did not reach them.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 */
+	public int getReachedCell(long x, long y){
+		if(nbNodes == 0 || !isWithinWindow(x, y))
+			return NO_NODE;
+		return cells.get(packCellKey(x, y));
+	}
+
+	/**
+	 * Returns the horizontal coordinate of the given node.
+	 */
+	public long getX(int node){
+		return nodeX[node];
+	}
+
+	/**
+	 * Returns the vertical coordinate of the given node.
+	 */
+	public long getY(int node){
+		return nodeY[node];
+	}
+
+	/**
+	 * Returns the G score of the given node, being the energy amount spent to reach it,
+	 * expressed in the energy unit of the robot of the last search.
+	 */
+	public double getG(int node){
+		return nodeG[node];
+	}
+
+	/**
+	 * Returns the cumulative number of turns of the given node.
+	 */
+	public long getTurns(int node){
+		return nodeTurns[node];
+	}
+
+	/**
+	 * Returns the direction of the given node.
+	 */
+	public Direction getDirection(int node){
+		return Astar.DIRECTIONS_ENUM[nodeDirection[node]];
+	}
+
+	/**
+	 * Returns the parent of the given node, or NO_NODE for the start node.
+	 */
+	public int getParent(int node){
+		return nodeParent[node];
+	}
+
+	/**
+	 * Returns the energy amount of the given node, expressed in the
+	 * energy unit of the robot of the last search.
+	 */
+	public double getEnergyAmount(int node){
+		return nodeEnergy[node];
+	}
+
+	/**
+	 * Returns the energy unit in which the energy amounts of the nodes are expressed.
+	 */
+	@Basic
+	public EnergyUnit getEnergyUnit(){
+		return energyUnit;
+	}
+
+	/**
+	 * Returns the energy of the given node.
+	 *
+	 * @return	| result.equals(new Energy(getEnergyAmount(node), energyUnit))
+	 */
+	public Energy getEnergy(int node){
+		return new Energy(nodeEnergy[node], energyUnit);
+	}
+
+	/**
+	 * Returns the position of the given node.
+	 *
+	 * @return	| result.equals(new Position(getX(node), getY(node)))
+	 */
+	public Position getPosition(int node){
+		return new Position(nodeX[node], nodeY[node]);
+	}
+
+	/**
+	 * Returns a tile list of the nodes of all positions reached by the last search,
+	 * in the order in which they were reached.
+	 */
+	public List<Tile> getReachedTileList(){
+		List<Tile> result = new ArrayList<Tile>(nbReachedCells);
+		for(int i = 0; i < nbReachedCells; i++)
+			result.add(toTile(reachedCells[i]));
+		return result;
+	}
+
+	/**
+	 * Returns the route from the start node to the given node as a list of tiles.
+	 *
+	 * @param 	node
+	 * 			The last node of the route.
+	 * @return	The first tile describes the start node, the last tile describes the given node
+	 * 			and every other tile describes the parent of the next tile.
+	 */
+	public List<Tile> getTileRoute(int node){
+		List<Tile> result = new ArrayList<Tile>();
+		for(int current = node; current != NO_NODE; current = nodeParent[current])
+			result.add(toTile(current));
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the route from the start node to the given node as a list of positions.
+	 *
+	 * @param 	node
+	 * 			The last node of the route.
+	 * @return	The first position is the start position, the last position is the position
+	 * 			of the given node and every other position is the position of the parent
+	 * 			of the node of the next position.
+	 */
+	public List<Position> getPositionRoute(int node){
+		List<Position> result = new ArrayList<Position>();
+		for(int current = node; current != NO_NODE; current = nodeParent[current])
+			result.add(getPosition(current));
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns a tile describing the given node.
+	 *
+	 * @param 	node
+	 * 			The node to describe.
+	 */
+	public Tile toTile(int node){
+		Tile tile = new Tile();
+		tile.setNodeValueXY(nodeX[node], nodeY[node]);
+		int parent = nodeParent[node];
+		if(parent == NO_NODE)
+			tile.setNodeValuePXPY(nodeX[node], nodeY[node]);
+		else
+			tile.setNodeValuePXPY(nodeX[parent], nodeY[parent]);
+		tile.setNodeValueGHF(Math.round(nodeG[node]), Math.round(nodeF[node]) - Math.round(nodeG[node]));
+		tile.setNodeValueT(nodeTurns[node]);
+		tile.setEnergy(getEnergy(node));
+		tile.setDirection(getDirection(node));
+		return tile;
+	}
+
+	/**
+	 * Creates a new node in the node pool.
+	 *
+	 * @return	The number of the new node.
+	 */
+	@Model
+	private int newNode(long x, long y, Direction direction, double g, long turns, double energy, int parent){
+		if(nbNodes == nodeX.length)
+			grow();
+		int node = nbNodes++;
+		nodeX[node] = x;
+		nodeY[node] = y;
+		heapPosition[node] = -1;
+		setNode(node, direction, g, turns, energy, parent);
+		return node;
+	}
+
+	/**
+	 * Sets the search values of the given node.
+	 */
+	@Model
+	private void setNode(int node, Direction direction, double g, long turns, double energy, int parent){
+		nodeDirection[node] = (byte) direction.ordinal();
+		nodeG[node] = g;
+		nodeF[node] = !heuristic ? g : g + Astar.H_ESTIMATE*Astar.getHeuristicEstimate(nodeX[node], nodeY[node], direction, endX, endY, moveCost, turnCosts[1]);
+		nodeTurns[node] = turns;
+		nodeEnergy[node] = energy;
+		nodeParent[node] = parent;
+	}
+
+	/**
+	 * Registers the given node as the node of the next reached position.
+	 */
+	@Model
+	private void addReachedCell(int node){
+		if(nbReachedCells == reachedCells.length)
+			reachedCells = Arrays.copyOf(reachedCells, reachedCells.length << 1);
+		reachedCells[nbReachedCells++] = node;
+	}
+
+	/**
+	 * Allocates the arrays of the node pool with the given capacity.
+	 */
+	@Model
+	private void allocate(int capacity){
+		nodeX = new long[capacity];
+		nodeY = new long[capacity];
+		nodeG = new double[capacity];
+		nodeF = new double[capacity];
+		nodeTurns = new long[capacity];
+		nodeEnergy = new double[capacity];
+		nodeDirection = new byte[capacity];
+		nodeParent = new int[capacity];
+		heapPosition = new int[capacity];
+		heap = new int[capacity];
+		reachedCells = new int[capacity];
+	}
+
+	/**
+	 * Doubles the capacity of the node pool, keeping all nodes.
+	 */
+	@Model
+	private void grow(){
+		int capacity = nodeX.length << 1;
+		nodeX = Arrays.copyOf(nodeX, capacity);
+		nodeY = Arrays.copyOf(nodeY, capacity);
+		nodeG = Arrays.copyOf(nodeG, capacity);
+		nodeF = Arrays.copyOf(nodeF, capacity);
+		nodeTurns = Arrays.copyOf(nodeTurns, capacity);
+		nodeEnergy = Arrays.copyOf(nodeEnergy, capacity);
+		nodeDirection = Arrays.copyOf(nodeDirection, capacity);
+		nodeParent = Arrays.copyOf(nodeParent, capacity);
+		heapPosition = Arrays.copyOf(heapPosition, capacity);
+		heap = Arrays.copyOf(heap, capacity);
+	}
+
+	/**
+	 * Checks whether the first given node has to be expanded before the second given node:
+	 * the lowest F score first and, for equal F scores, the lowest energy first.
+	 */
+	@Model
+	private boolean isBefore(int node, int other){
+		if(nodeF[node] != nodeF[other])
+			return nodeF[node] < nodeF[other];
+		return Double.compare(nodeEnergy[node], nodeEnergy[other]) < 0;
+	}
+
+	/**
+	 * Adds the given node to the open heap.
+	 */
+	@Model
+	private void push(int node){
+		heap[heapSize] = node;
+		heapPosition[node] = heapSize;
+		heapSize++;
+		siftUp(heapPosition[node]);
+	}
+
+	/**
+	 * Removes and returns the first node of the open heap.
+	 */
+	@Model
+	private int pop(){
+		int result = heap[0];
+		heapSize--;
+		if(heapSize > 0){
+			heap[0] = heap[heapSize];
+			heapPosition[heap[0]] = 0;
+			siftDown(0);
+		}
+		heapPosition[result] = -1;
+		return result;
+	}
+
+	/**
+	 * Restores the heap order after the score of the given open node has decreased.
+	 */
+	@Model
+	private void decreaseKey(int node){
+		siftUp(heapPosition[node]);
+	}
+
+	/**
+	 * Moves the node at the given heap position up until the heap order is restored.
+	 */
+	@Model
+	private void siftUp(int position){
+		int node = heap[position];
+		while(position > 0){
+			int parentPosition = (position - 1) >>> 1;
+			int parent = heap[parentPosition];
+			if(!isBefore(node, parent))
+				break;
+			heap[position] = parent;
+			heapPosition[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * Moves the node at the given heap position down until the heap order is restored.
+	 */
+	@Model
+	private void siftDown(int position){
+		int node = heap[position];
+		int half = heapSize >>> 1;
+		while(position < half){
+			int child = 2*position + 1;
+			int right = child + 1;
+			if(right < heapSize && isBefore(heap[right], heap[child]))
+				child = right;
+			if(!isBefore(heap[child], node))
+				break;
+			heap[position] = heap[child];
+			heapPosition[heap[child]] = position;
+			position = child;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * The node index registering every node under its packed state key.
+	 */
+	private final NodeIndex states;
+
+	/**
+	 * The node index registering the node of every reached position under its packed position key.
+	 */
+	private final NodeIndex cells;
+
+	/**
+	 * Registers whether the heuristic directs the last search towards its end position.
+	 */
+	private boolean heuristic;
+
+	/**
+	 * The horizontal and vertical coordinates of the start position of the last search.
+	 */
+	private long originX, originY;
+
+	/**
+	 * The horizontal and vertical coordinates of the end position of the last search.
+	 */
+	private long endX, endY;
+
+	/**
+	 * The move cost of the robot of the last search.
+	 */
+	private double moveCost;
+
+	/**
+	 * The cost of zero, one and two turns of the robot of the last search.
+	 */
+	private final double[] turnCosts = new double[3];
+
+	/**
+	 * The energy unit in which the energies of the nodes are expressed.
+	 */
+	private EnergyUnit energyUnit = EnergyUnit.WS;
+
+	/**
+	 * The number of nodes in the node pool.
+	 */
+	private int nbNodes;
+
+	/**
+	 * The coordinates of the nodes.
+	 */
+	private long[] nodeX, nodeY;
+
+	/**
+	 * The G and F scores of the nodes.
+	 */
+	private double[] nodeG, nodeF;
+
+	/**
+	 * The cumulative number of turns of the nodes.
+	 */
+	private long[] nodeTurns;
+
+	/**
+	 * The energy amounts of the nodes.
+	 */
+	private double[] nodeEnergy;
+
+	/**
+	 * The ordinal number of the direction of the nodes in DIRECTIONS_ENUM.
+	 */
+	private byte[] nodeDirection;
+
+	/**
+	 * The parents of the nodes.
+	 */
+	private int[] nodeParent;
+
+	/**
+	 * The positions of the nodes in the open heap, or -1 if not in the heap.
+	 */
+	private int[] heapPosition;
+
+	/**
+	 * The open heap of node numbers.
+	 */
+	private int[] heap;
+
+	/**
+	 * The number of nodes in the open heap.
+	 */
+	private int heapSize;
+
+	/**
+	 * The nodes of the reached positions, in the order in which the positions were reached.
+	 */
+	private int[] reachedCells;
+
+	/**
+	 * The number of reached positions.
+	 */
+	private int nbReachedCells;
+
+	/**
+	 * The number of nodes expanded by the last search.
+	 */
+	private long nbExpandedNodes;
+}
@@ -0,0 +1,765 @@
+package roborally.astar;
+
+import java.util.Arrays;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.*;
+
+import roborally.board.Board;
+import roborally.board.Dimension;
+import roborally.model.BoardModel;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+
+/**
+ * A class of distance fields storing, for every search state around a target position,
+ * the least energy a robot in that state needs to reach the target position.
+ *
+ * A distance field is a reverse Dijkstra search starting from the target position, over
+ * the same states as the A-star engine: a position together with the direction the robot
+ * faces. The search is resumable: a query only settles states until the state of the
+ * querying robot is settled, and every later query continues from the frontier that was
+ * left behind. A settled state is answered without any search at all.
+ *
+ * Cells containing a robot are settled, since a robot may start from them, but they are
+ * never expanded, since no robot can move through another robot. Cells containing a board
+ * model a robot could not share its position with (walls) are never entered. Every cell
+ * the search has looked at is recorded together with its classification, so the field
+ * knows which changes of the board may affect its distances. A change that makes a cell
+ * more restrictive only reopens the states whose distance was derived through that cell,
+ * and a change that makes a cell less restrictive only opens the states next to it; the
+ * search then settles the reopened states again.
+ *
+ * @invar	The number of nodes never exceeds the capacity of the node pool.
+ * 			| getNbNodes() <= getCapacity()
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class DistanceField {
+
+	/**
+	 * Variable containing the distance returned for states that cannot reach the target position.
+	 */
+	public static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+
+	/**
+	 * Variable containing the distance returned for states that could not be settled within the given budget.
+	 */
+	public static final double UNKNOWN = Double.NaN;
+
+	/**
+	 * Initializes a new distance field towards the given target position for the given cost profile.
+	 *
+	 * @param 	board
+	 * 			The board of the new distance field.
+	 * @param 	targetX
+	 * 			The horizontal coordinate of the target position.
+	 * @param 	targetY
+	 * 			The vertical coordinate of the target position.
+	 * @param 	moveCost
+	 * 			The energy amount (in Ws) a robot spends to move one step.
+	 * @param 	turnCost
+	 * 			The energy amount (in Ws) a robot spends to turn once.
+	 * @post	The target states of the new distance field are open with a distance of zero.
+	 * 			| new.getNbNodes() == 4
+	 * @throws	NullPointerException
+	 * 			The given board refers the null reference.
+	 * 			| board == null
+	 * @throws	IllegalArgumentException
+	 * 			One of the given costs is negative or not a number.
+	 * 			| !(moveCost >= 0) || !(turnCost >= 0)
+	 */
+	public DistanceField(Board board, long targetX, long targetY, double moveCost, double turnCost)
+			throws NullPointerException, IllegalArgumentException{
+		if(board == null)
+			throw new NullPointerException("The given board refers the null reference.");
+		if(!(moveCost >= 0) || !(turnCost >= 0))
+			throw new IllegalArgumentException("The given costs are invalid.");
+		this.board = board;
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.moveCost = moveCost;
+		for(int turns = 0; turns < turnCosts.length; turns++)
+			turnCosts[turns] = turns*turnCost;
+		allocate(INITIAL_CAPACITY);
+		states = new NodeIndex(INITIAL_CAPACITY);
+		cells = new NodeIndex(INITIAL_CAPACITY);
+		for(int i = 0; i < 4; i++){
+			int node = newNode(targetX, targetY, i, 0.0, NO_NODE);
+			states.put(packStateKey(targetX, targetY, i), node);
+			push(node);
+		}
+	}
+
+	/**
+	 * Variable containing the initial capacity of the node pool of a distance field.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Returns the board of this distance field.
+	 */
+	@Basic @Immutable
+	public Board getBoard(){
+		return board;
+	}
+
+	/**
+	 * Variable referencing the board of this distance field.
+	 */
+	private final Board board;
+
+	/**
+	 * Returns the horizontal coordinate of the target position of this distance field.
+	 */
+	@Basic @Immutable
+	public long getTargetX(){
+		return targetX;
+	}
+
+	/**
+	 * Returns the vertical coordinate of the target position of this distance field.
+	 */
+	@Basic @Immutable
+	public long getTargetY(){
+		return targetY;
+	}
+
+	/**
+	 * The horizontal and vertical coordinates of the target position of this distance field.
+	 */
+	private final long targetX, targetY;
+
+	/**
+	 * Returns the least energy amount (in Ws) the given robot needs to reach the target
+	 * position of this distance field, continuing the search until the state of the robot
+	 * is settled or the node pool would exceed the given budget.
+	 *
+	 * @param 	robot
+	 * 			The robot whose distance has to be returned.
+	 * @param 	budget
+	 * 			The maximal number of nodes this distance field may hold.
+	 * @return	The least energy amount (in Ws) needed to reach the target position, if the
+	 * 			state of the given robot could be settled within the given budget.
+	 * @return	UNREACHABLE if the target position cannot be reached from the state of the given robot.
+	 * @return	UNKNOWN if the state of the given robot could not be settled within the given budget.
+	 * @note	The given robot only serves to decide which board models a robot can share
+	 * 			its position with; the costs of this distance field are fixed at construction.
+	 * @note	A settled state is only answered once no open state has a smaller distance,
+	 * 			since a repair of this distance field may have reopened states closer to
+	 * 			the target position.
+	 */
+	public double getDistance(Robot robot, long budget){
+		this.robot = robot;
+		long x = robot.getCoordinate(Dimension.HORIZONTAL);
+		long y = robot.getCoordinate(Dimension.VERTICAL);
+		if(!isWithinWindow(x, y))
+			return UNKNOWN;
+		long key = packStateKey(x, y, robot.getDirection().ordinal());
+		while(true){
+			int node = states.get(key);
+			if(node != NO_NODE && nodeSettled[node] && (heapSize == 0 || nodeDistance[heap[0]] >= nodeDistance[node]))
+				return nodeDistance[node];
+			if(heapSize == 0)
+				return truncated ? UNKNOWN : UNREACHABLE;
+			if(nbNodes + 4 > budget)
+				return UNKNOWN;
+			int settled = pop();
+			nodeSettled[settled] = true;
+			if(isExpandable(settled))
+				expand(settled);
+		}
+	}
+
+	/**
+	 * Variable referencing the robot of the last query of this distance field, deciding
+	 * which board models a robot can share its position with.
+	 */
+	private Robot robot;
+
+	/**
+	 * Checks whether the given settled node opens its predecessors: the node lies on
+	 * the target position or on a cell a robot can move through.
+	 *
+	 * @param 	node
+	 * 			The node to check.
+	 */
+	@Model
+	private boolean isExpandable(int node){
+		return (nodeX[node] == targetX && nodeY[node] == targetY) || classify(nodeX[node], nodeY[node]) == PASSABLE;
+	}
+
+	/**
+	 * Opens the predecessors of the given settled node: the states from which a robot reaches
+	 * the state of the given node with a single move.
+	 *
+	 * @param 	node
+	 * 			The settled node to expand.
+	 * @note	A settled predecessor whose distance decreases is reopened.
+	 */
+	@Model
+	private void expand(int node){
+		int direction = nodeDirection[node];
+		long x = nodeX[node] - Astar.DIRECTIONS[direction][0];
+		long y = nodeY[node] - Astar.DIRECTIONS[direction][1];
+		if(!isWithinWindow(x, y)){
+			truncated = true;
+			return;
+		}
+		if(classify(x, y) == BLOCKED)
+			return;
+		for(int i = 0; i < 4; i++){
+			int turns = Direction.amountOfEfficientTurnsToDirection(Astar.DIRECTIONS_ENUM[i], Astar.DIRECTIONS_ENUM[direction]);
+			double distance = nodeDistance[node] + moveCost + turnCosts[turns];
+			long key = packStateKey(x, y, i);
+			int other = states.get(key);
+			if(other == NO_NODE){
+				other = newNode(x, y, i, distance, node);
+				states.put(key, other);
+				push(other);
+			}
+			else if(distance < nodeDistance[other])
+				open(other, distance, node);
+		}
+	}
+
+	/**
+	 * Opens the given node with the given distance, derived from the given parent.
+	 *
+	 * @param 	node
+	 * 			The node to open.
+	 * @param 	distance
+	 * 			The new distance of the node, not greater than its current distance.
+	 * @param 	parent
+	 * 			The settled node the new distance is derived from.
+	 */
+	@Model
+	private void open(int node, double distance, int parent){
+		nodeDistance[node] = distance;
+		nodeParent[node] = parent;
+		nodeSettled[node] = false;
+		if(heapPosition[node] < 0)
+			push(node);
+		else
+			siftUp(heapPosition[node]);
+	}
+
+	/**
+	 * Variable containing the classification of cells a robot can move through.
+	 * Every next classification is more restrictive than the previous one.
+	 */
+	private static final int PASSABLE = 0;
+
+	/**
+	 * Variable containing the classification of cells containing a robot: a robot may start
+	 * from such a cell, but no robot can move through it.
+	 */
+	private static final int OCCUPIED = 1;
+
+	/**
+	 * Variable containing the classification of cells no robot can be located on.
+	 */
+	private static final int BLOCKED = 2;
+
+	/**
+	 * Returns the classification of the cell with the given coordinates, recording it
+	 * the first time the cell is looked at.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 */
+	@Model
+	private int classify(long x, long y){
+		if(!board.canHaveAsCoordinate(x, Dimension.HORIZONTAL) || !board.canHaveAsCoordinate(y, Dimension.VERTICAL))
+			return BLOCKED;
+		long key = packCellKey(x, y);
+		int result = cells.get(key);
+		if(result == NO_NODE){
+			result = getClassification(x, y);
+			cells.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the current classification of the cell with the given coordinates on the board
+	 * of this distance field, as decided by the robot of the last query.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 */
+	@Model
+	private int getClassification(long x, long y){
+		int result = PASSABLE;
+		List<BoardModel> cell = board.getBoardModelsAt(x, y);
+		if(cell != null){
+			for(BoardModel model : cell){
+				if(!model.canSharePositionWith(robot)){
+					if(!Robot.class.isInstance(model))
+						result = BLOCKED;
+					else if(result == PASSABLE)
+						result = OCCUPIED;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the distances of this distance field may depend on the contents
+	 * of the cell with the given coordinates.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @return	True if and only if the search of this distance field has looked at the given cell.
+	 */
+	public boolean dependsOnCell(long x, long y){
+		return isWithinWindow(x, y) && cells.get(packCellKey(x, y)) != NO_NODE;
+	}
+
+	/**
+	 * Repairs the distances of this distance field after the contents of the cell with
+	 * the given coordinates changed.
+	 *
+	 * Nothing has to be repaired if the search has not looked at the cell yet, or if the
+	 * change does not change whether robots can enter or move through the cell, such as
+	 * an item that is dropped or picked up. If the cell became more restrictive, every state
+	 * whose distance was derived through the cell is reopened with the best distance of its
+	 * settled successors. If the cell became less restrictive, the states entering the cell
+	 * and the states leaving it are opened from their settled successors.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the changed cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the changed cell.
+	 * @return	False if and only if this distance field cannot be repaired, because its
+	 * 			target position has become a position no robot can be located on.
+	 */
+	public boolean repairCell(long x, long y){
+		if(!dependsOnCell(x, y))
+			return true;
+		long key = packCellKey(x, y);
+		int old = cells.get(key);
+		int classification = getClassification(x, y);
+		if(classification == old)
+			return true;
+		cells.put(key, classification);
+		if(x == targetX && y == targetY)
+			return classification != BLOCKED;
+		if(classification > old)
+			reopenThrough(x, y, classification == BLOCKED);
+		else
+			openAround(x, y, old == BLOCKED, classification == PASSABLE);
+		return true;
+	}
+
+	/**
+	 * Reopens every state whose distance was derived through the cell with the given
+	 * coordinates, with the best distance of its settled successors.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @param 	blocked
+	 * 			Whether the states of the cell itself can no longer be entered.
+	 */
+	@Model
+	private void reopenThrough(long x, long y, boolean blocked){
+		nbReopened = 0;
+		for(int d = 0; d < 4; d++){
+			int node = states.get(packStateKey(x, y, d));
+			if(node == NO_NODE)
+				continue;
+			if(blocked)
+				close(node);
+			else
+				closeChildren(node);
+		}
+		for(int i = 0; i < nbReopened; i++)
+			closeChildren(reopened[i]);
+		for(int i = 0; i < nbReopened; i++){
+			int node = reopened[i];
+			if(classify(nodeX[node], nodeY[node]) == BLOCKED)
+				continue;
+			double best = UNREACHABLE;
+			int parent = NO_NODE;
+			for(int d = 0; d < 4; d++){
+				long sx = nodeX[node] + Astar.DIRECTIONS[d][0];
+				long sy = nodeY[node] + Astar.DIRECTIONS[d][1];
+				if(!isWithinWindow(sx, sy))
+					continue;
+				int successor = states.get(packStateKey(sx, sy, d));
+				if(successor == NO_NODE || !nodeSettled[successor] || !isExpandable(successor))
+					continue;
+				int turns = Direction.amountOfEfficientTurnsToDirection(Astar.DIRECTIONS_ENUM[nodeDirection[node]], Astar.DIRECTIONS_ENUM[d]);
+				double distance = nodeDistance[successor] + moveCost + turnCosts[turns];
+				if(distance < best){
+					best = distance;
+					parent = successor;
+				}
+			}
+			if(parent != NO_NODE)
+				open(node, best, parent);
+		}
+	}
+
+	/**
+	 * Closes every node whose distance is derived from the given node.
+	 *
+	 * @param 	node
+	 * 			The node whose children have to be closed.
+	 */
+	@Model
+	private void closeChildren(int node){
+		int direction = nodeDirection[node];
+		long x = nodeX[node] - Astar.DIRECTIONS[direction][0];
+		long y = nodeY[node] - Astar.DIRECTIONS[direction][1];
+		if(!isWithinWindow(x, y))
+			return;
+		for(int i = 0; i < 4; i++){
+			int child = states.get(packStateKey(x, y, i));
+			if(child != NO_NODE && nodeParent[child] == node)
+				close(child);
+		}
+	}
+
+	/**
+	 * Resets the given node to an unknown distance, removes it from the open heap
+	 * and registers it as a node to reopen.
+	 *
+	 * @param 	node
+	 * 			The node to close.
+	 */
+	@Model
+	private void close(int node){
+		nodeDistance[node] = UNREACHABLE;
+		nodeParent[node] = NO_NODE;
+		nodeSettled[node] = false;
+		if(heapPosition[node] >= 0)
+			remove(node);
+		if(nbReopened == reopened.length)
+			reopened = Arrays.copyOf(reopened, reopened.length << 1);
+		reopened[nbReopened++] = node;
+	}
+
+	/**
+	 * Array storing the nodes closed by the current repair.
+	 */
+	private int[] reopened = new int[16];
+
+	/**
+	 * Variable storing the number of nodes closed by the current repair.
+	 */
+	private int nbReopened;
+
+	/**
+	 * Opens the states around the cell with the given coordinates, after the cell
+	 * became less restrictive.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @param 	entered
+	 * 			Whether the states of the cell could not be entered before.
+	 * @param 	passable
+	 * 			Whether robots can now move through the cell.
+	 */
+	@Model
+	private void openAround(long x, long y, boolean entered, boolean passable){
+		for(int d = 0; d < 4; d++){
+			if(entered){
+				long sx = x + Astar.DIRECTIONS[d][0];
+				long sy = y + Astar.DIRECTIONS[d][1];
+				if(isWithinWindow(sx, sy)){
+					int successor = states.get(packStateKey(sx, sy, d));
+					if(successor != NO_NODE && nodeSettled[successor] && isExpandable(successor))
+						expand(successor);
+				}
+			}
+			if(passable){
+				int node = states.get(packStateKey(x, y, d));
+				if(node != NO_NODE && nodeSettled[node])
+					expand(node);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of nodes of this distance field.
+	 */
+	@Basic
+	public int getNbNodes(){
+		return nbNodes;
+	}
+
+	/**
+	 * Returns the capacity of the node pool of this distance field.
+	 */
+	@Basic
+	public int getCapacity(){
+		return nodeX.length;
+	}
+
+	/**
+	 * Checks whether the given coordinates lie within the window around the target
+	 * position that can be represented by a packed key.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 */
+	@Model
+	private boolean isWithinWindow(long x, long y){
+		long dx = x - targetX;
+		long dy = y - targetY;
+		return dx >= -WINDOW && dx < WINDOW && dy >= -WINDOW && dy < WINDOW;
+	}
+
+	/**
+	 * Variable containing the largest offset from the target position that can be represented
+	 * in the 31 bit halves of a packed key.
+	 */
+	private static final long WINDOW = 1L << 30;
+
+	/**
+	 * Returns the packed key for the given coordinates: the horizontal and vertical
+	 * offsets from the target position, as two 31 bit halves.
+	 */
+	@Model
+	private long packCellKey(long x, long y){
+		return (((x - targetX) & 0x7FFFFFFFL) << 31) | ((y - targetY) & 0x7FFFFFFFL);
+	}
+
+	/**
+	 * Returns the packed key for the given search state: the packed key of its
+	 * coordinates, followed by two bits for the ordinal number of its direction
+	 * in DIRECTIONS_ENUM.
+	 */
+	@Model
+	private long packStateKey(long x, long y, int direction){
+		return (packCellKey(x, y) << 2) | direction;
+	}
+
+	/**
+	 * Creates a new, open node in the node pool.
+	 *
+	 * @return	The number of the new node.
+	 */
+	@Model
+	private int newNode(long x, long y, int direction, double distance, int parent){
+		if(nbNodes == nodeX.length)
+			grow();
+		int node = nbNodes++;
+		nodeX[node] = x;
+		nodeY[node] = y;
+		nodeDirection[node] = (byte) direction;
+		nodeDistance[node] = distance;
+		nodeParent[node] = parent;
+		heapPosition[node] = -1;
+		return node;
+	}
+
+	/**
+	 * Allocates the arrays of the node pool with the given capacity.
+	 */
+	@Model
+	private void allocate(int capacity){
+		nodeX = new long[capacity];
+		nodeY = new long[capacity];
+		nodeDistance = new double[capacity];
+		nodeDirection = new byte[capacity];
+		nodeParent = new int[capacity];
+		nodeSettled = new boolean[capacity];
+		heapPosition = new int[capacity];
+		heap = new int[capacity];
+	}
+
+	/**
+	 * Doubles the capacity of the node pool, keeping all nodes.
+	 */
+	@Model
+	private void grow(){
+		int capacity = nodeX.length << 1;
+		nodeX = Arrays.copyOf(nodeX, capacity);
+		nodeY = Arrays.copyOf(nodeY, capacity);
+		nodeDistance = Arrays.copyOf(nodeDistance, capacity);
+		nodeDirection = Arrays.copyOf(nodeDirection, capacity);
+		nodeParent = Arrays.copyOf(nodeParent, capacity);
+		nodeSettled = Arrays.copyOf(nodeSettled, capacity);
+		heapPosition = Arrays.copyOf(heapPosition, capacity);
+		heap = Arrays.copyOf(heap, capacity);
+	}
+
+	/**
+	 * Adds the given node to the open heap.
+	 */
+	@Model
+	private void push(int node){
+		heap[heapSize] = node;
+		heapPosition[node] = heapSize;
+		heapSize++;
+		siftUp(heapPosition[node]);
+	}
+
+	/**
+	 * Removes and returns the open node with the least distance.
+	 */
+	@Model
+	private int pop(){
+		int result = heap[0];
+		heapSize--;
+		if(heapSize > 0){
+			heap[0] = heap[heapSize];
+			heapPosition[heap[0]] = 0;
+			siftDown(0);
+		}
+		heapPosition[result] = -1;
+		return result;
+	}
+
+	/**
+	 * Removes the given open node from the open heap.
+	 */
+	@Model
+	private void remove(int node){
+		int position = heapPosition[node];
+		heapSize--;
+		if(position < heapSize){
+			int last = heap[heapSize];
+			heap[position] = last;
+			heapPosition[last] = position;
+			siftUp(position);
+			siftDown(heapPosition[last]);
+		}
+		heapPosition[node] = -1;
+	}
+
+	/**
+	 * Moves the node at the given heap position up until the heap order is restored.
+	 */
+	@Model
+	private void siftUp(int position){
+		int node = heap[position];
+		while(position > 0){
+			int parentPosition = (position - 1) >>> 1;
+			int parent = heap[parentPosition];
+			if(nodeDistance[node] >= nodeDistance[parent])
+				break;
+			heap[position] = parent;
+			heapPosition[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * Moves the node at the given heap position down until the heap order is restored.
+	 */
+	@Model
+	private void siftDown(int position){
+		int node = heap[position];
+		int half = heapSize >>> 1;
+		while(position < half){
+			int child = 2*position + 1;
+			int right = child + 1;
+			if(right < heapSize && nodeDistance[heap[right]] < nodeDistance[heap[child]])
+				child = right;
+			if(nodeDistance[heap[child]] >= nodeDistance[node])
+				break;
+			heap[position] = heap[child];
+			heapPosition[heap[child]] = position;
+			position = child;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * Variable containing the node number used to refer no node.
+	 */
+	private static final int NO_NODE = NodeIndex.NO_NODE;
+
+	/**
+	 * The node index registering every node under its packed state key.
+	 */
+	private final NodeIndex states;
+
+	/**
+	 * The node index registering the classification of every cell the search has looked at,
+	 * under its packed position key.
+	 */
+	private final NodeIndex cells;
+
+	/**
+	 * Registers whether the search has skipped states lying outside the window of packed keys.
+	 */
+	private boolean truncated;
+
+	/**
+	 * The energy amount (in Ws) a robot spends to move one step.
+	 */
+	private final double moveCost;
+
+	/**
+	 * The energy amounts (in Ws) a robot spends to turn zero, one and two times.
+	 */
+	private final double[] turnCosts = new double[3];
+
+	/**
+	 * Variable storing the number of nodes in the node pool.
+	 */
+	private int nbNodes;
+
+	/**
+	 * Variable storing the number of nodes in the open heap.
+	 */
+	private int heapSize;
+
+	/**
+	 * Arrays storing the coordinates of the nodes.
+	 */
+	private long[] nodeX, nodeY;
+
+	/**
+	 * Array storing the least energy amount (in Ws) found so far from the state of every node to the target position.
+	 */
+	private double[] nodeDistance;
+
+	/**
+	 * Array storing the ordinal number in DIRECTIONS_ENUM of the direction of every node.
+	 */
+	private byte[] nodeDirection;
+
+	/**
+	 * Array storing the settled node the distance of every node is derived from, or NO_NODE
+	 * for the target states and the nodes closed by a repair.
+	 */
+	private int[] nodeParent;
+
+	/**
+	 * Array registering which nodes are settled.
+	 */
+	private boolean[] nodeSettled;
+
+	/**
+	 * Array storing the position of every node in the open heap, or -1 if the node is not open.
+	 */
+	private int[] heapPosition;
+
+	/**
+	 * Array storing the open heap, ordered by distance.
+	 */
+	private int[] heap;
+}
@@ -0,0 +1,264 @@
+package roborally.astar;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import be.kuleuven.cs.som.annotate.*;
+
+import roborally.board.Board;
+import roborally.board.BoardListener;
+import roborally.board.Dimension;
+import roborally.board.Position;
+import roborally.model.Cost;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Energy;
+import roborally.model.energy.EnergyUnit;
+
+/**
+ * A class of caches of distance fields, answering repeated queries for the minimal
+ * energy robots need to reach the same position of a board.
+ *
+ * Every board has a cache of distance fields, keyed by the target position and the cost
+ * profile (the move and turn costs) of the querying robot. Once the state of a robot is
+ * settled in the distance field of its query, the answer is a single lookup.
+ * The cache listens to its board for every board model the board gains or loses, and
+ * then repairs the distance fields that depend on the changed cell, if the change
+ * affects which cells robots can enter or move through.
+ * The distance fields are evicted in least recently used order as soon as their total
+ * number of nodes exceeds the memory budget of the cache. A query that cannot be answered
+ * within that budget is answered by an A-star search instead.
+ *
+ * @invar	The memory budget of every cache is strictly positive.
+ * 			| getMemoryBudget() > 0
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class DistanceFieldCache implements BoardListener {
+
+	/**
+	 * Variable containing the standard memory budget, in nodes, of a cache of distance fields.
+	 */
+	public static final long STANDARD_MEMORY_BUDGET = 1L << 17;
+
+	/**
+	 * Initializes a new, empty cache of distance fields with the standard memory budget.
+	 *
+	 * @effect	| this(STANDARD_MEMORY_BUDGET)
+	 */
+	public DistanceFieldCache(){
+		this(STANDARD_MEMORY_BUDGET);
+	}
+
+	/**
+	 * Initializes a new, empty cache of distance fields with the given memory budget.
+	 *
+	 * @param 	memoryBudget
+	 * 			The memory budget, in nodes, of the new cache.
+	 * @effect	| setMemoryBudget(memoryBudget)
+	 * @post	| new.getNbFields() == 0
+	 */
+	public DistanceFieldCache(long memoryBudget) throws IllegalArgumentException{
+		setMemoryBudget(memoryBudget);
+	}
+
+	/**
+	 * Returns the memory budget, in nodes, of this cache.
+	 */
+	@Basic
+	public long getMemoryBudget(){
+		return memoryBudget;
+	}
+
+	/**
+	 * Sets the memory budget, in nodes, of this cache to the given budget,
+	 * evicting distance fields until the new budget is respected.
+	 *
+	 * @param 	memoryBudget
+	 * 			The new memory budget.
+	 * @post	| new.getMemoryBudget() == memoryBudget
+	 * @post	| new.getNbNodes() <= memoryBudget
+	 * @throws	IllegalArgumentException
+	 * 			The given memory budget is not strictly positive.
+	 * 			| memoryBudget <= 0
+	 */
+	public void setMemoryBudget(long memoryBudget) throws IllegalArgumentException{
+		if(memoryBudget <= 0)
+			throw new IllegalArgumentException("The given memory budget is invalid.");
+		this.memoryBudget = memoryBudget;
+		evict(null);
+	}
+
+	/**
+	 * Variable registering the memory budget, in nodes, of this cache.
+	 */
+	private long memoryBudget;
+
+	/**
+	 * Returns the number of distance fields in this cache.
+	 */
+	public int getNbFields(){
+		return fields.size();
+	}
+
+	/**
+	 * Returns the total number of nodes of the distance fields in this cache.
+	 */
+	public long getNbNodes(){
+		long result = 0;
+		for(DistanceField field : fields.values())
+			result += field.getNbNodes();
+		return result;
+	}
+
+	/**
+	 * Returns the lowest amount of energy required for the given robot in order to
+	 * reach the given position, looked up in the distance field of the position and the
+	 * cost profile of the robot.
+	 *
+	 * @pre		The given robot can be located on the given position.
+	 * 			| robot.getBoard().canHaveBoardModelAtNoBindingCheck(position, robot)
+	 * @param 	robot
+	 * 			The robot to start from.
+	 * @param 	position
+	 * 			The position the robot must reach.
+	 * @param 	engine
+	 * 			The A-star engine to search with if the distance field cannot settle the
+	 * 			state of the robot within the memory budget of this cache.
+	 * @return	| result.equals(Astar.getEnergyRequiredForAstarRoute(robot, position, engine))
+	 * @throws	IllegalArgumentException
+	 * 			The given position is unreachable or too complex to reach.
+	 * @throws	NullPointerException
+	 * 			At least one of the given arguments refers the null reference.
+	 * 			| (robot == null || position == null || engine == null)
+	 */
+	public Energy getEnergyRequired(Robot robot, Position position, AstarEngine engine)
+			throws IllegalArgumentException, NullPointerException{
+		if(robot == null || position == null || engine == null)
+			throw new NullPointerException("At least one of the given arguments refers the null reference.");
+		double moveCost = robot.getEnergyCostOf(Cost.MOVE).toEnergyUnit(EnergyUnit.WS).getEnergyAmount();
+		double turnCost = robot.getEnergyCostOf(Cost.TURN).toEnergyUnit(EnergyUnit.WS).getEnergyAmount();
+		FieldKey key = new FieldKey(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL), moveCost, turnCost);
+		DistanceField field = fields.get(key);
+		if(field == null){
+			field = new DistanceField(robot.getBoard(), key.x, key.y, moveCost, turnCost);
+			fields.put(key, field);
+		}
+		double distance = field.getDistance(robot, memoryBudget);
+		evict(field);
+		if(Double.isNaN(distance))
+			return Astar.getEnergyRequiredForAstarRoute(robot, position, engine);
+		if(distance == DistanceField.UNREACHABLE)
+			throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+		return new Energy(distance, EnergyUnit.WS).toEnergyUnit(robot.getEnergy().getEnergyUnit());
+	}
+
+	/**
+	 * Repairs all distance fields of this cache after the cell with the given coordinates
+	 * changed, and drops the distance fields that cannot be repaired.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the changed cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the changed cell.
+	 * @effect	| for each field in fields.values() :
+	 * 			| 	if(!field.repairCell(x, y))
+	 * 			|		then fields.remove(field)
+	 */
+	public void repairCell(long x, long y){
+		Iterator<DistanceField> it = fields.values().iterator();
+		while(it.hasNext()){
+			if(!it.next().repairCell(x, y))
+				it.remove();
+		}
+	}
+
+	/**
+	 * Repairs all distance fields of this cache that depend on the changed cell.
+	 *
+	 * @effect	| repairCell(x, y)
+	 */
+	@Override
+	public void cellChanged(Board board, long x, long y){
+		repairCell(x, y);
+	}
+
+	/**
+	 * Removes all distance fields from this cache.
+	 *
+	 * @post	| new.getNbFields() == 0
+	 */
+	public void clear(){
+		fields.clear();
+	}
+
+	/**
+	 * Evicts the least recently used distance fields, other than the given field,
+	 * until the total number of nodes respects the memory budget of this cache.
+	 *
+	 * @param 	keep
+	 * 			The distance field that may not be evicted.
+	 */
+	@Model
+	private void evict(DistanceField keep){
+		long nbNodes = getNbNodes();
+		Iterator<DistanceField> it = fields.values().iterator();
+		while(nbNodes > memoryBudget && it.hasNext()){
+			DistanceField field = it.next();
+			if(field != keep){
+				nbNodes -= field.getNbNodes();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * The distance fields of this cache, in least recently used order.
+	 */
+	private final Map<FieldKey, DistanceField> fields = new LinkedHashMap<FieldKey, DistanceField>(16, 0.75f, true);
+
+	/**
+	 * A class of keys of distance fields: a target position together with a cost profile.
+	 */
+	private static final class FieldKey {
+
+		/**
+		 * Initializes a new key with the given target coordinates and costs.
+		 */
+		FieldKey(long x, long y, double moveCost, double turnCost){
+			this.x = x;
+			this.y = y;
+			this.moveCost = moveCost;
+			this.turnCost = turnCost;
+		}
+
+		/**
+		 * The target coordinates of this key.
+		 */
+		private final long x, y;
+
+		/**
+		 * The move and turn costs (in Ws) of this key.
+		 */
+		private final double moveCost, turnCost;
+
+		@Override
+		public boolean equals(Object other){
+			if(!(other instanceof FieldKey))
+				return false;
+			FieldKey key = (FieldKey) other;
+			return x == key.x && y == key.y
+				&& Double.compare(moveCost, key.moveCost) == 0 && Double.compare(turnCost, key.turnCost) == 0;
+		}
+
+		@Override
+		public int hashCode(){
+			long h = x*31L + y;
+			h = h*31L + Double.doubleToLongBits(moveCost);
+			h = h*31L + Double.doubleToLongBits(turnCost);
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package roborally.astar;
+
+import java.util.Arrays;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of node indexes mapping packed long search state keys to
+ * the index of the corresponding node in a node pool.
+ *
+ * The index is an open addressing hash table with linear probing that
+ * stores its keys and values in primitive arrays, so neither lookups
+ * nor insertions box their keys. Entries are never removed individually;
+ * the index is cleared as a whole between searches.
+ *
+ * @invar	The number of entries never exceeds half of the capacity.
+ * 			| 2*size() <= getCapacity()
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class NodeIndex {
+
+	/**
+	 * Variable containing the value returned for keys without entry.
+	 */
+	public static final int NO_NODE = -1;
+
+	/**
+	 * Initializes a new node index with room for the given number of entries.
+	 *
+	 * @param 	expectedEntries
+	 * 			The number of entries the new index can hold without growing.
+	 * @post	The new node index contains no entries.
+	 * 			| new.size() == 0
+	 * @throws	IllegalArgumentException
+	 * 			The given number of expected entries is negative or too large.
+	 * 			| expectedEntries < 0 || expectedEntries > (1 << 29)
+	 */
+	public NodeIndex(int expectedEntries) throws IllegalArgumentException{
+		if(expectedEntries < 0 || expectedEntries > (1 << 29))
+			throw new IllegalArgumentException("The given number of expected entries is invalid.");
+		int capacity = 2;
+		while(capacity < 2*expectedEntries)
+			capacity = capacity << 1;
+		allocate(capacity);
+	}
+
+	/**
+	 * Allocates new, empty arrays with the given capacity.
+	 *
+	 * @param 	capacity
+	 * 			The capacity of the new arrays, a power of two.
+	 */
+	@Model
+	private void allocate(int capacity){
+		keys = new long[capacity];
+		values = new int[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of entries of this node index.
+	 */
+	@Basic
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Returns the capacity of the hash table of this node index.
+	 */
+	@Basic
+	public int getCapacity(){
+		return keys.length;
+	}
+
+	/**
+	 * Returns the hash value for the given key.
+	 *
+	 * @param 	key
+	 * 			The key to hash.
+	 */
+	@Model
+	private static int hash(long key){
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Returns the node registered under the given key, or NO_NODE
+	 * if no node is registered under that key.
+	 *
+	 * @param 	key
+	 * 			The packed state key.
+	 */
+	public int get(long key){
+		int slot = hash(key) & mask;
+		while(used[slot]){
+			if(keys[slot] == key)
+				return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		return NO_NODE;
+	}
+
+	/**
+	 * Registers the given node under the given key.
+	 *
+	 * @param 	key
+	 * 			The packed state key.
+	 * @param 	node
+	 * 			The node to register.
+	 * @post	The given node is registered under the given key.
+	 * 			| new.get(key) == node
+	 * @throws	IllegalArgumentException
+	 * 			The given node is negative.
+	 * 			| node < 0
+	 */
+	public void put(long key, int node) throws IllegalArgumentException{
+		if(node < 0)
+			throw new IllegalArgumentException("The given node is invalid.");
+		if(2*(size + 1) > keys.length)
+			grow();
+		int slot = hash(key) & mask;
+		while(used[slot]){
+			if(keys[slot] == key){
+				values[slot] = node;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		used[slot] = true;
+		keys[slot] = key;
+		values[slot] = node;
+		size++;
+	}
+
+	/**
+	 * Removes all entries from this node index, keeping its capacity.
+	 *
+	 * @post	This node index contains no entries.
+	 * 			| new.size() == 0
+	 */
+	public void clear(){
+		if(size > 0)
+			Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/**
+	 * Doubles the capacity of this node index.
+	 */
+	@Model
+	private void grow(){
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(oldKeys.length << 1);
+		for(int i=0; i<oldKeys.length; i++){
+			if(oldUsed[i])
+				put(oldKeys[i], oldValues[i]);
+		}
+	}
+
+	/**
+	 * Array storing the keys of the entries.
+	 */
+	private long[] keys;
+
+	/**
+	 * Array storing the nodes of the entries.
+	 */
+	private int[] values;
+
+	/**
+	 * Array registering which slots are in use.
+	 */
+	private boolean[] used;
+
+	/**
+	 * Variable storing the bit mask used to reduce a hash value to a slot.
+	 */
+	private int mask;
+
+	/**
+	 * Variable storing the number of entries.
+	 */
+	private int size;
+}
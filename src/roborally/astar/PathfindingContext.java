@@ -0,0 +1,75 @@
+package roborally.astar;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of pathfinding contexts, holding the A-star engines that are reused
+ * by consecutive pathfinding queries.
+ *
+ * The node pools of the engines of a pathfinding context only grow; every query
+ * resets them by clearing their counters and indexes, so once the pools have grown
+ * large enough for the queries of a caller, pathfinding no longer allocates storage.
+ * A pathfinding context is not safe to be used by concurrent queries.
+ *
+ * @invar	The engines of every pathfinding context are effective and distinct.
+ * 			| getEngine() != null && getOtherEngine() != null && getEngine() != getOtherEngine()
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class PathfindingContext {
+
+	/**
+	 * Initializes a new pathfinding context with engines of the standard initial capacity.
+	 *
+	 * @effect	| this(AstarEngine.STANDARD_INITIAL_CAPACITY)
+	 */
+	public PathfindingContext(){
+		this(AstarEngine.STANDARD_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Initializes a new pathfinding context with engines of the given initial capacity.
+	 *
+	 * @param 	initialCapacity
+	 * 			The initial capacity of the node pools of the engines.
+	 * @post	| new.getEngine().getCapacity() == initialCapacity
+	 * 			| 	&& new.getOtherEngine().getCapacity() == initialCapacity
+	 * @throws	IllegalArgumentException
+	 * 			The given initial capacity is not strictly positive.
+	 * 			| initialCapacity <= 0
+	 */
+	public PathfindingContext(int initialCapacity) throws IllegalArgumentException{
+		this.engine = new AstarEngine(initialCapacity);
+		this.otherEngine = new AstarEngine(initialCapacity);
+	}
+
+	/**
+	 * Returns the engine of this pathfinding context used for the searches of a single robot.
+	 */
+	@Basic @Immutable
+	public AstarEngine getEngine(){
+		return engine;
+	}
+
+	/**
+	 * Variable referencing the engine of this pathfinding context used for the searches of a single robot.
+	 */
+	private final AstarEngine engine;
+
+	/**
+	 * Returns the engine of this pathfinding context used for the searches of the second robot
+	 * in queries involving two robots.
+	 */
+	@Basic @Immutable
+	public AstarEngine getOtherEngine(){
+		return otherEngine;
+	}
+
+	/**
+	 * Variable referencing the engine of this pathfinding context used for the searches of the second
+	 * robot in queries involving two robots.
+	 */
+	private final AstarEngine otherEngine;
+}
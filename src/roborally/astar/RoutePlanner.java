@@ -0,0 +1,766 @@
+package roborally.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.*;
+
+import roborally.Terminatable;
+import roborally.board.Board;
+import roborally.board.BoardListener;
+import roborally.board.Dimension;
+import roborally.board.Position;
+import roborally.model.BoardModel;
+import roborally.model.Cost;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Energy;
+import roborally.model.energy.EnergyUnit;
+
+/**
+ * A class of route planners that keep the optimal route of a robot towards a target
+ * position up to date while the robot moves and the board changes.
+ *
+ * A route planner is an incremental D* Lite search. It searches backwards from the target
+ * position over the same states as the A-star engine (a position together with the direction
+ * the robot faces), so the search tree stays valid while the robot follows its route.
+ * The planner listens to the board of its robot: every changed cell only updates the states
+ * whose outgoing moves enter that cell, and the next request for the route repairs the
+ * search from those states on, instead of searching the whole route again.
+ *
+ * The heuristic is the Manhattan distance from the robot multiplied by the move cost,
+ * which is consistent, so the repaired routes are optimal. Other robots are obstacles.
+ * If the move or turn cost of the robot changes, the search is started anew.
+ *
+ * @invar	A route planner that is not terminated is registered as a listener of the board of its robot.
+ * 			| !isTerminated() ==> getBoard().hasAsBoardListener(this)
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class RoutePlanner implements BoardListener, Terminatable {
+
+	/**
+	 * Initializes a new route planner for the given robot towards the given target position,
+	 * registered as a listener of the board of the robot.
+	 *
+	 * @param 	robot
+	 * 			The robot of the new route planner.
+	 * @param 	target
+	 * 			The target position of the new route planner.
+	 * @post	| new.getRobot() == robot && new.getTarget().equals(target)
+	 * @post	| robot.getBoard().hasAsBoardListener(new)
+	 * @throws	NullPointerException
+	 * 			At least one of the given arguments refers the null reference.
+	 * 			| robot == null || target == null
+	 * @throws	IllegalArgumentException
+	 * 			The given robot is not situated on a board.
+	 * 			| robot.getBoard() == null
+	 */
+	public RoutePlanner(Robot robot, Position target) throws NullPointerException, IllegalArgumentException{
+		if(robot == null || target == null)
+			throw new NullPointerException("At least one of the given arguments refers the null reference.");
+		if(robot.getBoard() == null)
+			throw new IllegalArgumentException("The given robot is not situated on a board.");
+		this.robot = robot;
+		this.board = robot.getBoard();
+		this.target = target;
+		this.targetX = target.getCoordinate(Dimension.HORIZONTAL);
+		this.targetY = target.getCoordinate(Dimension.VERTICAL);
+		allocate(INITIAL_CAPACITY);
+		states = new NodeIndex(INITIAL_CAPACITY);
+		board.addBoardListener(this);
+	}
+
+	/**
+	 * Variable containing the initial capacity of the node pool of a route planner.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Returns the robot of this route planner.
+	 */
+	@Basic @Immutable
+	public Robot getRobot(){
+		return robot;
+	}
+
+	/**
+	 * Variable referencing the robot of this route planner.
+	 */
+	private final Robot robot;
+
+	/**
+	 * Returns the board this route planner listens to.
+	 */
+	@Basic @Immutable
+	public Board getBoard(){
+		return board;
+	}
+
+	/**
+	 * Variable referencing the board this route planner listens to.
+	 */
+	private final Board board;
+
+	/**
+	 * Returns the target position of this route planner.
+	 */
+	@Basic @Immutable
+	public Position getTarget(){
+		return target;
+	}
+
+	/**
+	 * Variable referencing the target position of this route planner.
+	 */
+	private final Position target;
+
+	/**
+	 * The horizontal and vertical coordinates of the target position of this route planner.
+	 */
+	private final long targetX, targetY;
+
+	/**
+	 * Terminates this route planner, unregistering it from its board.
+	 *
+	 * @post	| new.isTerminated()
+	 * @post	| !getBoard().hasAsBoardListener(this)
+	 */
+	@Override
+	public void terminate(){
+		if(!isTerminated){
+			board.removeBoardListener(this);
+			isTerminated = true;
+		}
+	}
+
+	/**
+	 * Returns whether this route planner is terminated.
+	 */
+	@Basic @Raw @Override
+	public boolean isTerminated(){
+		return isTerminated;
+	}
+
+	/**
+	 * Variable registering whether this route planner is terminated.
+	 */
+	private boolean isTerminated;
+
+	/**
+	 * Returns the optimal route of the robot of this route planner towards its target position,
+	 * repairing the search for all changes since the previous request.
+	 *
+	 * @return	The route starts at the position of the robot, ends at the target position
+	 * 			and every two consecutive positions are neighbours.
+	 * @return	The route requires the least energy of all routes towards the target position.
+	 * 			| getEnergyRequired().equals(Astar.getEnergyRequiredForAstarRoute(getRobot(), getTarget()))
+	 * @throws	IllegalStateException
+	 * 			This route planner is terminated or its robot has left its board.
+	 * 			| isTerminated() || getRobot().getBoard() != getBoard()
+	 * @throws	IllegalArgumentException
+	 * 			The target position is unreachable or too complex to reach.
+	 */
+	public List<Position> getRoute() throws IllegalStateException, IllegalArgumentException{
+		int node = repair();
+		List<Position> result = new ArrayList<Position>();
+		result.add(robot.getPosition());
+		for(int steps = 0; !isTarget(nodeX[node], nodeY[node]); steps++){
+			if(steps > nbNodes)
+				throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+			node = getBestSuccessor(node);
+			result.add(new Position(nodeX[node], nodeY[node]));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the position the robot of this route planner has to move to next,
+	 * according to its repaired optimal route.
+	 *
+	 * @return	| result.equals(getRoute().get(1))
+	 * @throws	IllegalStateException
+	 * 			This route planner is terminated or its robot has left its board.
+	 * 			| isTerminated() || getRobot().getBoard() != getBoard()
+	 * @throws	IllegalArgumentException
+	 * 			The robot is already located on the target position.
+	 * 			| getRobot().getPosition().equals(getTarget())
+	 * @throws	IllegalArgumentException
+	 * 			The target position is unreachable or too complex to reach.
+	 */
+	public Position getNextPosition() throws IllegalStateException, IllegalArgumentException{
+		int node = repair();
+		if(isTarget(nodeX[node], nodeY[node]))
+			throw new IllegalArgumentException("The robot has already reached the target position.");
+		node = getBestSuccessor(node);
+		return new Position(nodeX[node], nodeY[node]);
+	}
+
+	/**
+	 * Returns the least amount of energy the robot of this route planner needs to reach
+	 * its target position, repairing the search for all changes since the previous request.
+	 *
+	 * @return	| result.equals(Astar.getEnergyRequiredForAstarRoute(getRobot(), getTarget()))
+	 * @throws	IllegalStateException
+	 * 			This route planner is terminated or its robot has left its board.
+	 * 			| isTerminated() || getRobot().getBoard() != getBoard()
+	 * @throws	IllegalArgumentException
+	 * 			The target position is unreachable or too complex to reach.
+	 */
+	public Energy getEnergyRequired() throws IllegalStateException, IllegalArgumentException{
+		int node = repair();
+		return new Energy(nodeG[node], EnergyUnit.WS).toEnergyUnit(robot.getEnergy().getEnergyUnit());
+	}
+
+	/**
+	 * Returns the number of nodes expanded by the last repair of this route planner.
+	 */
+	@Basic
+	public long getNbExpandedNodes(){
+		return nbExpandedNodes;
+	}
+
+	/**
+	 * Variable registering the number of nodes expanded by the last repair.
+	 */
+	private long nbExpandedNodes;
+
+	/**
+	 * Returns the number of nodes of this route planner.
+	 */
+	@Basic
+	public int getNbNodes(){
+		return nbNodes;
+	}
+
+	/**
+	 * Updates the states whose outgoing moves enter the changed cell.
+	 *
+	 * @param 	board
+	 * 			The board of the changed cell.
+	 * @param 	x
+	 * 			The horizontal coordinate of the changed cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the changed cell.
+	 * @note	The changes are only registered; the search is repaired at the next request.
+	 */
+	@Override
+	public void cellChanged(Board board, long x, long y){
+		if(isTerminated() || board != this.board || !isWithinWindow(x, y))
+			return;
+		for(int i = 0; i < 4; i++){
+			long px = x - Astar.DIRECTIONS[i][0];
+			long py = y - Astar.DIRECTIONS[i][1];
+			if(!isWithinWindow(px, py))
+				continue;
+			for(int d = 0; d < 4; d++){
+				int node = states.get(packStateKey(px, py, d));
+				if(node != NO_NODE)
+					updateVertex(node);
+			}
+		}
+		if(isPassable(x, y)){
+			for(int d = 0; d < 4; d++)
+				updateVertex(getNode(x, y, d));
+		}
+	}
+
+	/**
+	 * Repairs the search of this route planner for the current state of its robot.
+	 *
+	 * @return	The node of the current state of the robot, of which the G score is the least energy
+	 * 			amount (in Ws) needed to reach the target position.
+	 */
+	@Model
+	private int repair() throws IllegalStateException, IllegalArgumentException{
+		if(isTerminated() || robot.getBoard() != board)
+			throw new IllegalStateException("This route planner is not effective.");
+		double move = robot.getEnergyCostOf(Cost.MOVE).toEnergyUnit(EnergyUnit.WS).getEnergyAmount();
+		double turn = robot.getEnergyCostOf(Cost.TURN).toEnergyUnit(EnergyUnit.WS).getEnergyAmount();
+		if(move != moveCost || 2*turn != turnCosts[2]){
+			moveCost = move;
+			for(int turns = 0; turns < turnCosts.length; turns++)
+				turnCosts[turns] = turns*turn;
+			reset();
+		}
+		long x = robot.getCoordinate(Dimension.HORIZONTAL);
+		long y = robot.getCoordinate(Dimension.VERTICAL);
+		if(!isWithinWindow(x, y))
+			throw new IllegalArgumentException("Search limit has been reached, position is unreachable or too complex to reach.");
+		keyModifier += getManhattanDistance(startX, startY, x, y)*moveCost;
+		startX = x;
+		startY = y;
+		int start = getNode(x, y, robot.getDirection().ordinal());
+		updateVertex(start);
+		computeShortestPath(start);
+		if(nodeG[start] == INFINITY)
+			throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+		return start;
+	}
+
+	/**
+	 * Expands the inconsistent nodes of this route planner until the given start node is consistent
+	 * and no open node has a smaller key.
+	 *
+	 * @param 	start
+	 * 			The node of the current state of the robot.
+	 * @throws	IllegalArgumentException
+	 * 			The number of expanded nodes exceeds the search limit for the distance to the target.
+	 */
+	@Model
+	private void computeShortestPath(int start) throws IllegalArgumentException{
+		nbExpandedNodes = 0;
+		long limit = getSearchLimit(getManhattanDistance(startX, startY, targetX, targetY));
+		while(heapSize > 0 && (isBefore(heap[0], calculateKey(start), nodeRhs[start] < nodeG[start] ? nodeRhs[start] : nodeG[start])
+				|| nodeRhs[start] != nodeG[start])){
+			int node = heap[0];
+			double oldKey = nodeKey[node];
+			double newKey = calculateKey(node);
+			if(oldKey < newKey){
+				nodeKey[node] = newKey;
+				siftDown(0);
+				continue;
+			}
+			nbExpandedNodes++;
+			if(nbExpandedNodes > limit)
+				throw new IllegalArgumentException("Search limit has been reached, position is unreachable or too complex to reach.");
+			pop();
+			if(nodeG[node] > nodeRhs[node]){
+				nodeG[node] = nodeRhs[node];
+				updatePredecessors(node);
+			}
+			else{
+				nodeG[node] = INFINITY;
+				updateVertex(node);
+				updatePredecessors(node);
+			}
+		}
+	}
+
+	/**
+	 * Updates all predecessors of the given node: the states from which a robot reaches the state of
+	 * the given node with a single move. Predecessors in cells a robot cannot be located on are skipped.
+	 */
+	@Model
+	private void updatePredecessors(int node){
+		int direction = nodeDirection[node];
+		long x = nodeX[node] - Astar.DIRECTIONS[direction][0];
+		long y = nodeY[node] - Astar.DIRECTIONS[direction][1];
+		if(!isWithinWindow(x, y) || !isPassable(x, y))
+			return;
+		for(int d = 0; d < 4; d++)
+			updateVertex(getNode(x, y, d));
+	}
+
+	/**
+	 * Recomputes the right hand side value of the given node from its successors,
+	 * and registers the node in the open heap if and only if it is inconsistent.
+	 */
+	@Model
+	private void updateVertex(int node){
+		if(!isTarget(nodeX[node], nodeY[node])){
+			double rhs = INFINITY;
+			for(int i = 0; i < 4; i++){
+				int successor = getSuccessor(node, i);
+				if(successor != NO_NODE)
+					rhs = Math.min(rhs, getCost(node, i) + nodeG[successor]);
+			}
+			nodeRhs[node] = rhs;
+		}
+		if(heapPosition[node] >= 0)
+			remove(node);
+		if(nodeG[node] != nodeRhs[node]){
+			nodeKey[node] = calculateKey(node);
+			push(node);
+		}
+	}
+
+	/**
+	 * Returns the successor of the given node that lies on an optimal route.
+	 */
+	@Model
+	private int getBestSuccessor(int node){
+		int result = NO_NODE;
+		double best = INFINITY;
+		for(int i = 0; i < 4; i++){
+			int successor = getSuccessor(node, i);
+			if(successor != NO_NODE){
+				double value = getCost(node, i) + nodeG[successor];
+				if(value < best){
+					best = value;
+					result = successor;
+				}
+			}
+		}
+		if(result == NO_NODE)
+			throw new IllegalArgumentException("Robot is unable to reach given position due to obstacles.");
+		return result;
+	}
+
+	/**
+	 * Returns the existing node reached from the given node by moving in the direction with the given
+	 * ordinal number in DIRECTIONS_ENUM, or NO_NODE if there is no such node.
+	 */
+	@Model
+	private int getSuccessor(int node, int direction){
+		long x = nodeX[node] + Astar.DIRECTIONS[direction][0];
+		long y = nodeY[node] + Astar.DIRECTIONS[direction][1];
+		if(!isWithinWindow(x, y))
+			return NO_NODE;
+		return states.get(packStateKey(x, y, direction));
+	}
+
+	/**
+	 * Returns the energy amount (in Ws) of moving from the state of the given node in the direction with
+	 * the given ordinal number in DIRECTIONS_ENUM, which is infinite if the robot cannot enter that cell.
+	 */
+	@Model
+	private double getCost(int node, int direction){
+		long x = nodeX[node] + Astar.DIRECTIONS[direction][0];
+		long y = nodeY[node] + Astar.DIRECTIONS[direction][1];
+		if(!isPassable(x, y))
+			return INFINITY;
+		int turns = Direction.amountOfEfficientTurnsToDirection(Astar.DIRECTIONS_ENUM[nodeDirection[node]], Astar.DIRECTIONS_ENUM[direction]);
+		return moveCost + turnCosts[turns];
+	}
+
+	/**
+	 * Checks whether the robot of this route planner can move onto the cell with the given coordinates:
+	 * the cell lies on the board and every other board model on it can share its position with the robot.
+	 */
+	@Model
+	private boolean isPassable(long x, long y){
+		if(!board.canHaveAsCoordinate(x, Dimension.HORIZONTAL) || !board.canHaveAsCoordinate(y, Dimension.VERTICAL))
+			return false;
+		List<BoardModel> cell = board.getBoardModelsAt(x, y);
+		if(cell != null){
+			for(BoardModel model : cell){
+				if(model != robot && !model.canSharePositionWith(robot))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the given coordinates are the coordinates of the target position.
+	 */
+	@Model
+	private boolean isTarget(long x, long y){
+		return x == targetX && y == targetY;
+	}
+
+	/**
+	 * Returns the key of the given node: the least of its G score and right hand side value,
+	 * increased by the heuristic estimate from the robot and by the key modifier.
+	 */
+	@Model
+	private double calculateKey(int node){
+		double g = Math.min(nodeG[node], nodeRhs[node]);
+		return g + getManhattanDistance(startX, startY, nodeX[node], nodeY[node])*moveCost + keyModifier;
+	}
+
+	/**
+	 * Checks whether the key of the given node is smaller than the given key and its tie breaker.
+	 */
+	@Model
+	private boolean isBefore(int node, double key, double tieBreaker){
+		if(nodeKey[node] != key)
+			return nodeKey[node] < key;
+		return Math.min(nodeG[node], nodeRhs[node]) < tieBreaker;
+	}
+
+	/**
+	 * Checks whether the first given node precedes the second given node in the open heap.
+	 */
+	@Model
+	private boolean isBefore(int node, int other){
+		return isBefore(node, nodeKey[other], Math.min(nodeG[other], nodeRhs[other]));
+	}
+
+	/**
+	 * Returns the Manhattan distance between the given coordinates, saturated at Long.MAX_VALUE.
+	 */
+	@Model
+	private static long getManhattanDistance(long x1, long y1, long x2, long y2){
+		long dx = Math.abs(x1 - x2);
+		long dy = Math.abs(y1 - y2);
+		if(dx < 0 || dy < 0 || dx > Long.MAX_VALUE - dy)
+			return Long.MAX_VALUE;
+		return dx + dy;
+	}
+
+	/**
+	 * Returns the maximal number of nodes a repair may expand for the given Manhattan distance.
+	 */
+	@Model
+	private static long getSearchLimit(long mhDistance){
+		if(mhDistance > Long.MAX_VALUE / Astar.SEARCH_LIMIT_PER_MHDISTANCEUNIT)
+			return Long.MAX_VALUE;
+		return Astar.SEARCH_LIMIT_PER_MHDISTANCEUNIT * Math.max(mhDistance, 1L);
+	}
+
+	/**
+	 * Discards the search of this route planner and starts anew from the target position.
+	 */
+	@Model
+	private void reset(){
+		states.clear();
+		nbNodes = 0;
+		heapSize = 0;
+		keyModifier = 0;
+		startX = robot.getCoordinate(Dimension.HORIZONTAL);
+		startY = robot.getCoordinate(Dimension.VERTICAL);
+		for(int d = 0; d < 4; d++){
+			int node = getNode(targetX, targetY, d);
+			nodeRhs[node] = 0.0;
+			nodeKey[node] = calculateKey(node);
+			push(node);
+		}
+	}
+
+	/**
+	 * Returns the node of the given state, creating a node with infinite scores
+	 * if the state has no node yet.
+	 */
+	@Model
+	private int getNode(long x, long y, int direction){
+		long key = packStateKey(x, y, direction);
+		int node = states.get(key);
+		if(node == NO_NODE){
+			if(nbNodes == nodeX.length)
+				grow();
+			node = nbNodes++;
+			nodeX[node] = x;
+			nodeY[node] = y;
+			nodeDirection[node] = (byte) direction;
+			nodeG[node] = INFINITY;
+			nodeRhs[node] = INFINITY;
+			heapPosition[node] = -1;
+			states.put(key, node);
+		}
+		return node;
+	}
+
+	/**
+	 * Checks whether the given coordinates lie within the window around the target
+	 * position that can be represented by a packed key.
+	 */
+	@Model
+	private boolean isWithinWindow(long x, long y){
+		long dx = x - targetX;
+		long dy = y - targetY;
+		return dx >= -WINDOW && dx < WINDOW && dy >= -WINDOW && dy < WINDOW;
+	}
+
+	/**
+	 * Variable containing the largest offset from the target position that can be represented
+	 * in the 31 bit halves of a packed key.
+	 */
+	private static final long WINDOW = 1L << 30;
+
+	/**
+	 * Returns the packed key for the given search state: the horizontal and vertical offsets
+	 * from the target position as two 31 bit halves, followed by two bits for the ordinal
+	 * number of its direction in DIRECTIONS_ENUM.
+	 */
+	@Model
+	private long packStateKey(long x, long y, int direction){
+		return (((((x - targetX) & 0x7FFFFFFFL) << 31) | ((y - targetY) & 0x7FFFFFFFL)) << 2) | direction;
+	}
+
+	/**
+	 * Allocates the arrays of the node pool with the given capacity.
+	 */
+	@Model
+	private void allocate(int capacity){
+		nodeX = new long[capacity];
+		nodeY = new long[capacity];
+		nodeG = new double[capacity];
+		nodeRhs = new double[capacity];
+		nodeKey = new double[capacity];
+		nodeDirection = new byte[capacity];
+		heapPosition = new int[capacity];
+		heap = new int[capacity];
+	}
+
+	/**
+	 * Doubles the capacity of the node pool, keeping all nodes.
+	 */
+	@Model
+	private void grow(){
+		int capacity = nodeX.length << 1;
+		nodeX = Arrays.copyOf(nodeX, capacity);
+		nodeY = Arrays.copyOf(nodeY, capacity);
+		nodeG = Arrays.copyOf(nodeG, capacity);
+		nodeRhs = Arrays.copyOf(nodeRhs, capacity);
+		nodeKey = Arrays.copyOf(nodeKey, capacity);
+		nodeDirection = Arrays.copyOf(nodeDirection, capacity);
+		heapPosition = Arrays.copyOf(heapPosition, capacity);
+		heap = Arrays.copyOf(heap, capacity);
+	}
+
+	/**
+	 * Adds the given node to the open heap.
+	 */
+	@Model
+	private void push(int node){
+		heap[heapSize] = node;
+		heapPosition[node] = heapSize;
+		heapSize++;
+		siftUp(heapPosition[node]);
+	}
+
+	/**
+	 * Removes the first node of the open heap.
+	 */
+	@Model
+	private void pop(){
+		remove(heap[0]);
+	}
+
+	/**
+	 * Removes the given node from the open heap.
+	 */
+	@Model
+	private void remove(int node){
+		int position = heapPosition[node];
+		heapSize--;
+		if(position < heapSize){
+			int moved = heap[heapSize];
+			heap[position] = moved;
+			heapPosition[moved] = position;
+			siftDown(position);
+			siftUp(heapPosition[moved]);
+		}
+		heapPosition[node] = -1;
+	}
+
+	/**
+	 * Moves the node at the given heap position up until the heap order is restored.
+	 */
+	@Model
+	private void siftUp(int position){
+		int node = heap[position];
+		while(position > 0){
+			int parentPosition = (position - 1) >>> 1;
+			int parent = heap[parentPosition];
+			if(!isBefore(node, parent))
+				break;
+			heap[position] = parent;
+			heapPosition[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * Moves the node at the given heap position down until the heap order is restored.
+	 */
+	@Model
+	private void siftDown(int position){
+		int node = heap[position];
+		int half = heapSize >>> 1;
+		while(position < half){
+			int child = 2*position + 1;
+			int right = child + 1;
+			if(right < heapSize && isBefore(heap[right], heap[child]))
+				child = right;
+			if(!isBefore(heap[child], node))
+				break;
+			heap[position] = heap[child];
+			heapPosition[heap[child]] = position;
+			position = child;
+		}
+		heap[position] = node;
+		heapPosition[node] = position;
+	}
+
+	/**
+	 * Variable containing the node number used to refer no node.
+	 */
+	private static final int NO_NODE = NodeIndex.NO_NODE;
+
+	/**
+	 * Variable containing the score of nodes from which the target position cannot be reached.
+	 */
+	private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+	/**
+	 * The node index registering every node under its packed state key.
+	 */
+	private final NodeIndex states;
+
+	/**
+	 * The energy amount (in Ws) the robot spends to move one step, which is not a number
+	 * as long as the search has not been started.
+	 */
+	private double moveCost = Double.NaN;
+
+	/**
+	 * The energy amounts (in Ws) the robot spends to turn zero, one and two times.
+	 */
+	private final double[] turnCosts = new double[3];
+
+	/**
+	 * The key modifier, accumulating the heuristic distances the robot has covered since
+	 * the search was started, so the keys in the open heap remain lower bounds.
+	 */
+	private double keyModifier;
+
+	/**
+	 * The horizontal and vertical coordinates of the robot at the last repair.
+	 */
+	private long startX, startY;
+
+	/**
+	 * Variable storing the number of nodes in the node pool.
+	 */
+	private int nbNodes;
+
+	/**
+	 * Variable storing the number of nodes in the open heap.
+	 */
+	private int heapSize;
+
+	/**
+	 * Arrays storing the coordinates of the nodes.
+	 */
+	private long[] nodeX, nodeY;
+
+	/**
+	 * Array storing the G score of every node: the least energy amount (in Ws) to the target position
+	 * found by the expansions so far.
+	 */
+	private double[] nodeG;
+
+	/**
+	 * Array storing the right hand side value of every node: the least energy amount (in Ws) to the
+	 * target position through one of its successors.
+	 */
+	private double[] nodeRhs;
+
+	/**
+	 * Array storing the key of every node in the open heap.
+	 */
+	private double[] nodeKey;
+
+	/**
+	 * Array storing the ordinal number in DIRECTIONS_ENUM of the direction of every node.
+	 */
+	private byte[] nodeDirection;
+
+	/**
+	 * Array storing the position of every node in the open heap, or -1 if the node is not open.
+	 */
+	private int[] heapPosition;
+
+	/**
+	 * Array storing the open heap, ordered by key.
+	 */
+	private int[] heap;
+}
@@ -2,7 +2,7 @@ package roborally.astar;
 
 import java.math.BigInteger;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 import be.kuleuven.cs.som.annotate.*;
@@ -14,6 +14,8 @@ import roborally.model.energy.Energy;
 /**
  * A class of tiles, involving a direction, an energy and the different node values.
  * 
+ * @note	The node values of a tile are stored as primitive longs, since the
+ * 			coordinates of a board never exceed the range of a long.
  * @invar	Each tile value index in the tile value indices of every
  * 			tile must be valid tile value indices.
  * 			| for each tvi in TileValueIndex.values() :
@@ -62,9 +64,6 @@ public class Tile implements Comparable<Tile>{
 	 * 			| 	new.getNodeValueAtIndex(id).equals(BigInteger.ZERO)
 	 */
 	public Tile(){
-		for (TileValueIndex id : TileValueIndex.values()){
-			setNodeValueAtIndex(id, BigInteger.ZERO);
-		}
 	}
 	
 	/**
@@ -82,14 +81,37 @@ public class Tile implements Comparable<Tile>{
 	 * @throws	IllegalArgumentexception
 	 * 			The given tile value index is invalid.
 	 * 			| !TileValueIndex.isValidTileValueIndex(id)
+	 * @throws	IllegalArgumentException
+	 * 			The given value does not fit in a long.
+	 * 			| value.bitLength() > 63
 	 */
 	public void setNodeValueAtIndex(TileValueIndex id, BigInteger value)
 			throws IllegalArgumentException, NullPointerException{
 		if(value == null)
 			throw new NullPointerException("The value refers the null reference.");
+		if(value.bitLength() > 63)
+			throw new IllegalArgumentException("The given value does not fit in a long.");
+		setNodeValueAtIndex(id, value.longValue());
+	}
+	
+	/**
+	 * Sets the tile value of this tile at the given index to the given value.
+	 * 
+	 * @param	id
+	 * 			The tile value index key.
+	 * @param	value
+	 * 			The value that has to be set for the given tile value index.
+	 * @post	The node value at the given index is equal to the given value.
+	 * 			| new.getLongNodeValueAtIndex(id) == value
+	 * @throws	IllegalArgumentexception
+	 * 			The given tile value index is invalid.
+	 * 			| !TileValueIndex.isValidTileValueIndex(id)
+	 */
+	public void setNodeValueAtIndex(TileValueIndex id, long value)
+			throws IllegalArgumentException{
 		if(!TileValueIndex.isValidTileValueIndex(id))
 			throw new IllegalArgumentException("The given tile value index is invalid.");
-		nodeValues.put(id, value);
+		nodeValues[id.ordinal()] = value;
 	}
 	
 	/**
@@ -118,6 +140,23 @@ public class Tile implements Comparable<Tile>{
 		setNodeValueAtIndex(TileValueIndex.F, g.add(h));
 	}
 	
+	/**
+	 * Sets the tile value of the tile value indexes G, H and F of this tile.
+	 * 
+	 * @param 	g
+	 * 			The G tile value to set.
+	 * @param	h
+	 * 			The H tile value to set.
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.G) == g
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.H) == h
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.F) == g + h
+	 */
+	public void setNodeValueGHF(long g, long h){
+		setNodeValueAtIndex(TileValueIndex.G, g);
+		setNodeValueAtIndex(TileValueIndex.H, h);
+		setNodeValueAtIndex(TileValueIndex.F, g + h);
+	}
+	
 	/**
 	 * Sets the tile value of the tile value indexes X and Y of this tile.
 	 * 
@@ -142,6 +181,22 @@ public class Tile implements Comparable<Tile>{
 		setNodeValueAtIndex(TileValueIndex.Y, y);
 	}
 	
+	/**
+	 * Sets the tile value of the tile value indexes X and Y of this tile.
+	 * 
+	 * @param 	x
+	 * 			The X tile value to set.
+	 * @param	y
+	 * 			The Y tile value to set.
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.X) == x
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.Y) == y
+	 */
+	@Raw
+	public void setNodeValueXY(long x, long y){
+		setNodeValueAtIndex(TileValueIndex.X, x);
+		setNodeValueAtIndex(TileValueIndex.Y, y);
+	}
+	
 	/**
 	 * Returns the position of this tile.
 	 * 
@@ -151,7 +206,7 @@ public class Tile implements Comparable<Tile>{
 	 * 			| 							 getNodeValueAtIndex(TileValueIndex.Y).longValue()))
 	 */
 	public Position getPosition(){
-		return new Position(getNodeValueAtIndex(TileValueIndex.X).longValue(), getNodeValueAtIndex(TileValueIndex.Y).longValue());
+		return new Position(getLongNodeValueAtIndex(TileValueIndex.X), getLongNodeValueAtIndex(TileValueIndex.Y));
 	}
 	
 	/**
@@ -178,6 +233,22 @@ public class Tile implements Comparable<Tile>{
 		setNodeValueAtIndex(TileValueIndex.PY, py);
 	}
 	
+	/**
+	 * Sets the tile value of the tile value indexes PX and PY of this tile.
+	 * 
+	 * @param 	px
+	 * 			The PX tile value that has to be set.
+	 * @param	py
+	 * 			The PY tile value that has to be set.
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.PX) == px
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.PY) == py
+	 */
+	@Raw
+	public void setNodeValuePXPY(long px, long py){
+		setNodeValueAtIndex(TileValueIndex.PX, px);
+		setNodeValueAtIndex(TileValueIndex.PY, py);
+	}
+	
 	/**
 	 * Returns the position of the parent position of this tile.
 	 * 
@@ -187,7 +258,7 @@ public class Tile implements Comparable<Tile>{
 	 * 			| 							 getNodeValueAtIndex(TileValueIndex.PY).longValue()))
 	 */
 	public Position getParentPosition(){
-		return new Position(getNodeValueAtIndex(TileValueIndex.PX).longValue(), getNodeValueAtIndex(TileValueIndex.PY).longValue());
+		return new Position(getLongNodeValueAtIndex(TileValueIndex.PX), getLongNodeValueAtIndex(TileValueIndex.PY));
 	}
 	
 	/**
@@ -209,13 +280,25 @@ public class Tile implements Comparable<Tile>{
 		setNodeValueAtIndex(TileValueIndex.T, t);
 	}
 	
+	/**
+	 * Sets the tile value of the tile value index T of this tile.
+	 * 
+	 * @param 	t
+	 * 			The T tile value to set.
+	 * @post	| new.getLongNodeValueAtIndex(TileValueIndex.T) == t
+	 */
+	@Raw
+	public void setNodeValueT(long t){
+		setNodeValueAtIndex(TileValueIndex.T, t);
+	}
+	
 	/**
 	 * Returns the tile value corresponding to the given tile value index.
 	 * 
 	 * @param 	id
 	 * 			The tile value index of which the value has to be returned.
 	 * @return	Returns the tile value corresponding to the given tile value index.
-	 * 			| result == getNodeValues().get(id)
+	 * 			| result.equals(BigInteger.valueOf(getLongNodeValueAtIndex(id)))
 	 * @throws	IllegalArgumentException
 	 * 			The given tile value index is invalid.
 	 * 			!TileValueIndex.isValidTileValueIndex(id)
@@ -223,23 +306,44 @@ public class Tile implements Comparable<Tile>{
 	@Raw
 	public BigInteger getNodeValueAtIndex(TileValueIndex id)
 			throws IllegalArgumentException{
+		return BigInteger.valueOf(getLongNodeValueAtIndex(id));
+	}
+	
+	/**
+	 * Returns the tile value corresponding to the given tile value index.
+	 * 
+	 * @param 	id
+	 * 			The tile value index of which the value has to be returned.
+	 * @throws	IllegalArgumentException
+	 * 			The given tile value index is invalid.
+	 * 			!TileValueIndex.isValidTileValueIndex(id)
+	 */
+	@Basic @Raw
+	public long getLongNodeValueAtIndex(TileValueIndex id)
+			throws IllegalArgumentException{
 		if(!TileValueIndex.isValidTileValueIndex(id))
 			throw new IllegalArgumentException("The given tile value index is invalid.");
-		return nodeValues.get(id);
+		return nodeValues[id.ordinal()];
 	}
 	
 	/**
 	 * Returns the node values of this tile as an unmodifiable collection.
+	 * 
+	 * @return	| for each TileValueIndex id in TileValueIndex.values() :
+	 * 			|	result.get(id).equals(getNodeValueAtIndex(id))
 	 */
-	@Basic @Raw
+	@Raw
 	public Map<TileValueIndex, BigInteger> getNodeValues(){
-		return Collections.unmodifiableMap(nodeValues);
+		Map<TileValueIndex, BigInteger> result = new EnumMap<TileValueIndex, BigInteger>(TileValueIndex.class);
+		for (TileValueIndex id : TileValueIndex.values())
+			result.put(id, getNodeValueAtIndex(id));
+		return Collections.unmodifiableMap(result);
 	}
 	
 	/**
-	 * Map containing the value of a tile as value an its value index as key.
+	 * Array containing the values of a tile, indexed by the ordinal number of their value index.
 	 */
-	private Map<TileValueIndex, BigInteger> nodeValues = new HashMap<TileValueIndex, BigInteger>();
+	private final long[] nodeValues = new long[TileValueIndex.values().length];
 	
 	/**
 	 * Sets the energy of this tile to the given energy.
@@ -328,12 +432,12 @@ public class Tile implements Comparable<Tile>{
 			throws NullPointerException{
 		if(o == null)
 			throw new NullPointerException("The given argument refers the null reference.");
-		BigInteger thisF = getNodeValueAtIndex(TileValueIndex.F);
-		BigInteger oF = o.getNodeValueAtIndex(TileValueIndex.F);
-		if (thisF.compareTo(oF) == 0){
+		long thisF = getLongNodeValueAtIndex(TileValueIndex.F);
+		long oF = o.getLongNodeValueAtIndex(TileValueIndex.F);
+		if (thisF == oF){
 			return getEnergy().compareTo(o.getEnergy());
 		}
-		else if (thisF.compareTo(oF) > 0)
+		else if (thisF > oF)
 			return 1;
 		else
 			return -1;
@@ -0,0 +1,189 @@
+package roborally.astar.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.astar.*;
+import roborally.board.*;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.*;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of A-star engines.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class AstarEngineTest {
+
+	AstarEngine engine;
+	Board board;
+	Robot robot;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		engine = new AstarEngine(2);
+		board = new Board(20L, 20L);
+		robot = new Robot(board, new Position(1L, 1L), new Accu(new Energy(10000)), Direction.RIGHT);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct(){
+		assertEquals(0, engine.getNbNodes());
+		assertEquals(2, engine.getCapacity());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void construct_invalidCapacity(){
+		new AstarEngine(0);
+	}
+
+	@Test
+	public void search_straightLine(){
+		int end = engine.search(robot, new Position(5L, 1L));
+		assertEquals(5L, engine.getX(end));
+		assertEquals(1L, engine.getY(end));
+		assertEquals(0L, engine.getTurns(end));
+		assertEquals(10000 - 4*500, engine.getEnergyAmount(end), 0.0001);
+		assertEquals(end, engine.getReachedCell(5L, 1L));
+		assertEquals(5, engine.getPositionRoute(end).size());
+		assertTrue(engine.getCapacity() > 2);
+	}
+
+	@Test
+	public void search_pathFollowsParents(){
+		new Wall(board, new Position(3L, 0L));
+		new Wall(board, new Position(3L, 1L));
+		new Wall(board, new Position(3L, 2L));
+		int node = engine.search(robot, new Position(5L, 1L));
+		int length = 0;
+		while(engine.getParent(node) != AstarEngine.NO_NODE){
+			int parent = engine.getParent(node);
+			assertEquals(1L, Math.abs(engine.getX(node) - engine.getX(parent)) + Math.abs(engine.getY(node) - engine.getY(parent)));
+			assertTrue(board.canHaveBoardModelAtNoBindingCheck(engine.getPosition(node), robot));
+			node = parent;
+			length++;
+		}
+		assertEquals(new Position(1L, 1L), engine.getPosition(node));
+		assertEquals(8, length);
+	}
+
+	@Test
+	public void search_reusedEngine(){
+		int first = engine.search(robot, new Position(15L, 12L));
+		double energy = engine.getEnergyAmount(first);
+		engine.search(robot, new Position(2L, 1L));
+		int second = engine.search(robot, new Position(15L, 12L));
+		assertEquals(energy, engine.getEnergyAmount(second), 0);
+	}
+
+	@Test
+	public void search_turnCostsAreExact(){
+		new Wall(board, new Position(2L, 5L));
+		robot = new Robot(board, new Position(1L, 5L), new Accu(new Energy(10000)), Direction.LEFT);
+		int end = engine.search(robot, new Position(3L, 5L));
+		assertEquals(4*500 + 3*100, engine.getG(end), 0.0001);
+	}
+
+	@Test
+	public void flood(){
+		robot = new Robot(board, new Position(10L, 10L), new Accu(new Energy(1100)), Direction.UP);
+		engine.flood(robot);
+		assertEquals(10, engine.getNbReachedCells());
+		for(int i = 0; i < engine.getNbReachedCells(); i++){
+			int node = engine.getReachedCellAt(i);
+			assertTrue(engine.getEnergyAmount(node) >= 0);
+			assertEquals(node, engine.getReachedCell(engine.getX(node), engine.getY(node)));
+		}
+		assertEquals(100.0, engine.getEnergyAmount(engine.getReachedCell(10L, 8L)), 0.0001);
+		assertEquals(AstarEngine.NO_NODE, engine.getReachedCell(10L, 12L));
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void search_unreachable(){
+		new Wall(board, new Position(0L, 1L));
+		new Wall(board, new Position(1L, 0L));
+		new Wall(board, new Position(2L, 1L));
+		new Wall(board, new Position(1L, 2L));
+		engine.search(robot, new Position(5L, 5L));
+	}
+
+	@Test (expected = NullPointerException.class)
+	public void search_nullPosition(){
+		engine.search(robot, null);
+	}
+
+	@Test
+	public void search_expandsOnlyTheDirectRoute(){
+		board = new Board(200L, 200L);
+		robot = new Robot(board, new Position(0L, 0L), new Accu(new Energy(20000)), Direction.RIGHT);
+		int end = engine.search(robot, new Position(30L, 0L));
+		assertEquals(20000 - 30*500, engine.getEnergyAmount(end), 0.0001);
+		assertEquals(31L, engine.getNbExpandedNodes());
+	}
+
+	@Test
+	public void search_expandedNodesInMaze(){
+		for(long y = 0L; y < 19L; y++)
+			new Wall(board, new Position(5L, y));
+		for(long y = 1L; y <= 20L; y++)
+			new Wall(board, new Position(10L, y));
+		robot = new Robot(board, new Position(0L, 0L), new Accu(new Energy(100000)), Direction.UP);
+		int end = engine.search(robot, new Position(15L, 0L));
+		assertEquals(15L, engine.getX(end));
+		assertTrue(engine.getNbExpandedNodes() > 0);
+		assertTrue(engine.getNbExpandedNodes() <= engine.getNbNodes());
+	}
+
+	@Test
+	public void getHeuristicEstimate(){
+		assertEquals(0.0, Astar.getHeuristicEstimate(3L, 4L, Direction.UP, 3L, 4L, 500, 100), 0);
+		assertEquals(5*500.0, Astar.getHeuristicEstimate(3L, 4L, Direction.RIGHT, 8L, 4L, 500, 100), 0);
+		assertEquals(5*500.0 + 200, Astar.getHeuristicEstimate(3L, 4L, Direction.LEFT, 8L, 4L, 500, 100), 0);
+		assertEquals(5*500.0 + 100, Astar.getHeuristicEstimate(3L, 4L, Direction.UP, 5L, 1L, 500, 100), 0);
+		assertEquals(7*500.0 + 200, Astar.getHeuristicEstimate(3L, 4L, Direction.UP, 5L, 9L, 500, 100), 0);
+	}
+
+	@Test
+	public void getMinimalTurnsToFace(){
+		assertEquals(0, Astar.getMinimalTurnsToFace(3L, 4L, Direction.DOWN, 3L, 9L));
+		assertEquals(1, Astar.getMinimalTurnsToFace(3L, 4L, Direction.LEFT, 3L, 9L));
+		assertEquals(2, Astar.getMinimalTurnsToFace(3L, 4L, Direction.UP, 3L, 9L));
+		assertEquals(1, Astar.getMinimalTurnsToFace(3L, 4L, Direction.RIGHT, 5L, 9L));
+		assertEquals(2, Astar.getMinimalTurnsToFace(3L, 4L, Direction.LEFT, 5L, 9L));
+	}
+
+	@Test
+	public void nodeIndex(){
+		NodeIndex index = new NodeIndex(0);
+		for(int i = 0; i < 1000; i++)
+			index.put(((long) i << 32) | (i*7 & 0xFFFFFFFFL), i);
+		assertEquals(1000, index.size());
+		for(int i = 0; i < 1000; i++)
+			assertEquals(i, index.get(((long) i << 32) | (i*7 & 0xFFFFFFFFL)));
+		assertEquals(NodeIndex.NO_NODE, index.get(-1L));
+		index.clear();
+		assertEquals(0, index.size());
+		assertEquals(NodeIndex.NO_NODE, index.get(0L));
+	}
+}
@@ -0,0 +1,153 @@
+package roborally.astar.test;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.astar.*;
+import roborally.board.*;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.*;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of A-star algorithms.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class AstarTest {
+
+	Random random;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		random = new Random(7L);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	private Tile createTile(long x, long y, double energy){
+		Tile tile = new Tile();
+		tile.setNodeValueXY(x, y);
+		tile.setNodeValuePXPY(x, y);
+		tile.setEnergy(new Energy(energy));
+		tile.setDirection(Direction.UP);
+		return tile;
+	}
+
+	private List<Tile> createTiles(int amount, int size){
+		List<Tile> result = new ArrayList<Tile>();
+		for(int i = 0; i < amount; i++)
+			result.add(createTile(random.nextInt(size), random.nextInt(size), random.nextInt(1000)));
+		return result;
+	}
+
+	@Test
+	public void findOptimalRoute_adjacentTiles(){
+		List<Tile> tiles1 = new ArrayList<Tile>();
+		List<Tile> tiles2 = new ArrayList<Tile>();
+		tiles1.add(createTile(0L, 0L, 500));
+		tiles1.add(createTile(4L, 0L, 100));
+		tiles1.add(createTile(4L, 1L, 300));
+		tiles2.add(createTile(9L, 0L, 900));
+		tiles2.add(createTile(5L, 0L, 200));
+		tiles2.add(createTile(5L, 1L, 150));
+		Tile[] result = Astar.findOptimalRoute(tiles1, tiles2);
+		assertSame(tiles1.get(2), result[0]);
+		assertSame(tiles2.get(2), result[1]);
+	}
+
+	@Test
+	public void findOptimalRoute_sameAsPairwiseComparison(){
+		for(int run = 0; run < 200; run++){
+			List<Tile> tiles1 = createTiles(1 + random.nextInt(30), 5 + random.nextInt(40));
+			List<Tile> tiles2 = createTiles(1 + random.nextInt(30), 5 + random.nextInt(40));
+			BigInteger distance = null;
+			Energy energy = null;
+			for(Tile tile1 : tiles1)
+				for(Tile tile2 : tiles2){
+					if(tile1.getPosition().equals(tile2.getPosition()))
+						continue;
+					BigInteger d = tile1.getPosition().getManhattanDistanceSeparation(tile2.getPosition());
+					Energy e = tile1.getEnergy().add(tile2.getEnergy());
+					if(distance == null || d.compareTo(distance) < 0 || (d.equals(distance) && e.compareTo(energy) > 0)){
+						distance = d;
+						energy = e;
+					}
+				}
+			Tile[] result = Astar.findOptimalRoute(tiles1, tiles2);
+			if(distance == null){
+				assertNull(result[0]);
+				continue;
+			}
+			assertEquals(distance, result[0].getPosition().getManhattanDistanceSeparation(result[1].getPosition()));
+			assertEquals(0, energy.compareTo(result[0].getEnergy().add(result[1].getEnergy())));
+		}
+	}
+
+	@Test
+	public void findOptimalRoute_tilesTooFarApartToIndex(){
+		List<Tile> tiles1 = new ArrayList<Tile>();
+		List<Tile> tiles2 = new ArrayList<Tile>();
+		for(long i = 0; i < 40; i++){
+			tiles1.add(createTile(Long.MAX_VALUE - i, 3L, 100));
+			tiles2.add(createTile(i, 3L, 100));
+		}
+		tiles2.add(createTile(Long.MAX_VALUE - 50L, 4L, 300));
+		Tile[] result = Astar.findOptimalRoute(tiles1, tiles2);
+		assertSame(tiles1.get(39), result[0]);
+		assertSame(tiles2.get(40), result[1]);
+	}
+
+	@Test
+	public void findOptimalRoute_extremeCoordinates(){
+		List<Tile> tiles1 = new ArrayList<Tile>();
+		List<Tile> tiles2 = new ArrayList<Tile>();
+		tiles1.add(createTile(Long.MIN_VALUE, 0L, 100));
+		tiles1.add(createTile(Long.MAX_VALUE, 0L, 100));
+		tiles2.add(createTile(Long.MIN_VALUE + 1L, 0L, 50));
+		tiles2.add(createTile(Long.MAX_VALUE, 2L, 500));
+		Tile[] result = Astar.findOptimalRoute(tiles1, tiles2);
+		assertSame(tiles1.get(0), result[0]);
+		assertSame(tiles2.get(0), result[1]);
+	}
+
+	@Test (expected = NullPointerException.class)
+	public void findOptimalRoute_nullList(){
+		Astar.findOptimalRoute(new ArrayList<Tile>(), null);
+	}
+
+	@Test
+	public void generateOptimalPositionLists_separatedRobots(){
+		Board board = new Board(10L, 10L);
+		for(long y = 0L; y <= 10L; y++)
+			new Wall(board, new Position(5L, y));
+		Robot first = new Robot(board, new Position(1L, 5L), new Accu(new Energy(20000)), Direction.RIGHT);
+		Robot second = new Robot(board, new Position(9L, 5L), new Accu(new Energy(20000)), Direction.LEFT);
+		List<List<Position>> result = Astar.generateOptimalPositionLists(first, second);
+		assertEquals(new Position(4L, 5L), result.get(0).get(result.get(0).size()-1));
+		assertEquals(new Position(6L, 5L), result.get(1).get(result.get(1).size()-1));
+		assertEquals(new Position(1L, 5L), result.get(0).get(0));
+		assertEquals(new Position(9L, 5L), result.get(1).get(0));
+	}
+}
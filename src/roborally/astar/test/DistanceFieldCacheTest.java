@@ -0,0 +1,207 @@
+package roborally.astar.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.astar.*;
+import roborally.board.*;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.*;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of caches of distance fields.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class DistanceFieldCacheTest {
+
+	Board board;
+	DistanceFieldCache cache;
+	AstarEngine engine;
+	Robot robot;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		board = new Board(20L, 20L);
+		cache = board.getDistanceFieldCache();
+		engine = new AstarEngine();
+		robot = new Robot(board, new Position(1L, 1L), new Accu(new Energy(10000)), Direction.RIGHT);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void getEnergyRequired_straightLine(){
+		assertEquals(4*500, cache.getEnergyRequired(robot, new Position(5L, 1L), engine).getEnergyAmount(), 0.0001);
+		assertEquals(1, cache.getNbFields());
+	}
+
+	@Test
+	public void getEnergyRequired_reusedField(){
+		Robot other = new Robot(board, new Position(5L, 9L), new Accu(new Energy(10000)), Direction.UP);
+		cache.getEnergyRequired(robot, new Position(5L, 1L), engine);
+		cache.getEnergyRequired(other, new Position(5L, 1L), engine);
+		assertEquals(1, cache.getNbFields());
+		assertEquals(8*500, cache.getEnergyRequired(other, new Position(5L, 1L), engine).getEnergyAmount(), 0.0001);
+	}
+
+	@Test
+	public void getEnergyRequired_sameAsAstar(){
+		Random random = new Random(11L);
+		for(int run = 0; run < 20; run++){
+			board = new Board(15L, 15L);
+			for(int i = 0; i < 50; i++){
+				Position position = new Position(random.nextInt(16), random.nextInt(16));
+				if(board.getBoardModelsAt(position) == null)
+					new Wall(board, position);
+			}
+			Position target = new Position(random.nextInt(16), random.nextInt(16));
+			if(board.getBoardModelsAt(target) != null)
+				continue;
+			for(int i = 0; i < 10; i++){
+				Position position = new Position(random.nextInt(16), random.nextInt(16));
+				if(board.getBoardModelsAt(position) != null || position.equals(target))
+					continue;
+				robot = new Robot(board, position, new Accu(new Energy(100000)), Direction.values()[random.nextInt(4)]);
+				Energy expected = null;
+				try{
+					expected = Astar.getEnergyRequiredForAstarRoute(robot, target, engine);
+				}
+				catch(IllegalArgumentException e){
+				}
+				try{
+					Energy energy = board.getDistanceFieldCache().getEnergyRequired(robot, target, engine);
+					assertNotNull(expected);
+					assertEquals(expected.getEnergyAmount(), energy.getEnergyAmount(), 0.0001);
+				}
+				catch(IllegalArgumentException e){
+					assertNull(expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void repairCell_wallOnRoute(){
+		cache.getEnergyRequired(robot, new Position(5L, 1L), engine);
+		new Wall(board, new Position(3L, 1L));
+		assertEquals(1, cache.getNbFields());
+		assertEquals(6*500 + 3*100, cache.getEnergyRequired(robot, new Position(5L, 1L), engine).getEnergyAmount(), 0.0001);
+	}
+
+	@Test
+	public void repairCell_wallRemovedFromRoute(){
+		Wall wall = new Wall(board, new Position(3L, 1L));
+		assertEquals(6*500 + 3*100, cache.getEnergyRequired(robot, new Position(5L, 1L), engine).getEnergyAmount(), 0.0001);
+		board.removeBoardModel(wall);
+		assertEquals(1, cache.getNbFields());
+		assertEquals(4*500, cache.getEnergyRequired(robot, new Position(5L, 1L), engine).getEnergyAmount(), 0.0001);
+	}
+
+	@Test
+	public void repairCell_unrelatedCell(){
+		cache.getEnergyRequired(robot, new Position(5L, 1L), engine);
+		new Wall(board, new Position(18L, 18L));
+		assertEquals(1, cache.getNbFields());
+	}
+
+	@Test
+	public void repairCell_sameAsAstarWhileBoardChanges(){
+		Random random = new Random(13L);
+		Position target = new Position(10L, 10L);
+		Robot[] others = new Robot[4];
+		for(int i = 0; i < others.length; i++)
+			others[i] = new Robot(board, new Position(4L + 3*i, 6L), new Accu(new Energy(100000), new Energy(100000)), Direction.UP);
+		Wall[] walls = new Wall[60];
+		for(int step = 0; step < 300; step++){
+			int change = random.nextInt(3);
+			if(change == 0){
+				Robot other = others[random.nextInt(others.length)];
+				try{
+					other.turnToDirection(Direction.values()[random.nextInt(4)]);
+					other.move();
+				}
+				catch(IllegalArgumentException e){
+				}
+			}
+			else{
+				int i = random.nextInt(walls.length);
+				Position position = new Position(random.nextInt(20), random.nextInt(20));
+				if(walls[i] != null){
+					board.removeBoardModel(walls[i]);
+					walls[i] = null;
+				}
+				else if(board.getBoardModelsAt(position) == null && !position.equals(target))
+					walls[i] = new Wall(board, position);
+			}
+			if(board.getBoardModelsAt(target) != null)
+				continue;
+			Energy expected = null;
+			try{
+				expected = Astar.getEnergyRequiredForAstarRoute(robot, target, engine);
+			}
+			catch(IllegalArgumentException e){
+			}
+			try{
+				Energy energy = cache.getEnergyRequired(robot, target, engine);
+				assertNotNull(expected);
+				assertEquals(expected.getEnergyAmount(), energy.getEnergyAmount(), 0.0001);
+			}
+			catch(IllegalArgumentException e){
+				assertNull(expected);
+			}
+			assertEquals(1, cache.getNbFields());
+		}
+	}
+
+	@Test
+	public void setMemoryBudget_evictsLeastRecentlyUsed(){
+		cache.getEnergyRequired(robot, new Position(5L, 1L), engine);
+		cache.getEnergyRequired(robot, new Position(1L, 5L), engine);
+		cache.setMemoryBudget(cache.getNbNodes() - 1);
+		assertEquals(1, cache.getNbFields());
+		assertTrue(cache.getNbNodes() < cache.getMemoryBudget());
+	}
+
+	@Test
+	public void getEnergyRequired_beyondMemoryBudget(){
+		cache.setMemoryBudget(8);
+		assertEquals(10*500 + 100, cache.getEnergyRequired(robot, new Position(6L, 6L), engine).getEnergyAmount(), 0.0001);
+		assertTrue(cache.getNbNodes() <= 8);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void getEnergyRequired_unreachable(){
+		new Wall(board, new Position(0L, 1L));
+		new Wall(board, new Position(1L, 0L));
+		new Wall(board, new Position(2L, 1L));
+		new Wall(board, new Position(1L, 2L));
+		cache.getEnergyRequired(robot, new Position(5L, 5L), engine);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void setMemoryBudget_invalid(){
+		cache.setMemoryBudget(0);
+	}
+}
@@ -0,0 +1,170 @@
+package roborally.astar.test;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.astar.*;
+import roborally.board.*;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.*;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of route planners.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class RoutePlannerTest {
+
+	Board board;
+	Robot robot;
+	RoutePlanner planner;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		board = new Board(20L, 20L);
+		robot = new Robot(board, new Position(1L, 1L), new Accu(new Energy(20000)), Direction.RIGHT);
+		planner = new RoutePlanner(robot, new Position(9L, 1L));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct(){
+		assertSame(robot, planner.getRobot());
+		assertSame(board, planner.getBoard());
+		assertTrue(board.hasAsBoardListener(planner));
+		assertFalse(planner.isTerminated());
+	}
+
+	@Test
+	public void getRoute_straightLine(){
+		List<Position> route = planner.getRoute();
+		assertEquals(9, route.size());
+		assertEquals(new Position(1L, 1L), route.get(0));
+		assertEquals(new Position(9L, 1L), route.get(8));
+		assertEquals(8*500, planner.getEnergyRequired().getEnergyAmount(), 0.0001);
+	}
+
+	@Test
+	public void getRoute_repairedAfterWall(){
+		planner.getRoute();
+		new Wall(board, new Position(5L, 1L));
+		assertEquals(10*500 + 3*100, planner.getEnergyRequired().getEnergyAmount(), 0.0001);
+		assertFalse(planner.getRoute().contains(new Position(5L, 1L)));
+	}
+
+	@Test
+	public void moveAlong_followsRepairedRoute(){
+		Random random = new Random(3L);
+		Position target = planner.getTarget();
+		while(!robot.getPosition().equals(target)){
+			Position wall = new Position(random.nextInt(21), random.nextInt(21));
+			if(board.getBoardModelsAt(wall) == null && !wall.equals(target))
+				new Wall(board, wall);
+			Energy expected = Astar.getEnergyRequiredForAstarRoute(robot, target);
+			assertEquals(expected.getEnergyAmount(), planner.getEnergyRequired().getEnergyAmount(), 0.0001);
+			robot.moveAlong(planner);
+		}
+	}
+
+	@Test
+	public void getEnergyRequired_sameAsAstarWithMovingRobots(){
+		Random random = new Random(5L);
+		Robot[] others = new Robot[5];
+		for(int i = 0; i < others.length; i++)
+			others[i] = new Robot(board, new Position(3L + 3*i, 2L), new Accu(new Energy(20000)), Direction.UP);
+		for(long y = 0L; y < 15L; y++)
+			new Wall(board, new Position(5L, y));
+		for(int step = 0; step < 30; step++){
+			Robot other = others[random.nextInt(others.length)];
+			try{
+				other.turnToDirection(Direction.values()[random.nextInt(4)]);
+				other.move();
+			}
+			catch(IllegalArgumentException e){
+			}
+			Energy expected = null;
+			try{
+				expected = Astar.getEnergyRequiredForAstarRoute(robot, planner.getTarget());
+			}
+			catch(IllegalArgumentException e){
+			}
+			try{
+				Energy energy = planner.getEnergyRequired();
+				assertNotNull(expected);
+				assertEquals(expected.getEnergyAmount(), energy.getEnergyAmount(), 0.0001);
+			}
+			catch(IllegalArgumentException e){
+				assertNull(expected);
+			}
+		}
+	}
+
+	@Test
+	public void getEnergyRequired_repairExpandsFewerNodes(){
+		planner = new RoutePlanner(robot, new Position(15L, 15L));
+		planner.getEnergyRequired();
+		long initial = planner.getNbExpandedNodes();
+		new Wall(board, new Position(19L, 19L));
+		planner.getEnergyRequired();
+		assertTrue(planner.getNbExpandedNodes() < initial);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void getRoute_unreachable(){
+		new Wall(board, new Position(8L, 1L));
+		new Wall(board, new Position(9L, 0L));
+		new Wall(board, new Position(10L, 1L));
+		new Wall(board, new Position(9L, 2L));
+		planner.getRoute();
+	}
+
+	@Test
+	public void terminate(){
+		planner.terminate();
+		assertTrue(planner.isTerminated());
+		assertFalse(board.hasAsBoardListener(planner));
+	}
+
+	@Test
+	public void moveAlong_terminatesAtTarget(){
+		while(!robot.getPosition().equals(planner.getTarget()))
+			robot.moveAlong(planner);
+		assertTrue(planner.isTerminated());
+		assertFalse(board.hasAsBoardListener(planner));
+	}
+
+	@Test (expected = IllegalStateException.class)
+	public void getRoute_terminated(){
+		planner.terminate();
+		planner.getRoute();
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void moveAlong_otherRobot(){
+		Robot other = new Robot(board, new Position(3L, 3L), new Accu(new Energy(1000)), Direction.UP);
+		other.moveAlong(planner);
+	}
+}
@@ -1,6 +1,7 @@
 package roborally.board;
 
 import roborally.Terminatable;
+import roborally.astar.DistanceFieldCache;
 import roborally.model.*;
 import roborally.model.inventory.item.InventoryModel;
 import be.kuleuven.cs.som.annotate.*;
@@ -8,6 +9,7 @@ import be.kuleuven.cs.som.annotate.*;
 import	java.util.*;
 
 import roborally.conditiontester.ConditionTester;
+import roborally.conditiontester.QueryHint;
 
 /**
  * A class of two dimensional boards involving a horizontal size, a vertical size
@@ -70,12 +72,55 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			| !isValidSizeAt(Dimension.HORIZONTAL, sizeX) || !isValidSizeAt(Dimension.VERTICAL,sizeY))
 	 */
 	public Board(long sizeX, long sizeY) throws IllegalArgumentException {
+		this(sizeX, sizeY, new LongKeyedBoardStorage());
+	}
+	
+	/**
+	 * Creates a new board with the given size for the first (horizontal)
+	 * and second (vertical) dimension, that registers its board models
+	 * in the given board storage.
+	 * 
+	 * @param 	sizeX
+	 * 			The size of the board in the first 'X', horizontal dimension.
+	 * @param 	sizeY
+	 * 			The size of the board in the second 'Y', vertical dimension.
+	 * @param	storage
+	 * 			The board storage for the board models of the new board.
+	 * @post	The new size of the board is set to sizeX by sizeY.
+	 * 			| new.getSize() == {sizeX, sizeY}
+	 * @post	The new board isn't terminated.
+	 * 			| new.isTerminated() == false
+	 * @throws 	IllegalArgumentException
+	 * 			At least one of the given size values is invalid for a board.
+	 * 			| !isValidSizeAt(Dimension.HORIZONTAL, sizeX) || !isValidSizeAt(Dimension.VERTICAL,sizeY))
+	 * @throws	IllegalArgumentException
+	 * 			The given board storage is not a valid board storage for a new board.
+	 * 			| !isValidBoardStorage(storage)
+	 */
+	public Board(long sizeX, long sizeY, BoardStorage storage) throws IllegalArgumentException {
 		if(!isValidSizeAt(Dimension.HORIZONTAL, sizeX) || !isValidSizeAt(Dimension.VERTICAL,sizeY))
 			throw new IllegalArgumentException("At least one of the given sizes is invalid.");
+		if(!isValidBoardStorage(storage))
+			throw new IllegalArgumentException("The given board storage is invalid.");
 		size = new long[]{sizeX, sizeY};
+		boardModels = storage;
 		this.isTerminated = false;
 	}
 	
+	/**
+	 * Checks whether the given board storage is a valid board storage
+	 * for a new board.
+	 * 
+	 * @param 	storage
+	 * 			The board storage that has to be checked.
+	 * @return	True if and only if the given board storage doesn't refer
+	 * 			the null reference and doesn't contain any cells.
+	 * 			| result == (storage != null) && storage.isEmpty()
+	 */
+	public static boolean isValidBoardStorage(BoardStorage storage){
+		return (storage != null) && storage.isEmpty();
+	}
+	
 	/**
 	 * Terminates this board and all board models situated on this board.
 	 * 
@@ -259,7 +304,20 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public boolean containsPositionKey(Position position){
-		return boardModels.containsKey(position);
+		return position != null && boardModels.containsCell(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
+	}
+	
+	/**
+	 * Returns the list of board models registered for the given position
+	 * in the board storage of this board, or the null reference if no
+	 * such list is registered.
+	 * 
+	 * @param 	position
+	 * 			The position of the cell.
+	 */
+	@Raw @Model
+	private ArrayList<BoardModel> getCellAt(Position position){
+		return boardModels.getCell(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
 	}
 	
 	/**
@@ -273,14 +331,12 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			| 	result == true
 	 * 			| end for
 	 * 			| result == false
+	 * @note	The check is answered by the reverse index of this board
+	 * 			in constant time, instead of scanning every cell.
 	 */
 	@Raw
 	public boolean containsBoardModel_allCheck(BoardModel boardModel){
-		for(Position key : boardModels.keySet()){
-			if(getBoardModelsAt(key).contains(boardModel))
-				return true;
-		}
-		return false;
+		return modelCells.containsKey(boardModel);
 	}
 	
 	/**
@@ -295,8 +351,7 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public boolean containsBoardModel_positionCheck(BoardModel boardModel){
-		return boardModel.getPosition() != null && containsPositionKey(boardModel.getPosition()) 
-				&& getBoardModelsAt(boardModel.getPosition()).contains(boardModel);
+		return containsBoardModel(boardModel, boardModel.getPosition());
 	}
 	
 	/**
@@ -312,7 +367,10 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public boolean containsBoardModel(BoardModel boardModel, Position position){
-		return position != null && containsPositionKey(position) && getBoardModelsAt(position).contains(boardModel);
+		if(position == null)
+			return false;
+		ArrayList<BoardModel> cell = modelCells.get(boardModel);
+		return cell != null && cell == getCellAt(position);
 	}
 	
 	/**
@@ -370,18 +428,41 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public boolean canHaveBoardModelAtNoBindingCheck(Position position, @Raw BoardModel boardModel){
+		if(position == null)
+			return false;
+		return canHaveBoardModelAtNoBindingCheck(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL), boardModel);
+	}
+	
+	/**
+	 * Checks if the given board model could be added to this board onto
+	 * the cell with the given coordinates. No board binding check included.
+	 * 
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @param 	boardModel
+	 * 			The board model that has to be added to this board.
+	 * @return	The result is the same as checking the position with the given coordinates.
+	 * 			| result == canHaveBoardModelAtNoBindingCheck(new Position(x, y), boardModel)
+	 * @note	This variant creates no position objects and is used by the path finding
+	 * 			algorithms for every cell they explore.
+	 */
+	@Raw
+	public boolean canHaveBoardModelAtNoBindingCheck(long x, long y, @Raw BoardModel boardModel){
 		if(this.isTerminated())
 			return false;		
-		if(boardModel == null || boardModel.isTerminated() || position == null)
+		if(boardModel == null || boardModel.isTerminated())
 			return false;
 		if(InventoryModel.class.isInstance(boardModel)){
 			if(((InventoryModel) boardModel).isPickedUp())
 				return false;
 		}
-		if(!canHaveAsCoordinates(position.getCoordinates()))
+		if(!canHaveAsCoordinate(x, Dimension.HORIZONTAL) || !canHaveAsCoordinate(y, Dimension.VERTICAL))
 			return false;
-		if(containsPositionKey(position)){
-			for(BoardModel model : boardModels.get(position)){				
+		List<BoardModel> cell = boardModels.getCell(x, y);
+		if(cell != null){
+			for(BoardModel model : cell){				
 				if (!model.canSharePositionWith(boardModel))
 					return false;
 			}
@@ -403,7 +484,8 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			If this board is terminated then there may not exist board models situated on this board.
 	 * 			Beside that it's not allowed that there exists a key referring the null reference
 	 * 			or exist keys that refer a value that refers the null reference or refers a collection
-	 * 			with no entries.
+	 * 			with no entries. The reverse index of this board must register exactly the board
+	 * 			models situated on this board, each under the collection of its own cell.
 	 * 			| result ==
 	 * 			| if(isTerminated())
 	 * 			|	then boardModels.keySet().size() == 0
@@ -418,15 +500,17 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			|			canHaveAsCoordinates(model1.getPosition().getCoordinates()) &&
 	 * 			|			model1.getBoard() == this &&
 	 * 			|			model1.getPosition().equals(key) &&
+	 * 			|			modelCells.get(model1) == boardModels.get(key) &&
 	 * 			|			(for each BoardModel model2 in getBoardModelsAt(key) && model1!=model2 :
 	 * 			|				model1.canSharePositionWith(model2))
+	 * 			| 	&& modelCells.size() == getNbBoardModels()
 	 */
 	@Raw
 	public boolean hasProperBoardModels(){
 		for(Position key : boardModels.keySet()){
 			if(this.isTerminated)
 				return false;
-			List<BoardModel> temp = getBoardModelsAt(key);
+			List<BoardModel> temp = getCellAt(key);
 			if(temp == null || temp.size() == 0)
 				return false;
 			
@@ -438,6 +522,8 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 					return false;
 				if(model.getBoard() != this || !model.getPosition().equals(key))
 					return false;
+				if(modelCells.get(model) != temp)
+					return false;
 				for(int j=i+1; j<temp.size(); j++){
 					BoardModel other = temp.get(j);
 					if(!model.canSharePositionWith(other)){
@@ -446,7 +532,7 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 				}
 			}	
 		}
-		return true;
+		return modelCells.size() == getNbBoardModels();
 	}
 		
 	/**
@@ -464,6 +550,8 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			| boardModel.setBoard(new.this) &&
 	 * 			| boardModel.setPosition(position)
 	 * 			| [SEQUENTIAL]
+	 * @effect	The listeners of this board are notified of the changed cell.
+	 * 			| notifyCellChanged(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL))
 	 * @throws	IllegalArgumentException
 	 * 			The given board model could not be positioned
 	 * 			onto the given position on this board.
@@ -473,11 +561,21 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 		throws IllegalArgumentException{
 		if(!canHaveBoardModelAt(position, boardModel))
 			throw new IllegalArgumentException("The given board model could not be added to the given position.");
-		if(!containsPositionKey(position))
-			boardModels.put(position, new ArrayList<BoardModel>());
-		boardModels.get(position).add(boardModel);
+		ArrayList<BoardModel> cell = getCellAt(position);
+		if(cell == null){
+			long x = position.getCoordinate(Dimension.HORIZONTAL);
+			long y = position.getCoordinate(Dimension.VERTICAL);
+			cell = new ArrayList<BoardModel>();
+			boardModels.putCell(x, y, cell);
+			indexCell(rowIndex, y, x, cell);
+			indexCell(columnIndex, x, y, cell);
+		}
+		cell.add(boardModel);
+		modelCells.put(boardModel, cell);
+		indexClass(boardModel);
 		boardModel.setBoard(this);
 		boardModel.setPosition(position);
+		notifyCellChanged(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
 	}
 	
 	/**
@@ -499,9 +597,33 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public List<BoardModel> getBoardModelsAt(Position position){
-		if(!containsPositionKey(position))
+		if(position == null)
+			return null;
+		List<BoardModel> cell = getCellAt(position);
+		if(cell == null)
 			return null;
-		return Collections.unmodifiableList(boardModels.get(position));
+		return Collections.unmodifiableList(cell);
+	}
+	
+	/**
+	 * Returns all the board models located on the cell with the given
+	 * coordinates on this board.
+	 * 
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @return	The result is the same as for the position with the given coordinates.
+	 * 			| result == getBoardModelsAt(new Position(x, y))
+	 * @note	This variant creates no position objects and is used by the path finding
+	 * 			algorithms for every cell they explore.
+	 */
+	@Raw
+	public List<BoardModel> getBoardModelsAt(long x, long y){
+		List<BoardModel> cell = boardModels.getCell(x, y);
+		if(cell == null)
+			return null;
+		return Collections.unmodifiableList(cell);
 	}
 	
 	/**
@@ -528,10 +650,13 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 */
 	@Raw
 	public <T extends BoardModel> List<T> getBoardModelsClassAt(Position position, Class<T> clazz){
-		if(!containsPositionKey(position))
+		if(position == null)
+			return null;
+		List<BoardModel> cell = getCellAt(position);
+		if(cell == null)
 			return null;
 		List<T> temp = new ArrayList<T>();
-		for(BoardModel model : boardModels.get(position)){
+		for(BoardModel model : cell){
 			if(clazz.isInstance(model))
 				temp.add(clazz.cast(model));	
 		}
@@ -562,8 +687,11 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	@Raw
 	public <T extends BoardModel> Set<T> getAllBoardModelsClass(Class<T> BoardModelType){
 		Set<T> temp = new HashSet<T>();
-		for (Position pos : boardModels.keySet()){
-			temp.addAll(((List<T>)getBoardModelsClassAt(pos, BoardModelType)));
+		for(Map.Entry<Class<?>, Set<BoardModel>> entry : classIndex.entrySet()){
+			if(BoardModelType.isAssignableFrom(entry.getKey())){
+				for(BoardModel model : entry.getValue())
+					temp.add(BoardModelType.cast(model));
+			}
 		}
 		return Collections.unmodifiableSet(temp);
 	}
@@ -581,8 +709,8 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	@Raw
 	public int getNbBoardModels(){
 		int count = 0;
-		for(Position key : boardModels.keySet())
-			count = count + getNbBoardModelsAt(key);
+		for(List<BoardModel> cell : boardModels.values())
+			count = count + cell.size();
 		return count;
 	}
 	
@@ -602,9 +730,12 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	@Raw
 	public int getNbBoardModelsAt(Position position)
 		throws IllegalArgumentException{
-		if(!containsPositionKey(position))
+		if(position == null)
+			return 0;
+		List<BoardModel> cell = getCellAt(position);
+		if(cell == null)
 			return 0;
-		return boardModels.get(position).size();
+		return cell.size();
 	}
 	
 	/**
@@ -642,10 +773,159 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	}
 	
 	/**
-	 * A map collection with list collections of all board models
+	 * A board storage with list collections of all board models
 	 * situated at the same position and with the corresponding position as key.
 	 */
-	private	Map<Position,ArrayList<BoardModel>> boardModels = new HashMap<Position,ArrayList<BoardModel>>();
+	private	final BoardStorage boardModels;
+	
+	/**
+	 * A reverse index mapping every board model situated on this board,
+	 * by identity, to the list collection of the cell it is situated in.
+	 * 
+	 * @invar	Every board model situated on this board is registered
+	 * 			in the reverse index under the list of its cell.
+	 * 			| for each Position key in boardModels.keySet() :
+	 * 			| 	for each BoardModel model in boardModels.get(key) :
+	 * 			| 		modelCells.get(model) == boardModels.get(key)
+	 * @invar	The reverse index registers no other board models.
+	 * 			| modelCells.size() == getNbBoardModels()
+	 */
+	private final Map<BoardModel, ArrayList<BoardModel>> modelCells = new IdentityHashMap<BoardModel, ArrayList<BoardModel>>();
+	
+	/**
+	 * A line index registering the occupied cells of every row of this board.
+	 * The key is the vertical coordinate of the row; the value maps the horizontal
+	 * coordinates of the occupied cells in that row, in ascending order, to their list collection.
+	 * The rows are kept in ascending order as well, so the rows between two vertical
+	 * coordinates are looked up as a range.
+	 * 
+	 * @invar	Every occupied cell is registered in the row index and vice versa.
+	 * 			| for each Position key in boardModels.keySet() :
+	 * 			| 	rowIndex.get(key.getCoordinate(Dimension.VERTICAL)).get(key.getCoordinate(Dimension.HORIZONTAL))
+	 * 			|		== boardModels.get(key)
+	 */
+	private final TreeMap<Long, TreeMap<Long, ArrayList<BoardModel>>> rowIndex = new TreeMap<Long, TreeMap<Long, ArrayList<BoardModel>>>();
+	
+	/**
+	 * A line index registering the occupied cells of every column of this board.
+	 * The key is the horizontal coordinate of the column; the value maps the vertical
+	 * coordinates of the occupied cells in that column, in ascending order, to their list collection.
+	 * 
+	 * @invar	Every occupied cell is registered in the column index and vice versa.
+	 * 			| for each Position key in boardModels.keySet() :
+	 * 			| 	columnIndex.get(key.getCoordinate(Dimension.HORIZONTAL)).get(key.getCoordinate(Dimension.VERTICAL))
+	 * 			|		== boardModels.get(key)
+	 */
+	private final Map<Long, TreeMap<Long, ArrayList<BoardModel>>> columnIndex = new HashMap<Long, TreeMap<Long, ArrayList<BoardModel>>>();
+	
+	/**
+	 * A class index registering the board models situated on this board by their class.
+	 * 
+	 * @invar	Every board model situated on this board is registered in the class index
+	 * 			under its own class, and vice versa.
+	 * 			| for each BoardModel model in modelCells.keySet() :
+	 * 			| 	classIndex.get(model.getClass()).contains(model)
+	 * @invar	The class index registers no empty sets.
+	 * 			| for each Class<?> key in classIndex.keySet() :
+	 * 			| 	!classIndex.get(key).isEmpty()
+	 */
+	private final Map<Class<?>, Set<BoardModel>> classIndex = new HashMap<Class<?>, Set<BoardModel>>();
+	
+	/**
+	 * Registers the given board model in the class index of this board.
+	 * 
+	 * @param 	boardModel
+	 * 			The board model to register.
+	 */
+	@Model
+	private void indexClass(BoardModel boardModel){
+		Set<BoardModel> models = classIndex.get(boardModel.getClass());
+		if(models == null){
+			models = Collections.newSetFromMap(new IdentityHashMap<BoardModel, Boolean>());
+			classIndex.put(boardModel.getClass(), models);
+		}
+		models.add(boardModel);
+	}
+	
+	/**
+	 * Removes the given board model from the class index of this board.
+	 * 
+	 * @param 	boardModel
+	 * 			The board model to remove.
+	 */
+	@Model
+	private void unindexClass(BoardModel boardModel){
+		Set<BoardModel> models = classIndex.get(boardModel.getClass());
+		models.remove(boardModel);
+		if(models.isEmpty())
+			classIndex.remove(boardModel.getClass());
+	}
+	
+	/**
+	 * Registers the given cell in the given line index.
+	 * 
+	 * @param 	lineIndex
+	 * 			The line index to register the cell in.
+	 * @param 	line
+	 * 			The coordinate of the line (row or column) of the cell.
+	 * @param 	offset
+	 * 			The coordinate of the cell along that line.
+	 * @param 	cell
+	 * 			The list collection of the cell.
+	 */
+	@Model
+	private static void indexCell(Map<Long, TreeMap<Long, ArrayList<BoardModel>>> lineIndex, long line, long offset, ArrayList<BoardModel> cell){
+		TreeMap<Long, ArrayList<BoardModel>> lineCells = lineIndex.get(line);
+		if(lineCells == null){
+			lineCells = new TreeMap<Long, ArrayList<BoardModel>>();
+			lineIndex.put(line, lineCells);
+		}
+		lineCells.put(offset, cell);
+	}
+	
+	/**
+	 * Removes the cell at the given line and offset from the given line index.
+	 * A line without occupied cells is removed from the line index as well.
+	 * 
+	 * @param 	lineIndex
+	 * 			The line index to remove the cell from.
+	 * @param 	line
+	 * 			The coordinate of the line (row or column) of the cell.
+	 * @param 	offset
+	 * 			The coordinate of the cell along that line.
+	 */
+	@Model
+	private static void unindexCell(Map<Long, TreeMap<Long, ArrayList<BoardModel>>> lineIndex, long line, long offset){
+		TreeMap<Long, ArrayList<BoardModel>> lineCells = lineIndex.get(line);
+		lineCells.remove(offset);
+		if(lineCells.isEmpty())
+			lineIndex.remove(line);
+	}
+	
+	/**
+	 * Returns the list collection of the first occupied cell of the given
+	 * line in the given line index, strictly after (ascending) or strictly
+	 * before (descending) the given offset. If there is no such cell,
+	 * the null reference is returned.
+	 * 
+	 * @param 	lineIndex
+	 * 			The line index that has to be searched.
+	 * @param 	line
+	 * 			The coordinate of the line (row or column).
+	 * @param 	offset
+	 * 			The coordinate along that line to start from.
+	 * @param 	ascending
+	 * 			True if the line is travelled in ascending order of coordinates.
+	 */
+	@Model
+	private static ArrayList<BoardModel> getFirstCellInLine(Map<Long, TreeMap<Long, ArrayList<BoardModel>>> lineIndex,
+			long line, long offset, boolean ascending){
+		TreeMap<Long, ArrayList<BoardModel>> lineCells = lineIndex.get(line);
+		if(lineCells == null)
+			return null;
+		Map.Entry<Long, ArrayList<BoardModel>> entry = ascending? lineCells.higherEntry(offset) : lineCells.lowerEntry(offset);
+		return (entry == null)? null : entry.getValue();
+	}
 	
 	/**
 	 * Removes the given board model from this board.
@@ -664,18 +944,193 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			form the board model collection of this board.
 	 * 			| if(getBoardModelsAt(boardModel.getPosition())
 	 * 			| 	then getAllBoardModels().remove(boardModel.getPosition())
+	 * @effect	If the given board model is situated on this board, the listeners
+	 * 			of this board are notified of the changed cell.
+	 * 			| notifyCellChanged(boardModel.getPosition().getCoordinate(Dimension.HORIZONTAL),
+	 * 			|	boardModel.getPosition().getCoordinate(Dimension.VERTICAL))
 	 */
 	public void removeBoardModel(BoardModel boardModel){
 		if(boardModel.getBoard() == this){
-			List<BoardModel> temp = boardModels.get(boardModel.getPosition());
+			long x = boardModel.getPosition().getCoordinate(Dimension.HORIZONTAL);
+			long y = boardModel.getPosition().getCoordinate(Dimension.VERTICAL);
+			List<BoardModel> temp = boardModels.getCell(x, y);
 			// May never return index -1
 			temp.remove(temp.indexOf(boardModel));
-			if(temp.size() == 0)
-				boardModels.remove(boardModel.getPosition());
+			if(temp.size() == 0){
+				boardModels.removeCell(x, y);
+				unindexCell(rowIndex, y, x);
+				unindexCell(columnIndex, x, y);
+			}
+			modelCells.remove(boardModel);
+			unindexClass(boardModel);
 			boardModel.setBoard(null);
+			notifyCellChanged(x, y);
+		}
+	}
+	
+	/**
+	 * Registers the given listener to be notified of every change of the cells of this board.
+	 * 
+	 * @param 	listener
+	 * 			The listener to register.
+	 * @post	| new.hasAsBoardListener(listener)
+	 * @throws	NullPointerException
+	 * 			The given listener refers the null reference.
+	 * 			| listener == null
+	 */
+	public void addBoardListener(BoardListener listener) throws NullPointerException{
+		if(listener == null)
+			throw new NullPointerException("The given listener refers the null reference.");
+		if(boardListeners.add(listener)){
+			BoardListener[] listeners = Arrays.copyOf(boardListenerArray, boardListenerArray.length + 1);
+			listeners[boardListenerArray.length] = listener;
+			boardListenerArray = listeners;
+		}
+	}
+	
+	/**
+	 * Unregisters the given listener from this board.
+	 * 
+	 * @param 	listener
+	 * 			The listener to unregister.
+	 * @post	| !new.hasAsBoardListener(listener)
+	 */
+	public void removeBoardListener(BoardListener listener){
+		if(boardListeners.remove(listener)){
+			BoardListener[] listeners = new BoardListener[boardListenerArray.length - 1];
+			int i = 0;
+			for(BoardListener boardListener : boardListenerArray)
+				if(boardListener != listener)
+					listeners[i++] = boardListener;
+			boardListenerArray = listeners;
+		}
+	}
+	
+	/**
+	 * Checks whether the given listener is registered at this board.
+	 * 
+	 * @param 	listener
+	 * 			The listener to check.
+	 */
+	@Basic
+	public boolean hasAsBoardListener(BoardListener listener){
+		return boardListeners.contains(listener);
+	}
+	
+	/**
+	 * Notifies all listeners of this board that the cell with the given coordinates has changed.
+	 * 
+	 * @param 	x
+	 * 			The horizontal coordinate of the changed cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the changed cell.
+	 * @post	| new.getModificationCount() == getModificationCount() + 1
+	 * @effect	| for each BoardListener listener registered at this board :
+	 * 			| 	listener.cellChanged(this, x, y)
+	 */
+	@Model
+	private void notifyCellChanged(long x, long y){
+		modificationCount++;
+		BoardListener[] listeners = boardListenerArray;
+		for(int i = 0; i < listeners.length; i++)
+			listeners[i].cellChanged(this, x, y);
+	}
+	
+	/**
+	 * The set of listeners registered at this board, compared by identity.
+	 */
+	private final Set<BoardListener> boardListeners = Collections.newSetFromMap(new IdentityHashMap<BoardListener, Boolean>());
+	
+	/**
+	 * The listeners registered at this board, in order of registration.
+	 * 
+	 * @note	This array is never modified but replaced whenever a listener is registered
+	 * 			or unregistered, so listeners can register or unregister listeners while
+	 * 			they are notified without copying the listeners on every change.
+	 */
+	private BoardListener[] boardListenerArray = new BoardListener[0];
+	
+	/**
+	 * Returns the number of times a cell of this board has changed.
+	 * 
+	 * @note	Every board model added to or removed from this board increments
+	 * 			this number, so an unchanged number means an unchanged board.
+	 */
+	@Basic
+	public long getModificationCount(){
+		return modificationCount;
+	}
+	
+	/**
+	 * Variable registering the number of times a cell of this board has changed.
+	 */
+	private long modificationCount;
+	
+	/**
+	 * Returns the cache of distance fields of this board.
+	 * 
+	 * @return	The same cache is returned for every call.
+	 * 			| result == getDistanceFieldCache()
+	 * @note	The cache is only created at the first call and is registered as a listener
+	 * 			of this board, so that every board model added to or removed from this board
+	 * 			invalidates the distance fields that depend on its cell.
+	 */
+	public DistanceFieldCache getDistanceFieldCache(){
+		if(distanceFieldCache == null){
+			distanceFieldCache = new DistanceFieldCache();
+			addBoardListener(distanceFieldCache);
 		}
+		return distanceFieldCache;
 	}
 	
+	/**
+	 * Variable referencing the cache of distance fields of this board.
+	 */
+	private DistanceFieldCache distanceFieldCache;
+
+	/**
+	 * Returns the random generator of this board.
+	 *
+	 * @note	Every random choice made on this board (random targets, teleport positions
+	 * 			and surprises) draws from this random generator, so a board seeded with a fixed
+	 * 			seed replays the same choices for the same sequence of actions.
+	 */
+	@Basic
+	public SplittableRandom getRandomGenerator(){
+		return randomGenerator;
+	}
+
+	/**
+	 * Sets the random generator of this board to the given random generator.
+	 *
+	 * @param 	randomGenerator
+	 * 			The new random generator of this board.
+	 * @post	| new.getRandomGenerator() == randomGenerator
+	 * @throws	NullPointerException
+	 * 			| randomGenerator == null
+	 */
+	public void setRandomGenerator(SplittableRandom randomGenerator) throws NullPointerException{
+		if(randomGenerator == null)
+			throw new NullPointerException();
+		this.randomGenerator = randomGenerator;
+	}
+
+	/**
+	 * Seeds the random generator of this board with the given seed.
+	 *
+	 * @param 	seed
+	 * 			The seed for the random generator of this board.
+	 * @effect	| setRandomGenerator(new SplittableRandom(seed))
+	 */
+	public void setSeed(long seed){
+		setRandomGenerator(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Variable referencing the random generator of this board.
+	 */
+	private SplittableRandom randomGenerator = new SplittableRandom();
+
 	/**
 	 * Checks whether the given model is situated in the area
 	 * around the given position with the given range as the range
@@ -878,6 +1333,8 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 * 			Meaning that it refers the null reference or that its coordinates
 	 * 			are invalid for this board.
 	 * 			| position == null || !canHaveAsCoordinates(position.getCoordinates())
+	 * @note	The first occupied cell is looked up in the row or column index of this
+	 * 			board, so the cost does not depend on the distance to that cell or to the border.
 	 */
 	public List<BoardModel> getAllTargets(Position position, Direction direction)
 			throws IllegalArgumentException{
@@ -886,66 +1343,25 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 		if(position == null || !canHaveAsCoordinates(position.getCoordinates()))
 			throw new IllegalArgumentException("The given position is invalid.");
 		
-		long reachingBorder = getReachingBorder(direction);
-		long reverser = (reachingBorder == 0)? -1:1;
-		boolean found = false;
+		long x = position.getCoordinate(Dimension.HORIZONTAL);
+		long y = position.getCoordinate(Dimension.VERTICAL);
+		boolean ascending = Direction.getDirectionOrder(direction) > 0;
+		List<BoardModel> cell;
+		if(Direction.getDirectionDimension(direction) == Dimension.HORIZONTAL.getDimensionnr())
+			cell = getFirstCellInLine(rowIndex, y, x, ascending);
+		else
+			cell = getFirstCellInLine(columnIndex, x, y, ascending);
 		
 		List<BoardModel> result = new ArrayList<BoardModel>();
-		long count = Direction.getDirectionOrder(direction);
-		long[] start = position.getCoordinates();
-
-		while(!found && (reverser*start[Direction.getDirectionDimension(direction)-1] <= reachingBorder)){
-			start[Direction.getDirectionDimension(direction)-1] = start[Direction.getDirectionDimension(direction)-1] + count;
-			Position key = new Position(start);
-			if(boardModels.containsKey(key)){
-				for(BoardModel element : getBoardModelsAt(key)){
-					result.add(element);
-					found = true;
-				}
-			}
-		}
+		if(cell != null)
+			result.addAll(cell);
 		return result;
 	}
 	
-	/**
-	 * Returns the border value that would be reached while
-	 * travelling in the given direction.
-	 * 
-	 * @param 	direction
-	 * 			The direction of travelling.
-	 * @return	If the direction is up or left then the result is zero.
-	 * 			| if(direction == Direction.UP || direction == Direction.LEFT)
-	 * 			| then result == 0
-	 * @return	If the direction is right, returns the horizontal border.
-	 * 			| if(direction == Direction.RIGHT)
-	 * 			| then result == getSizeAt(Dimension.HORIZONTAL)
-	 * @return	If the direction is down, returns the vertical border.
-	 * 			| if(direction == Direction.DOWN)
-	 * 			| then result == getSizeAt(Dimension.VERTICAL)
-	 * @throws	IllegalArgumentException
-	 * 			The given direction is invalid.
-	 * 			| !Direction.isValidDirection(direction)
-	 */
-	@Raw @Model
-	private long getReachingBorder(Direction direction)
-			throws IllegalArgumentException{
-		switch(direction){
-			case UP:
-				return 0;
-			case LEFT:
-				return 0;
-			case RIGHT:
-				return getSizeAt(Dimension.HORIZONTAL);
-			case DOWN:	
-				return getSizeAt(Dimension.VERTICAL);
-		}
-		throw new IllegalArgumentException("The given direction is invalid.");
-	}
-	
 	/**
 	 * Returns the first board model (random chosen if more than one) situated
 	 * the closest to the given start position while travelling from the given
-	 * direction.
+	 * direction. The random choice is drawn from the random generator of this board.
 	 * 
 	 * @param	position
 	 * 			The position of the attacker.
@@ -972,7 +1388,7 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 		
 		ArrayList<BoardModel> possibleTargets = (ArrayList<BoardModel>) getAllTargets(position, direction);
 		if(possibleTargets.size() > 0)
-			return possibleTargets.get((new Random()).nextInt(possibleTargets.size()));
+			return possibleTargets.get(getRandomGenerator().nextInt(possibleTargets.size()));
 		return null;
 	}
 	
@@ -1100,6 +1516,72 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 		};
 	}
 	
+	/**
+	 * Returns the board models situated on this board that are included by the given query hint.
+	 * 
+	 * @param 	hint
+	 * 			The query hint the board models have to be included by.
+	 * @return	The result contains every board model situated on this board, of the type
+	 * 			of the given query hint, within the bounding rectangle of the given query hint.
+	 * 			| for each BoardModel model in getAllBoardModelsClass(BoardModel.class) :
+	 * 			|	if(hint.getType().isInstance(model)
+	 * 			|			&& hint.getMinX() <= model.getPosition().getCoordinate(Dimension.HORIZONTAL)
+	 * 			|			&& model.getPosition().getCoordinate(Dimension.HORIZONTAL) <= hint.getMaxX()
+	 * 			|			&& hint.getMinY() <= model.getPosition().getCoordinate(Dimension.VERTICAL)
+	 * 			|			&& model.getPosition().getCoordinate(Dimension.VERTICAL) <= hint.getMaxY())
+	 * 			|		then result.contains(model)
+	 * @note	The result may contain other board models of this board as well.
+	 */
+	@Model
+	private List<BoardModel> getCandidates(QueryHint hint){
+		List<BoardModel> result = new ArrayList<BoardModel>();
+		long minX = Math.max(hint.getMinX(), 0L);
+		long minY = Math.max(hint.getMinY(), 0L);
+		long maxX = Math.min(hint.getMaxX(), getSizeAt(Dimension.HORIZONTAL));
+		long maxY = Math.min(hint.getMaxY(), getSizeAt(Dimension.VERTICAL));
+		if(minX > maxX || minY > maxY)
+			return result;
+		
+		int nbOfType = 0;
+		for(Map.Entry<Class<?>, Set<BoardModel>> entry : classIndex.entrySet()){
+			if(hint.getType().isAssignableFrom(entry.getKey()))
+				nbOfType += entry.getValue().size();
+		}
+		double nbOfRows = Math.min((double) maxY - minY + 1, rowIndex.size());
+		double nbOfCells = Math.min(((double) maxX - minX + 1) * ((double) maxY - minY + 1), modelCells.size());
+		
+		if(nbOfType <= nbOfRows + nbOfCells){
+			for(Map.Entry<Class<?>, Set<BoardModel>> entry : classIndex.entrySet()){
+				if(hint.getType().isAssignableFrom(entry.getKey()))
+					result.addAll(entry.getValue());
+			}
+		}
+		else{
+			for(TreeMap<Long, ArrayList<BoardModel>> row : rowIndex.subMap(minY, true, maxY, true).values())
+				addCellsInRow(result, row, minX, maxX);
+		}
+		return result;
+	}
+	
+	/**
+	 * Adds the board models of the cells of the given row, between the given
+	 * horizontal coordinates, to the given list.
+	 * 
+	 * @param 	result
+	 * 			The list to add the board models to.
+	 * @param 	row
+	 * 			The occupied cells of the row.
+	 * @param 	minX
+	 * 			The smallest horizontal coordinate of the cells to add.
+	 * @param 	maxX
+	 * 			The largest horizontal coordinate of the cells to add.
+	 */
+	@Model
+	private static void addCellsInRow(List<BoardModel> result, TreeMap<Long, ArrayList<BoardModel>> row, long minX, long maxX){
+		for(ArrayList<BoardModel> cell : row.subMap(minX, true, maxX, true).values())
+			result.addAll(cell);
+	}
+	
 	/**
 	 * Returns an iterator in order to iterate the board models situated on this board
 	 * that satisfies the condition of the given condition tester.
@@ -1112,6 +1594,9 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 	 *  		|	let BoardModel newModel = result.next() in :
 	 *  		| 	getBoardModelsAt(newModel.getPosition()).contains(newModel)
 	 *  		|	&& tester.testCondition(newModel) == true
+	 * @note	Only the board models included by the query hint of the given condition
+	 * 			tester are tested. They are looked up in the row index or the class index
+	 * 			of this board, whichever is expected to return the fewest board models.
 	 */
 	@Raw
 	public Iterator<BoardModel> conditionIterator(final ConditionTester tester){
@@ -1120,7 +1605,7 @@ public class Board implements Terminatable, Iterable<BoardModel>{
 			/**
 			 * The general board model iterator that is used.
 			 */
-			private final Iterator<BoardModel> boardIterator = iterator();
+			private final Iterator<BoardModel> boardIterator = getCandidates(tester.getQueryHint()).iterator();
 			
 			/**
 			 * Returns the board iterator of this conditional board iterator.
@@ -0,0 +1,29 @@
+package roborally.board;
+
+/**
+ * An interface that has to be implemented by every object that
+ * wants to be notified of the changes of the cells of a board.
+ *
+ * A board notifies its listeners after it has gained or lost a board model.
+ * Moving a board model notifies its listeners twice: once for the cell
+ * the board model leaves and once for the cell it enters.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public interface BoardListener {
+
+	/**
+	 * Notifies this listener that the board models on the cell with
+	 * the given coordinates of the given board have changed.
+	 *
+	 * @param 	board
+	 * 			The board of the changed cell.
+	 * @param 	x
+	 * 			The horizontal coordinate of the changed cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the changed cell.
+	 */
+	public void cellChanged(Board board, long x, long y);
+}
@@ -0,0 +1,241 @@
+package roborally.board;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import be.kuleuven.cs.som.annotate.*;
+import roborally.model.dynamicObject.Robot;
+
+/**
+ * A class of board simulators that advance the programs of all robots on a board.
+ *
+ * During every round of a simulation, each robot on the board that has a program
+ * executes exactly one step of its program. The robots take their turn in the order
+ * of their positions at the start of the round: from top to bottom and, on the same
+ * row, from left to right. Conflicting moves and shots are therefore always resolved
+ * in the same order and every simulation of the same board is reproducible.
+ *
+ * @invar	Every board simulator must have a proper board.
+ * 			| canHaveAsBoard(getBoard())
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ * @note	The board models of a board are not safe for concurrent use: robots on the same
+ * 			board share the cells, listeners and caches of that board. The robots of a single
+ * 			board are thus always stepped one after the other; simulators of different boards
+ * 			do not share any state and can be stepped in parallel.
+ * 			| stepAll(simulators, n)
+ */
+public class BoardSimulator {
+
+	/**
+	 * Initializes a new board simulator for the given board.
+	 *
+	 * @param 	board
+	 * 			The board of the new board simulator.
+	 * @post	| new.getBoard() == board
+	 * @throws	IllegalArgumentException
+	 * 			| !canHaveAsBoard(board)
+	 */
+	public BoardSimulator(Board board) throws IllegalArgumentException{
+		if(!canHaveAsBoard(board))
+			throw new IllegalArgumentException("The given board is invalid for a board simulator.");
+		this.board = board;
+	}
+
+	/**
+	 * Returns the board of this board simulator.
+	 */
+	@Basic @Immutable
+	public Board getBoard(){
+		return board;
+	}
+
+	/**
+	 * Checks whether the given board can be the board of this board simulator.
+	 *
+	 * @param 	board
+	 * 			The board that has to be checked.
+	 * @return	| result == (board != null)
+	 */
+	public boolean canHaveAsBoard(Board board){
+		return board != null;
+	}
+
+	/**
+	 * Variable referencing the board of this board simulator.
+	 */
+	private final Board board;
+
+	/**
+	 * Returns the number of rounds this board simulator has executed.
+	 */
+	@Basic
+	public long getNbRounds(){
+		return nbRounds;
+	}
+
+	/**
+	 * Variable registering the number of rounds this board simulator has executed.
+	 */
+	private long nbRounds;
+
+	/**
+	 * Returns the robots on the board of this board simulator that have a program,
+	 * in the order in which they take their turn.
+	 *
+	 * @return	A list of all non terminated robots on the board of this board simulator
+	 * 			that have a program, sorted on their vertical and then their horizontal coordinate.
+	 * 			| for each robot in getBoard().getAllBoardModelsClass(Robot.class) :
+	 * 			|	result.contains(robot) == (!robot.isTerminated() && robot.getProgram() != null)
+	 * 			| && for each i in [1..result.size()-1] :
+	 * 			|	ROBOT_ORDER.compare(result.get(i-1), result.get(i)) < 0
+	 */
+	public List<Robot> getRobotsInTurnOrder(){
+		List<Robot> robots = new ArrayList<Robot>();
+		if(getBoard().isTerminated())
+			return robots;
+		for(Robot robot : getBoard().getAllBoardModelsClass(Robot.class))
+			if(!robot.isTerminated() && robot.getProgram() != null)
+				robots.add(robot);
+		Collections.sort(robots, ROBOT_ORDER);
+		return robots;
+	}
+
+	/**
+	 * Executes the given number of rounds on the board of this board simulator.
+	 *
+	 * @param 	n
+	 * 			The number of rounds that has to be executed.
+	 * @effect	| for each i in [1..n] :
+	 * 			|	for each robot in getRobotsInTurnOrder() :
+	 * 			|		if(!robot.isTerminated() && robot.getBoard() == getBoard())
+	 * 			|			then robot.executeProgramStep()
+	 * @post	| new.getNbRounds() == getNbRounds() + n
+	 * @throws	IllegalArgumentException
+	 * 			| n < 0
+	 */
+	public void step(int n) throws IllegalArgumentException{
+		if(n < 0)
+			throw new IllegalArgumentException("The number of rounds cannot be negative.");
+		for(int i = 0; i < n; i++){
+			for(Robot robot : getRobotsInTurnOrder()){
+				if(robot.isTerminated() || robot.getBoard() != getBoard())
+					continue;
+				robot.executeProgramStep();
+			}
+			nbRounds++;
+		}
+	}
+
+	/**
+	 * Executes the given number of rounds with each of the given board simulators.
+	 * The board simulators are stepped in parallel on a fork-join pool.
+	 *
+	 * @param 	simulators
+	 * 			The board simulators that have to be stepped.
+	 * @param 	n
+	 * 			The number of rounds that has to be executed.
+	 * @effect	| for each simulator in simulators :
+	 * 			|	simulator.step(n)
+	 * @throws	IllegalArgumentException
+	 * 			| n < 0
+	 * @throws	IllegalArgumentException
+	 * 			At least two of the given board simulators have the same board.
+	 * @throws	NullPointerException
+	 * 			| simulators == null || simulators.contains(null)
+	 * @note	The outcome is the same as stepping the given board simulators one after the other,
+	 * 			since board simulators of different boards do not share any state.
+	 */
+	public static void stepAll(Collection<BoardSimulator> simulators, int n)
+			throws IllegalArgumentException, NullPointerException{
+		if(n < 0)
+			throw new IllegalArgumentException("The number of rounds cannot be negative.");
+		List<BoardSimulator> list = new ArrayList<BoardSimulator>(simulators);
+		List<Board> boards = new ArrayList<Board>();
+		for(BoardSimulator simulator : list){
+			if(boards.contains(simulator.getBoard()))
+				throw new IllegalArgumentException("Two board simulators have the same board.");
+			boards.add(simulator.getBoard());
+		}
+		if(list.size() == 1)
+			list.get(0).step(n);
+		else if(list.size() > 1)
+			getPool().invoke(new SimulationTask(list, 0, list.size(), n));
+	}
+
+	/**
+	 * Returns the fork-join pool used to step board simulators in parallel.
+	 */
+	@Model
+	private static synchronized ForkJoinPool getPool(){
+		if(pool == null)
+			pool = new ForkJoinPool();
+		return pool;
+	}
+
+	/**
+	 * Variable referencing the fork-join pool used to step board simulators in parallel.
+	 */
+	private static ForkJoinPool pool;
+
+	/**
+	 * A class of fork-join tasks stepping a range of board simulators.
+	 */
+	private static class SimulationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private SimulationTask(List<BoardSimulator> simulators, int from, int to, int n){
+			this.simulators = simulators;
+			this.from = from;
+			this.to = to;
+			this.n = n;
+		}
+
+		@Override
+		protected void compute(){
+			if(to - from == 1){
+				simulators.get(from).step(n);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			ForkJoinTask.invokeAll(new SimulationTask(simulators, from, middle, n),
+					new SimulationTask(simulators, middle, to, n));
+		}
+
+		private final List<BoardSimulator> simulators;
+		private final int from;
+		private final int to;
+		private final int n;
+	}
+
+	/**
+	 * Variable referencing the comparator that determines the order in which robots take their turn.
+	 */
+	public static final Comparator<Robot> ROBOT_ORDER = new Comparator<Robot>(){
+
+		/**
+		 * Compares the given robots on their vertical and then their horizontal coordinate.
+		 */
+		@Override
+		public int compare(Robot o1, Robot o2){
+			long y1 = o1.getPosition().getCoordinate(Dimension.VERTICAL);
+			long y2 = o2.getPosition().getCoordinate(Dimension.VERTICAL);
+			if(y1 != y2)
+				return y1 < y2 ? -1 : 1;
+			long x1 = o1.getPosition().getCoordinate(Dimension.HORIZONTAL);
+			long x2 = o2.getPosition().getCoordinate(Dimension.HORIZONTAL);
+			if(x1 != x2)
+				return x1 < x2 ? -1 : 1;
+			return 0;
+		}
+	};
+}
@@ -0,0 +1,96 @@
+package roborally.board;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import roborally.model.BoardModel;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * An interface that has to be implemented by every storage engine
+ * that is used by a board to register its board models per cell.
+ *
+ * A board storage is a map from positions to the list of board models
+ * situated on that position, extended with cell operations that are
+ * keyed on the primitive coordinates of a cell. These cell operations
+ * must not allocate a position object for each lookup.
+ *
+ * @invar	Every key of a board storage is an effective position
+ * 			and refers an effective list of board models.
+ * 			| for each Position key in keySet() :
+ * 			| 	key != null && get(key) != null
+ * @invar	The cell operations and the map operations are consistent.
+ * 			| for each Position key in keySet() :
+ * 			| 	getCell(key.getCoordinate(Dimension.HORIZONTAL), key.getCoordinate(Dimension.VERTICAL)) == get(key)
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public interface BoardStorage extends Map<Position, ArrayList<BoardModel>> {
+
+	/**
+	 * Checks whether the cell with the given coordinates is registered
+	 * in this board storage.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @return	True if and only if a cell is registered under the given coordinates.
+	 * 			| result == (getCell(x, y) != null)
+	 */
+	@Raw
+	public boolean containsCell(long x, long y);
+
+	/**
+	 * Returns the list of board models registered for the cell
+	 * with the given coordinates, or the null reference if no such
+	 * cell is registered in this board storage.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 */
+	@Raw
+	public ArrayList<BoardModel> getCell(long x, long y);
+
+	/**
+	 * Registers the given list of board models for the cell with the
+	 * given coordinates.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @param 	cell
+	 * 			The list of board models for the cell.
+	 * @post	The given list is registered for the cell with the given coordinates.
+	 * 			| new.getCell(x, y) == cell
+	 * @return	The list of board models that was previously registered for
+	 * 			the cell with the given coordinates, or the null reference.
+	 * 			| result == getCell(x, y)
+	 * @throws	NullPointerException
+	 * 			The given cell refers the null reference.
+	 * 			| cell == null
+	 */
+	public ArrayList<BoardModel> putCell(long x, long y, ArrayList<BoardModel> cell)
+			throws NullPointerException;
+
+	/**
+	 * Removes the cell with the given coordinates from this board storage.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 * @post	No cell is registered anymore under the given coordinates.
+	 * 			| !new.containsCell(x, y)
+	 * @return	The list of board models that was previously registered for
+	 * 			the cell with the given coordinates, or the null reference.
+	 * 			| result == getCell(x, y)
+	 */
+	public ArrayList<BoardModel> removeCell(long x, long y);
+}
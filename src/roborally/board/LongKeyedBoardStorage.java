@@ -0,0 +1,384 @@
+package roborally.board;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import roborally.model.BoardModel;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of board storages that register the cells of a board in an
+ * open addressing hash table keyed on the primitive coordinates of the cells.
+ *
+ * The horizontal and vertical coordinates of the cells are stored in two
+ * parallel long arrays, so no position objects are created or hashed
+ * when a cell is looked up. Collisions are resolved by linear probing
+ * and removals use backward shift deletion, so no tombstones are left behind.
+ *
+ * @invar	The number of registered cells never exceeds half of the capacity
+ * 			of the hash table.
+ * 			| 2*size() <= getCapacity()
+ * @invar	The capacity of the hash table is always a power of two.
+ * 			| Integer.bitCount(getCapacity()) == 1
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class LongKeyedBoardStorage extends AbstractMap<Position, ArrayList<BoardModel>> implements BoardStorage {
+
+	/**
+	 * Variable containing the standard initial capacity (number of cells)
+	 * for long keyed board storages.
+	 */
+	public static final int STANDARD_INITIAL_CAPACITY = 16;
+
+	/**
+	 * Variable containing the maximum capacity of the hash table
+	 * of every long keyed board storage.
+	 */
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	/**
+	 * Initializes a new long keyed board storage with the standard
+	 * initial capacity.
+	 *
+	 * @effect	The new board storage is initialized with the standard initial capacity.
+	 * 			| this(STANDARD_INITIAL_CAPACITY)
+	 */
+	public LongKeyedBoardStorage(){
+		this(STANDARD_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Initializes a new long keyed board storage that can register
+	 * at least the given number of cells without growing.
+	 *
+	 * @param 	expectedCells
+	 * 			The number of cells that is expected to be registered.
+	 * @post	The new board storage contains no cells.
+	 * 			| new.size() == 0
+	 * @post	The new board storage can register the given number of cells
+	 * 			without growing its hash table.
+	 * 			| 2*expectedCells <= new.getCapacity()
+	 * @throws	IllegalArgumentException
+	 * 			The given number of expected cells is negative or too large.
+	 * 			| expectedCells < 0 || expectedCells > MAXIMUM_CAPACITY/2
+	 */
+	public LongKeyedBoardStorage(int expectedCells) throws IllegalArgumentException{
+		if(expectedCells < 0 || expectedCells > MAXIMUM_CAPACITY/2)
+			throw new IllegalArgumentException("The given number of expected cells is invalid.");
+		int capacity = 2;
+		while(capacity < 2*expectedCells)
+			capacity = capacity << 1;
+		allocate(capacity);
+	}
+
+	/**
+	 * Returns the capacity of the hash table of this board storage.
+	 */
+	@Basic @Raw
+	public int getCapacity(){
+		return cells.length;
+	}
+
+	/**
+	 * Allocates new, empty arrays with the given capacity for this board storage.
+	 *
+	 * @param 	capacity
+	 * 			The capacity of the new arrays.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	@Model
+	private void allocate(int capacity){
+		keysX = new long[capacity];
+		keysY = new long[capacity];
+		cells = new ArrayList[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Array storing the horizontal coordinates of the registered cells.
+	 */
+	private long[] keysX;
+
+	/**
+	 * Array storing the vertical coordinates of the registered cells.
+	 */
+	private long[] keysY;
+
+	/**
+	 * Array storing the lists of board models of the registered cells.
+	 * A slot is free if and only if it refers the null reference.
+	 */
+	private ArrayList<BoardModel>[] cells;
+
+	/**
+	 * Variable storing the bit mask used to reduce a hash value to a slot.
+	 */
+	private int mask;
+
+	/**
+	 * Variable storing the number of registered cells.
+	 */
+	private int size;
+
+	/**
+	 * Variable counting the structural modifications of this board storage.
+	 */
+	private int modCount;
+
+	/**
+	 * Returns the hash value for the given coordinates.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate.
+	 * @param 	y
+	 * 			The vertical coordinate.
+	 */
+	@Model
+	private static int hash(long x, long y){
+		long h = x * 0x9E3779B97F4A7C15L + y;
+		h = (h ^ (h >>> 32)) * 0xD6E8FEB86659FD93L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Returns the slot in which the cell with the given coordinates is registered.
+	 * If no such cell is registered, the complement of the free slot where
+	 * the cell would be inserted is returned instead.
+	 *
+	 * @param 	x
+	 * 			The horizontal coordinate of the cell.
+	 * @param 	y
+	 * 			The vertical coordinate of the cell.
+	 */
+	@Model
+	private int findSlot(long x, long y){
+		int slot = hash(x, y) & mask;
+		while(cells[slot] != null){
+			if(keysX[slot] == x && keysY[slot] == y)
+				return slot;
+			slot = (slot + 1) & mask;
+		}
+		return ~slot;
+	}
+
+	@Override @Raw
+	public boolean containsCell(long x, long y){
+		return findSlot(x, y) >= 0;
+	}
+
+	@Override @Raw
+	public ArrayList<BoardModel> getCell(long x, long y){
+		int slot = findSlot(x, y);
+		return (slot >= 0)? cells[slot] : null;
+	}
+
+	@Override
+	public ArrayList<BoardModel> putCell(long x, long y, ArrayList<BoardModel> cell)
+			throws NullPointerException{
+		if(cell == null)
+			throw new NullPointerException("The given cell refers the null reference.");
+		int slot = findSlot(x, y);
+		if(slot >= 0){
+			ArrayList<BoardModel> old = cells[slot];
+			cells[slot] = cell;
+			return old;
+		}
+		if(2*(size + 1) > cells.length){
+			grow();
+			slot = findSlot(x, y);
+		}
+		slot = ~slot;
+		keysX[slot] = x;
+		keysY[slot] = y;
+		cells[slot] = cell;
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public ArrayList<BoardModel> removeCell(long x, long y){
+		int slot = findSlot(x, y);
+		if(slot < 0)
+			return null;
+		ArrayList<BoardModel> old = cells[slot];
+		removeSlot(slot);
+		return old;
+	}
+
+	/**
+	 * Removes the cell registered in the given slot and shifts the cells of
+	 * the following probe sequence backwards, so every remaining cell stays
+	 * reachable from its home slot.
+	 *
+	 * @param 	slot
+	 * 			The occupied slot that has to be freed.
+	 */
+	@Model
+	private void removeSlot(int slot){
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while(cells[next] != null){
+			int home = hash(keysX[next], keysY[next]) & mask;
+			if(((next - home) & mask) >= ((next - hole) & mask)){
+				keysX[hole] = keysX[next];
+				keysY[hole] = keysY[next];
+				cells[hole] = cells[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		cells[hole] = null;
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Doubles the capacity of the hash table of this board storage
+	 * and registers all cells again.
+	 *
+	 * @throws	IllegalStateException
+	 * 			The hash table has already reached its maximum capacity.
+	 * 			| getCapacity() == MAXIMUM_CAPACITY
+	 */
+	@Model
+	private void grow() throws IllegalStateException{
+		if(cells.length >= MAXIMUM_CAPACITY)
+			throw new IllegalStateException("The board storage has reached its maximum capacity.");
+		long[] oldKeysX = keysX;
+		long[] oldKeysY = keysY;
+		ArrayList<BoardModel>[] oldCells = cells;
+		allocate(oldCells.length << 1);
+		for(int i=0; i<oldCells.length; i++){
+			if(oldCells[i] != null){
+				int slot = ~findSlot(oldKeysX[i], oldKeysY[i]);
+				keysX[slot] = oldKeysX[i];
+				keysY[slot] = oldKeysY[i];
+				cells[slot] = oldCells[i];
+			}
+		}
+	}
+
+	@Override
+	public int size(){
+		return size;
+	}
+
+	@Override
+	public boolean containsKey(Object key){
+		if(!(key instanceof Position))
+			return false;
+		Position position = (Position) key;
+		return containsCell(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
+	}
+
+	@Override
+	public ArrayList<BoardModel> get(Object key){
+		if(!(key instanceof Position))
+			return null;
+		Position position = (Position) key;
+		return getCell(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
+	}
+
+	@Override
+	public ArrayList<BoardModel> put(Position key, ArrayList<BoardModel> value)
+			throws NullPointerException{
+		if(key == null)
+			throw new NullPointerException("The given key refers the null reference.");
+		return putCell(key.getCoordinate(Dimension.HORIZONTAL), key.getCoordinate(Dimension.VERTICAL), value);
+	}
+
+	@Override
+	public ArrayList<BoardModel> remove(Object key){
+		if(!(key instanceof Position))
+			return null;
+		Position position = (Position) key;
+		return removeCell(position.getCoordinate(Dimension.HORIZONTAL), position.getCoordinate(Dimension.VERTICAL));
+	}
+
+	@Override
+	public void clear(){
+		allocate(cells.length);
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Returns a set view of the cells registered in this board storage.
+	 *
+	 * @note	The entries of the resulting set are created while iterating;
+	 * 			their keys are new position objects.
+	 */
+	@Override
+	public Set<Entry<Position, ArrayList<BoardModel>>> entrySet(){
+		return new AbstractSet<Entry<Position, ArrayList<BoardModel>>>(){
+
+			@Override
+			public Iterator<Entry<Position, ArrayList<BoardModel>>> iterator(){
+				return new Iterator<Entry<Position, ArrayList<BoardModel>>>(){
+
+					/**
+					 * The modification count of the board storage at the creation of this iterator.
+					 */
+					private final int expectedModCount = modCount;
+
+					/**
+					 * The next slot that has to be inspected.
+					 */
+					private int slot = 0;
+
+					/**
+					 * The number of cells that are already returned.
+					 */
+					private int returned = 0;
+
+					@Override
+					public boolean hasNext(){
+						return returned < size;
+					}
+
+					@Override
+					public Entry<Position, ArrayList<BoardModel>> next()
+							throws NoSuchElementException, ConcurrentModificationException{
+						if(expectedModCount != modCount)
+							throw new ConcurrentModificationException();
+						if(!hasNext())
+							throw new NoSuchElementException();
+						while(cells[slot] == null)
+							slot++;
+						returned++;
+						Entry<Position, ArrayList<BoardModel>> result =
+								new SimpleImmutableEntry<Position, ArrayList<BoardModel>>(new Position(keysX[slot], keysY[slot]), cells[slot]);
+						slot++;
+						return result;
+					}
+
+					/**
+					 * This operation is not supported.
+					 *
+					 * @throws	UnsupportedOperationException
+					 * 			This operation is not supported.
+					 */
+					@Override
+					public void remove() throws UnsupportedOperationException{
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size(){
+				return size;
+			}
+		};
+	}
+}
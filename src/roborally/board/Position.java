@@ -151,10 +151,10 @@ public class Position {
 		if(this.getClass() != object.getClass())
 			return false;
 		Position position = (Position) object;
-		if(position.getCoordinates().length != coordinates.length)
+		if(position.coordinates.length != coordinates.length)
 			return false;
 		for(int i=0; i<coordinates.length; i++){
-			if(position.getCoordinates()[i] != coordinates[i])
+			if(position.coordinates[i] != coordinates[i])
 				return false;
 		}
 		return true;
@@ -169,8 +169,8 @@ public class Position {
 	 */
 	@Override
 	public int hashCode(){
-        int result = (int) (getCoordinates()[0] ^ (getCoordinates()[0] >>> 32));
-        result = 31 * result + (int) (getCoordinates()[1] ^ (getCoordinates()[1] >>> 32));
+        int result = (int) (coordinates[0] ^ (coordinates[0] >>> 32));
+        result = 31 * result + (int) (coordinates[1] ^ (coordinates[1] >>> 32));
         return result;
 	}
 	
@@ -0,0 +1,176 @@
+package roborally.board.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.Board;
+import roborally.board.BoardSimulator;
+import roborally.board.Position;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Accu;
+import roborally.model.energy.Energy;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of board simulators.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class BoardSimulatorTest {
+
+	Board board;
+	BoardSimulator simulator;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		board = new Board(20L, 20L);
+		simulator = new BoardSimulator(board);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	private Robot createRobot(Board board, long x, long y, Direction direction, String filePath) throws IOException{
+		Robot robot = new Robot(board, new Position(x, y), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), direction);
+		if(filePath != null)
+			robot.setProgramFromFile(filePath);
+		return robot;
+	}
+
+	private List<Robot> populate(Board board) throws IOException{
+		List<Robot> robots = new ArrayList<Robot>();
+		robots.add(createRobot(board, 0L, 5L, Direction.RIGHT, "src/res/programs/gump.prog"));
+		robots.add(createRobot(board, 5L, 0L, Direction.DOWN, "src/res/programs/gump.prog"));
+		robots.add(createRobot(board, 9L, 5L, Direction.LEFT, "src/res/programs/cowboy.prog"));
+		robots.add(createRobot(board, 12L, 12L, Direction.UP, "src/res/programs/staircase.prog"));
+		robots.add(createRobot(board, 3L, 3L, Direction.RIGHT, "src/res/programs/example.prog"));
+		new Wall(board, new Position(7L, 5L));
+		return robots;
+	}
+
+	@Test
+	public void construct(){
+		assertSame(board, simulator.getBoard());
+		assertEquals(0L, simulator.getNbRounds());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void construct_null(){
+		new BoardSimulator(null);
+	}
+
+	@Test
+	public void getRobotsInTurnOrder() throws IOException{
+		Robot third = createRobot(board, 1L, 4L, Direction.UP, "src/res/programs/move.prog");
+		Robot first = createRobot(board, 8L, 2L, Direction.UP, "src/res/programs/move.prog");
+		Robot second = createRobot(board, 0L, 4L, Direction.UP, "src/res/programs/move.prog");
+		createRobot(board, 0L, 0L, Direction.UP, null);
+		List<Robot> robots = simulator.getRobotsInTurnOrder();
+		assertEquals(3, robots.size());
+		assertSame(first, robots.get(0));
+		assertSame(second, robots.get(1));
+		assertSame(third, robots.get(2));
+	}
+
+	@Test
+	public void step_conflictingMoves() throws IOException{
+		Robot left = createRobot(board, 0L, 1L, Direction.RIGHT, "src/res/programs/move.prog");
+		Robot top = createRobot(board, 1L, 0L, Direction.DOWN, "src/res/programs/move.prog");
+		simulator.step(1);
+		assertEquals(new Position(1L, 1L), top.getPosition());
+		assertEquals(new Position(0L, 1L), left.getPosition());
+		assertEquals(1L, simulator.getNbRounds());
+	}
+
+	@Test
+	public void step_settlesLedgers() throws IOException{
+		Robot robot = createRobot(board, 0L, 0L, Direction.RIGHT, "src/res/programs/gump.prog");
+		simulator.step(3);
+		assertEquals(new Position(3L, 0L), robot.getPosition());
+		assertFalse(robot.getAccu().isLedgerOpen());
+		assertEquals(10000 - 3*500, robot.getAccu().getAmountOfEnergy().getEnergyAmount(), 0.0001);
+	}
+
+	@Test
+	public void step_sameAsSingleRobotSteps() throws IOException{
+		Board other = new Board(20L, 20L);
+		List<Robot> simulated = populate(board);
+		List<Robot> stepped = populate(other);
+		BoardSimulator otherSimulator = new BoardSimulator(other);
+		for(int i = 0; i < 25; i++){
+			for(Robot robot : otherSimulator.getRobotsInTurnOrder())
+				if(!robot.isTerminated())
+					robot.executeProgramStep();
+		}
+		simulator.step(25);
+		assertSameState(simulated, stepped);
+	}
+
+	@Test
+	public void stepAll_sameAsSerial() throws IOException{
+		List<BoardSimulator> parallel = new ArrayList<BoardSimulator>();
+		List<List<Robot>> parallelRobots = new ArrayList<List<Robot>>();
+		List<List<Robot>> serialRobots = new ArrayList<List<Robot>>();
+		for(int i = 0; i < 8; i++){
+			Board parallelBoard = new Board(20L, 20L);
+			Board serialBoard = new Board(20L, 20L);
+			parallelRobots.add(populate(parallelBoard));
+			serialRobots.add(populate(serialBoard));
+			parallel.add(new BoardSimulator(parallelBoard));
+			new BoardSimulator(serialBoard).step(40);
+		}
+		BoardSimulator.stepAll(parallel, 40);
+		for(int i = 0; i < 8; i++){
+			assertEquals(40L, parallel.get(i).getNbRounds());
+			assertSameState(parallelRobots.get(i), serialRobots.get(i));
+		}
+	}
+
+	private void assertSameState(List<Robot> robots, List<Robot> others){
+		for(int i = 0; i < robots.size(); i++){
+			Robot robot = robots.get(i);
+			Robot other = others.get(i);
+			assertEquals(robot.isTerminated(), other.isTerminated());
+			if(!robot.isTerminated()){
+				assertEquals(robot.getPosition(), other.getPosition());
+				assertEquals(robot.getDirection(), other.getDirection());
+				assertEquals(robot.getAccu().getAmountOfEnergy().getEnergyAmount(),
+						other.getAccu().getAmountOfEnergy().getEnergyAmount(), 0.0001);
+			}
+		}
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void step_negative(){
+		simulator.step(-1);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void stepAll_sameBoard(){
+		List<BoardSimulator> simulators = new ArrayList<BoardSimulator>();
+		simulators.add(simulator);
+		simulators.add(new BoardSimulator(board));
+		BoardSimulator.stepAll(simulators, 1);
+	}
+}
@@ -11,7 +11,11 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import roborally.conditiontester.BasicComparison;
+import roborally.conditiontester.CombinedTester;
+import roborally.conditiontester.ConditionTester;
 import roborally.conditiontester.EnergyTester;
+import roborally.conditiontester.InSubrangeTester;
+import roborally.conditiontester.TypeTester;
 
 import static roborally.board.Board.*;
 
@@ -709,6 +713,25 @@ public class BoardTest {
 		 assertTrue(n == null);
 	 }
 	 
+	 @Test
+	 public void getRandomTarget_seeded(){
+		 Board b = new Board(20L,20L);
+		 for(int i = 0; i < 10; i++)
+			 new Battery(b, new Position(5L,1L));
+		 b.setSeed(42L);
+		 List<BoardModel> first = new ArrayList<BoardModel>();
+		 for(int i = 0; i < 20; i++)
+			 first.add(b.getRandomTarget(new Position(1L,1L), Direction.RIGHT));
+		 b.setSeed(42L);
+		 for(int i = 0; i < 20; i++)
+			 assertSame(first.get(i), b.getRandomTarget(new Position(1L,1L), Direction.RIGHT));
+	 }
+	 
+	 @Test (expected = NullPointerException.class)
+	 public void setRandomGenerator_null(){
+		 board20x20y.setRandomGenerator(null);
+	 }
+	 
 	 @Test (expected = IllegalArgumentException.class)
 	 public void getRandomTarget_nullPositionRejected(){
 		 board20x20y.getRandomTarget(null, Direction.DOWN);
@@ -1024,6 +1047,26 @@ public class BoardTest {
 		 assertEquals(b.getAllTargets(new Position(2L,4L), Direction.RIGHT).size(),0); 
 	 }
 	 
+	 @Test (timeout = 2000)
+	 public void getAllTargets_hugeBoard(){
+		 Board b = new Board(Long.MAX_VALUE, Long.MAX_VALUE);
+		 Wall far = new Wall(b, new Position(Long.MAX_VALUE, 7L));
+		 Wall near = new Wall(b, new Position(Long.MAX_VALUE-5L, 7L));
+		 Wall below = new Wall(b, new Position(3L, Long.MAX_VALUE));
+		 List<BoardModel> right = b.getAllTargets(new Position(3L, 7L), Direction.RIGHT);
+		 assertEquals(1, right.size());
+		 assertTrue(right.contains(near));
+		 assertTrue(b.getAllTargets(new Position(Long.MAX_VALUE-5L, 7L), Direction.RIGHT).contains(far));
+		 assertTrue(b.getAllTargets(new Position(3L, 7L), Direction.DOWN).contains(below));
+		 assertEquals(0, b.getAllTargets(new Position(3L, 7L), Direction.LEFT).size());
+		 assertEquals(0, b.getAllTargets(new Position(3L, 8L), Direction.RIGHT).size());
+		 b.removeBoardModel(near);
+		 assertTrue(b.getAllTargets(new Position(3L, 7L), Direction.RIGHT).contains(far));
+		 b.moveBoardModelTo(below, new Position(3L, 0L));
+		 assertEquals(0, b.getAllTargets(new Position(3L, 7L), Direction.DOWN).size());
+		 assertTrue(b.getAllTargets(new Position(3L, 7L), Direction.UP).contains(below));
+	 }
+	 
 	 @Test (expected = IllegalArgumentException.class)
 	 public void getAllTargets_nullPosition(){
 		Board b = new Board(20L,20L);
@@ -1285,4 +1328,218 @@ public class BoardTest {
 		 Iterator<BoardModel> ci = b.conditionIterator(new EnergyTester(BasicComparison.GE, new Energy(1000)));
 		 ci.remove();
 	 }
+	 
+	 @Test
+	 public void containsBoardModel_allCheck_reverseIndexFollowsMoves(){
+		 Wall wall = new Wall(board20x20y, new Position(3L, 4L));
+		 assertTrue(board20x20y.containsBoardModel_allCheck(wall));
+		 assertTrue(board20x20y.containsBoardModel(wall, new Position(3L, 4L)));
+		 board20x20y.moveBoardModelTo(wall, new Position(5L, 6L));
+		 assertTrue(board20x20y.containsBoardModel_allCheck(wall));
+		 assertFalse(board20x20y.containsBoardModel(wall, new Position(3L, 4L)));
+		 assertTrue(board20x20y.containsBoardModel(wall, new Position(5L, 6L)));
+		 assertFalse(board20x20y.containsBoardModel(wall, new Position(7L, 8L)));
+		 assertTrue(board20x20y.hasProperBoardModels());
+		 board20x20y.removeBoardModel(wall);
+		 assertFalse(board20x20y.containsBoardModel_allCheck(wall));
+		 assertFalse(board20x20y.containsBoardModel(wall, new Position(5L, 6L)));
+		 assertTrue(board20x20y.hasProperBoardModels());
+	 }
+	 
+	 /**
+	  * Bulk placement check: placing 100k walls must never scan the cells of
+	  * the board and must only look up a bounded number of cells per wall,
+	  * so the placement scales linearly in the number of walls.
+	  */
+	 @Test
+	 public void addBoardModelAt_bulkPlacementWithoutFullScan(){
+		 CountingBoardStorage storage = new CountingBoardStorage();
+		 Board board = new Board(999L, 999L, storage);
+		 for(int i=0; i<100000; i++)
+			 board.addBoardModelAt(new Position(i%1000, i/1000), new Wall());
+		 assertEquals(0, storage.nbScans);
+		 assertTrue(storage.nbLookups <= 4*100000);
+		 assertEquals(100000, board.getNbBoardModels());
+	 }
+	 
+	 /**
+	  * A board storage counting the number of times its cells are scanned
+	  * and the number of times a single cell is looked up.
+	  */
+	 private static class CountingBoardStorage extends LongKeyedBoardStorage {
+		 
+		 @Override
+		 public Set<Entry<Position, ArrayList<BoardModel>>> entrySet(){
+			 nbScans++;
+			 return super.entrySet();
+		 }
+		 
+		 @Override
+		 public boolean containsCell(long x, long y){
+			 nbLookups++;
+			 return super.containsCell(x, y);
+		 }
+		 
+		 @Override
+		 public ArrayList<BoardModel> getCell(long x, long y){
+			 nbLookups++;
+			 return super.getCell(x, y);
+		 }
+		 
+		 @Override
+		 public ArrayList<BoardModel> putCell(long x, long y, ArrayList<BoardModel> cell){
+			 nbLookups++;
+			 return super.putCell(x, y, cell);
+		 }
+		 
+		 @Override
+		 public ArrayList<BoardModel> removeCell(long x, long y){
+			 nbLookups++;
+			 return super.removeCell(x, y);
+		 }
+		 
+		 private int nbScans;
+		 
+		 private long nbLookups;
+	 }
+	 
+	 @Test
+	 public void addBoardListener_notifiedOfChangedCells(){
+		 final List<Position> changed = new ArrayList<Position>();
+		 BoardListener listener = new BoardListener(){
+			 @Override
+			 public void cellChanged(Board board, long x, long y){
+				 changed.add(new Position(x, y));
+			 }
+		 };
+		 board20x20y.addBoardListener(listener);
+		 assertTrue(board20x20y.hasAsBoardListener(listener));
+		 Robot robot = new Robot(board20x20y, new Position(3L, 4L), new Accu(new Energy(1000)), Direction.UP);
+		 board20x20y.moveBoardModelTo(robot, new Position(3L, 5L));
+		 board20x20y.removeBoardListener(listener);
+		 board20x20y.removeBoardModel(robot);
+		 assertFalse(board20x20y.hasAsBoardListener(listener));
+		 assertEquals(Arrays.asList(new Position(3L, 4L), new Position(3L, 4L), new Position(3L, 5L)), changed);
+	 }
+	 
+	 @Test
+	 public void removeBoardListener_whileNotified(){
+		 final List<String> notified = new ArrayList<String>();
+		 BoardListener first = new BoardListener(){
+			 @Override
+			 public void cellChanged(Board board, long x, long y){
+				 notified.add("first");
+				 board.removeBoardListener(this);
+			 }
+		 };
+		 BoardListener second = new BoardListener(){
+			 @Override
+			 public void cellChanged(Board board, long x, long y){
+				 notified.add("second");
+			 }
+		 };
+		 board20x20y.addBoardListener(first);
+		 board20x20y.addBoardListener(second);
+		 board20x20y.addBoardListener(first);
+		 new Wall(board20x20y, new Position(1L, 1L));
+		 new Wall(board20x20y, new Position(2L, 1L));
+		 assertFalse(board20x20y.hasAsBoardListener(first));
+		 assertTrue(board20x20y.hasAsBoardListener(second));
+		 assertEquals(Arrays.asList("first", "second", "second"), notified);
+	 }
+	 
+	 @Test
+	 public void conditionIterator_queryHintsSameAsFullScan(){
+		 Board b = new Board(60L, 40L);
+		 Random random = new Random(5L);
+		 List<Battery> batteries = new ArrayList<Battery>();
+		 for(int i = 0; i < 400; i++){
+			 Position position = new Position(random.nextInt(61), random.nextInt(41));
+			 BoardModel model;
+			 if(random.nextInt(4) == 0){
+				 model = new Battery(new Accu(new Energy(random.nextInt(2000))));
+				 batteries.add((Battery) model);
+			 }
+			 else if(random.nextInt(3) == 0)
+				 model = new Robot(new Accu(new Energy(random.nextInt(2000))));
+			 else
+				 model = new Wall();
+			 if(b.canHaveBoardModelAt(position, model))
+				 b.addBoardModelAt(position, model);
+		 }
+		 for(int i = 0; i < batteries.size(); i += 3)
+			 b.removeBoardModel(batteries.get(i));
+		 
+		 CombinedTester combined = new CombinedTester();
+		 combined.addConditionTester(new TypeTester(Battery.class));
+		 combined.addConditionTester(new InSubrangeTester(new Position(30L, 20L), 12L));
+		 combined.addConditionTester(new EnergyTester(BasicComparison.GE, new Energy(1000)));
+		 CombinedTester column = new CombinedTester();
+		 column.addConditionTester(new InSubrangeTester(new Position(0L, 20L), 20L));
+		 column.addConditionTester(new InSubrangeTester(new Position(40L, 20L), 20L));
+		 ConditionTester[] testers = new ConditionTester[]{
+			 new InSubrangeTester(new Position(3L, 4L), 2L),
+			 new InSubrangeTester(new Position(58L, 39L), 5L),
+			 new InSubrangeTester(new Position(30L, 20L), 100L),
+			 new TypeTester(Battery.class),
+			 new TypeTester(Robot.class),
+			 new EnergyTester(BasicComparison.L, new Energy(500)),
+			 combined,
+			 column};
+		 for(ConditionTester tester : testers){
+			 Set<BoardModel> expected = Collections.newSetFromMap(new IdentityHashMap<BoardModel, Boolean>());
+			 for(BoardModel model : b)
+				 if(tester.testCondition(model))
+					 expected.add(model);
+			 Set<BoardModel> actual = Collections.newSetFromMap(new IdentityHashMap<BoardModel, Boolean>());
+			 Iterator<BoardModel> it = b.conditionIterator(tester);
+			 while(it.hasNext())
+				 assertTrue(actual.add(it.next()));
+			 assertEquals(expected, actual);
+		 }
+	 }
+	 
+	 @Test (timeout = 5000)
+	 public void conditionIterator_queryHintAtBoundary(){
+		 Board b = new Board(Long.MAX_VALUE, Long.MAX_VALUE);
+		 for(long x = 0L; x < 3L; x++)
+			 for(long i = 0L; i < 7L; i++)
+				 new Battery(b, new Position(x, Long.MAX_VALUE - i));
+		 assertEquals(21, b.getNbBoardModels());
+		 for(long y : new long[]{Long.MAX_VALUE - 1L, Long.MAX_VALUE - 3L}){
+			 int count = 0;
+			 Iterator<BoardModel> it = b.conditionIterator(new InSubrangeTester(new Position(1L, y), 1L));
+			 while(it.hasNext()){
+				 it.next();
+				 count++;
+			 }
+			 assertEquals(9, count);
+		 }
+	 }
+	 
+	 @Test
+	 public void getAllBoardModelsClass_afterRemoval(){
+		 Robot robot = new Robot(board20x20y, new Position(3L, 4L), new Accu(new Energy(1000)), Direction.UP);
+		 Battery battery = new Battery(board20x20y, new Position(3L, 4L));
+		 assertEquals(2, board20x20y.getAllBoardModelsClass(BoardModel.class).size());
+		 board20x20y.removeBoardModel(robot);
+		 assertTrue(board20x20y.getAllBoardModelsClass(Robot.class).isEmpty());
+		 assertEquals(Collections.singleton(battery), board20x20y.getAllBoardModelsClass(InventoryModel.class));
+	 }
+	 
+	 @Test
+	 public void getModificationCount_countsChangedCells(){
+		 long count = board20x20y.getModificationCount();
+		 Robot robot = new Robot(board20x20y, new Position(3L, 4L), new Accu(new Energy(1000)), Direction.UP);
+		 assertEquals(count + 1, board20x20y.getModificationCount());
+		 board20x20y.moveBoardModelTo(robot, new Position(3L, 5L));
+		 assertEquals(count + 3, board20x20y.getModificationCount());
+		 board20x20y.getAllTargets(new Position(3L, 0L), Direction.DOWN);
+		 assertEquals(count + 3, board20x20y.getModificationCount());
+	 }
+	 
+	 @Test (expected = NullPointerException.class)
+	 public void addBoardListener_null(){
+		 board20x20y.addBoardListener(null);
+	 }
 }
@@ -0,0 +1,161 @@
+package roborally.board.test;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.*;
+import roborally.model.BoardModel;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of long keyed board storages.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class LongKeyedBoardStorageTest {
+
+	LongKeyedBoardStorage storage;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		storage = new LongKeyedBoardStorage();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct(){
+		assertEquals(0, storage.size());
+		assertTrue(storage.isEmpty());
+		assertEquals(LongKeyedBoardStorage.STANDARD_INITIAL_CAPACITY*2, storage.getCapacity());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void construct_negativeCapacityRejected(){
+		new LongKeyedBoardStorage(-1);
+	}
+
+	@Test
+	public void putCell_getCell(){
+		ArrayList<BoardModel> cell = new ArrayList<BoardModel>();
+		assertNull(storage.putCell(3L, Long.MAX_VALUE, cell));
+		assertSame(cell, storage.getCell(3L, Long.MAX_VALUE));
+		assertTrue(storage.containsCell(3L, Long.MAX_VALUE));
+		assertFalse(storage.containsCell(Long.MAX_VALUE, 3L));
+		assertNull(storage.getCell(Long.MAX_VALUE, 3L));
+		assertEquals(1, storage.size());
+	}
+
+	@Test
+	public void putCell_replace(){
+		ArrayList<BoardModel> cell1 = new ArrayList<BoardModel>();
+		ArrayList<BoardModel> cell2 = new ArrayList<BoardModel>();
+		storage.putCell(1L, 2L, cell1);
+		assertSame(cell1, storage.putCell(1L, 2L, cell2));
+		assertSame(cell2, storage.getCell(1L, 2L));
+		assertEquals(1, storage.size());
+	}
+
+	@Test (expected = NullPointerException.class)
+	public void putCell_nullCellRejected(){
+		storage.putCell(1L, 2L, null);
+	}
+
+	@Test
+	public void removeCell(){
+		ArrayList<BoardModel> cell = new ArrayList<BoardModel>();
+		storage.putCell(1L, 2L, cell);
+		assertSame(cell, storage.removeCell(1L, 2L));
+		assertFalse(storage.containsCell(1L, 2L));
+		assertNull(storage.removeCell(1L, 2L));
+		assertEquals(0, storage.size());
+	}
+
+	@Test
+	public void mapView(){
+		ArrayList<BoardModel> cell = new ArrayList<BoardModel>();
+		storage.put(new Position(4L, 5L), cell);
+		assertSame(cell, storage.getCell(4L, 5L));
+		assertSame(cell, storage.get(new Position(4L, 5L)));
+		assertTrue(storage.containsKey(new Position(4L, 5L)));
+		assertFalse(storage.containsKey("X:4Y:5"));
+		assertEquals(1, storage.keySet().size());
+		assertTrue(storage.keySet().contains(new Position(4L, 5L)));
+		assertTrue(storage.values().contains(cell));
+		assertSame(cell, storage.remove(new Position(4L, 5L)));
+		assertTrue(storage.isEmpty());
+	}
+
+	@Test
+	public void growAndRemove_consistentWithReferenceMap(){
+		Map<Position, ArrayList<BoardModel>> reference = new HashMap<Position, ArrayList<BoardModel>>();
+		Random random = new Random(42L);
+		for(int i=0; i<20000; i++){
+			long x = random.nextInt(200);
+			long y = random.nextInt(200);
+			if(random.nextInt(3) == 0){
+				assertSame(reference.remove(new Position(x, y)), storage.removeCell(x, y));
+			}
+			else{
+				ArrayList<BoardModel> cell = new ArrayList<BoardModel>();
+				assertSame(reference.put(new Position(x, y), cell), storage.putCell(x, y, cell));
+			}
+			assertEquals(reference.size(), storage.size());
+		}
+		for(Position key : reference.keySet())
+			assertSame(reference.get(key), storage.get(key));
+		assertEquals(reference.keySet(), storage.keySet());
+	}
+
+	@Test (expected = ConcurrentModificationException.class)
+	public void iterator_concurrentModification(){
+		storage.putCell(1L, 1L, new ArrayList<BoardModel>());
+		storage.putCell(2L, 2L, new ArrayList<BoardModel>());
+		Iterator<Position> iterator = storage.keySet().iterator();
+		iterator.next();
+		storage.putCell(3L, 3L, new ArrayList<BoardModel>());
+		iterator.next();
+	}
+
+	@Test
+	public void board_withStorage(){
+		Board board = new Board(20L, 20L, storage);
+		Wall wall = new Wall(board, new Position(3L, 4L));
+		assertTrue(storage.getCell(3L, 4L).contains(wall));
+		board.moveBoardModelTo(wall, new Position(5L, 6L));
+		assertFalse(storage.containsCell(3L, 4L));
+		assertTrue(storage.getCell(5L, 6L).contains(wall));
+		board.removeBoardModel(wall);
+		assertTrue(storage.isEmpty());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void board_nonEmptyStorageRejected(){
+		storage.putCell(1L, 1L, new ArrayList<BoardModel>());
+		new Board(20L, 20L, storage);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void board_nullStorageRejected(){
+		new Board(20L, 20L, null);
+	}
+}
@@ -167,5 +167,25 @@ public class CombinedTester implements ConditionTester {
 		}
 		return true;
 	}
+	
+	/**
+	 * Returns the query hint of this combined tester.
+	 * 
+	 * @return	The resulting query hint is the intersection of the query hints
+	 * 			of all the condition testers of this combined tester.
+	 * 			| let
+	 * 			|	QueryHint hint = QueryHint.NO_HINT
+	 * 			| in :
+	 * 			|	for each ct in getAllConditionTesters() :
+	 * 			|		hint = hint.intersect(ct.getQueryHint())
+	 * 			|	result.equals(hint)
+	 */
+	@Override
+	public QueryHint getQueryHint(){
+		QueryHint hint = QueryHint.NO_HINT;
+		for(ConditionTester ct : conditionTesters)
+			hint = hint.intersect(ct.getQueryHint());
+		return hint;
+	}
 
 }
@@ -22,4 +22,20 @@ public interface ConditionTester {
 	 * 			| 	then result == false
 	 */
 	public abstract boolean testCondition(BoardModel boardModel);
+	
+	/**
+	 * Returns a query hint every board model satisfying the condition lies in.
+	 * 
+	 * @return	The resulting query hint is effective.
+	 * 			| result != null
+	 * @return	The resulting query hint includes every board model that satisfies the condition.
+	 * 			| for each BoardModel boardModel :
+	 * 			|	if(testCondition(boardModel))
+	 * 			|		then result.getType().isInstance(boardModel)
+	 * 			|			&& result.getMinX() <= boardModel.getPosition().getCoordinate(Dimension.HORIZONTAL)
+	 * 			|			&& boardModel.getPosition().getCoordinate(Dimension.HORIZONTAL) <= result.getMaxX()
+	 * 			|			&& result.getMinY() <= boardModel.getPosition().getCoordinate(Dimension.VERTICAL)
+	 * 			|			&& boardModel.getPosition().getCoordinate(Dimension.VERTICAL) <= result.getMaxY()
+	 */
+	public abstract QueryHint getQueryHint();
 }
@@ -99,4 +99,16 @@ public class EnergyTester extends ComparisonTester{
 		return (EnergyModel.class.isInstance(boardModel))
 				&& getBasicComparison().compareDecode(((EnergyModel)boardModel).getAccu().getAmountOfEnergy(), getCompareOperand());
 	}
+	
+	/**
+	 * Returns the query hint of this energy tester.
+	 * 
+	 * @return	The type of the resulting query hint is the energy model class,
+	 * 			its bounding rectangle is unbounded.
+	 * 			| result.equals(new QueryHint(EnergyModel.class))
+	 */
+	@Override
+	public QueryHint getQueryHint(){
+		return new QueryHint(EnergyModel.class);
+	}
 }
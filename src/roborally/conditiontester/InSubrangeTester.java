@@ -1,6 +1,7 @@
 package roborally.conditiontester;
 
 import be.kuleuven.cs.som.annotate.*;
+import roborally.board.Dimension;
 import roborally.board.Position;
 import roborally.model.BoardModel;
 
@@ -96,5 +97,22 @@ public class InSubrangeTester implements ConditionTester {
 			return false;
 		return boardModel.getBoard().hasInArea(getPosition(), boardModel, range);
 	}
+	
+	/**
+	 * Returns the query hint of this in subrange tester.
+	 * 
+	 * @return	The bounding rectangle of the resulting query hint is the area
+	 * 			around the position of this in subrange tester.
+	 * 			| result.equals(new QueryHint(getPosition().getCoordinate(Dimension.HORIZONTAL) - getRange(),
+	 * 			|	getPosition().getCoordinate(Dimension.VERTICAL) - getRange(),
+	 * 			|	getPosition().getCoordinate(Dimension.HORIZONTAL) + getRange(),
+	 * 			|	getPosition().getCoordinate(Dimension.VERTICAL) + getRange(), BoardModel.class))
+	 */
+	@Override
+	public QueryHint getQueryHint(){
+		long x = getPosition().getCoordinate(Dimension.HORIZONTAL);
+		long y = getPosition().getCoordinate(Dimension.VERTICAL);
+		return new QueryHint(x - getRange(), y - getRange(), x + getRange(), y + getRange(), BoardModel.class);
+	}
 
 }
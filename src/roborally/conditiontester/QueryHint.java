@@ -0,0 +1,196 @@
+package roborally.conditiontester;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of query hints, describing a bounding rectangle and a type
+ * every board model satisfying a condition must lie in.
+ *
+ * A board can use the query hint of a condition tester to look up only the
+ * board models in its bounding rectangle or of its type, instead of testing
+ * all of its board models. A query hint never excludes a board model that
+ * satisfies the condition, but the board models it includes still have to be tested.
+ *
+ * @invar	The type of every query hint must be effective.
+ * 			| getType() != null
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+@Value
+public final class QueryHint {
+
+	/**
+	 * Initializes a new query hint with given bounding rectangle and type.
+	 *
+	 * @param 	minX
+	 * 			The smallest horizontal coordinate of the new query hint.
+	 * @param 	minY
+	 * 			The smallest vertical coordinate of the new query hint.
+	 * @param 	maxX
+	 * 			The largest horizontal coordinate of the new query hint.
+	 * @param 	maxY
+	 * 			The largest vertical coordinate of the new query hint.
+	 * @param 	type
+	 * 			The type of the new query hint.
+	 * @post	| new.getMinX() == minX && new.getMinY() == minY
+	 * @post	| new.getMaxX() == maxX && new.getMaxY() == maxY
+	 * @post	| new.getType() == type
+	 * @throws	NullPointerException
+	 * 			| type == null
+	 */
+	public QueryHint(long minX, long minY, long maxX, long maxY, Class<?> type) throws NullPointerException{
+		if(type == null)
+			throw new NullPointerException();
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.type = type;
+	}
+
+	/**
+	 * Initializes a new query hint with the given type and an unbounded rectangle.
+	 *
+	 * @param 	type
+	 * 			The type of the new query hint.
+	 * @effect	| this(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, type)
+	 */
+	public QueryHint(Class<?> type) throws NullPointerException{
+		this(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, type);
+	}
+
+	/**
+	 * Constant referencing the query hint that doesn't exclude any board model.
+	 */
+	public static final QueryHint NO_HINT = new QueryHint(Object.class);
+
+	/**
+	 * Returns the smallest horizontal coordinate of this query hint.
+	 */
+	@Basic @Immutable
+	public long getMinX(){
+		return minX;
+	}
+
+	/**
+	 * Variable registering the smallest horizontal coordinate of this query hint.
+	 */
+	private final long minX;
+
+	/**
+	 * Returns the smallest vertical coordinate of this query hint.
+	 */
+	@Basic @Immutable
+	public long getMinY(){
+		return minY;
+	}
+
+	/**
+	 * Variable registering the smallest vertical coordinate of this query hint.
+	 */
+	private final long minY;
+
+	/**
+	 * Returns the largest horizontal coordinate of this query hint.
+	 */
+	@Basic @Immutable
+	public long getMaxX(){
+		return maxX;
+	}
+
+	/**
+	 * Variable registering the largest horizontal coordinate of this query hint.
+	 */
+	private final long maxX;
+
+	/**
+	 * Returns the largest vertical coordinate of this query hint.
+	 */
+	@Basic @Immutable
+	public long getMaxY(){
+		return maxY;
+	}
+
+	/**
+	 * Variable registering the largest vertical coordinate of this query hint.
+	 */
+	private final long maxY;
+
+	/**
+	 * Returns the type of this query hint.
+	 */
+	@Basic @Immutable
+	public Class<?> getType(){
+		return type;
+	}
+
+	/**
+	 * Variable referencing the type of this query hint.
+	 */
+	private final Class<?> type;
+
+	/**
+	 * Checks whether the bounding rectangle of this query hint contains no coordinates.
+	 *
+	 * @return	| result == (getMinX() > getMaxX() || getMinY() > getMaxY())
+	 */
+	public boolean isEmpty(){
+		return getMinX() > getMaxX() || getMinY() > getMaxY();
+	}
+
+	/**
+	 * Returns a query hint that only includes board models included by
+	 * both this query hint and the given query hint.
+	 *
+	 * @param 	other
+	 * 			The other query hint.
+	 * @return	The bounding rectangle of the resulting query hint is the
+	 * 			intersection of both bounding rectangles.
+	 * 			| result.getMinX() == Math.max(getMinX(), other.getMinX())
+	 * 			| && result.getMinY() == Math.max(getMinY(), other.getMinY())
+	 * 			| && result.getMaxX() == Math.min(getMaxX(), other.getMaxX())
+	 * 			| && result.getMaxY() == Math.min(getMaxY(), other.getMaxY())
+	 * @return	The type of the resulting query hint is the most specific
+	 * 			of both types, or the type of this query hint if neither
+	 * 			type is a subtype of the other.
+	 * 			| if(getType().isAssignableFrom(other.getType()))
+	 * 			| 	then result.getType() == other.getType()
+	 * 			| else
+	 * 			|	result.getType() == getType()
+	 * @throws	NullPointerException
+	 * 			| other == null
+	 */
+	public QueryHint intersect(QueryHint other) throws NullPointerException{
+		Class<?> type = getType().isAssignableFrom(other.getType()) ? other.getType() : getType();
+		return new QueryHint(Math.max(getMinX(), other.getMinX()), Math.max(getMinY(), other.getMinY()),
+				Math.min(getMaxX(), other.getMaxX()), Math.min(getMaxY(), other.getMaxY()), type);
+	}
+
+	/**
+	 * Checks whether this query hint is equal to the given object.
+	 *
+	 * @return	| result == (other instanceof QueryHint)
+	 * 			|	&& getMinX() == ((QueryHint) other).getMinX() && getMinY() == ((QueryHint) other).getMinY()
+	 * 			|	&& getMaxX() == ((QueryHint) other).getMaxX() && getMaxY() == ((QueryHint) other).getMaxY()
+	 * 			|	&& getType() == ((QueryHint) other).getType()
+	 */
+	@Override
+	public boolean equals(Object other){
+		if(!(other instanceof QueryHint))
+			return false;
+		QueryHint hint = (QueryHint) other;
+		return getMinX() == hint.getMinX() && getMinY() == hint.getMinY()
+				&& getMaxX() == hint.getMaxX() && getMaxY() == hint.getMaxY()
+				&& getType() == hint.getType();
+	}
+
+	/**
+	 * Returns the hash code of this query hint.
+	 */
+	@Override
+	public int hashCode(){
+		return (int) (31*(31*(31*(31*minX + minY) + maxX) + maxY)) + type.hashCode();
+	}
+}
@@ -66,4 +66,16 @@ public class TypeTester implements ConditionTester{
 	public boolean testCondition(BoardModel boardModel) {
 		return getTestClass().isInstance(boardModel);
 	}
+	
+	/**
+	 * Returns the query hint of this type tester.
+	 * 
+	 * @return	The type of the resulting query hint is the test class of
+	 * 			this type tester, its bounding rectangle is unbounded.
+	 * 			| result.equals(new QueryHint(getTestClass()))
+	 */
+	@Override
+	public QueryHint getQueryHint(){
+		return new QueryHint(getTestClass());
+	}
 }
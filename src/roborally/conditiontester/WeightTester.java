@@ -98,4 +98,16 @@ public class WeightTester extends ComparisonTester{
 		return (InventoryModel.class.isInstance(boardModel))
 				&& getBasicComparison().compareDecode(((InventoryModel)boardModel).getWeight(), getCompareOperand());
 	}
+	
+	/**
+	 * Returns the query hint of this weight tester.
+	 * 
+	 * @return	The type of the resulting query hint is the inventory model class,
+	 * 			its bounding rectangle is unbounded.
+	 * 			| result.equals(new QueryHint(InventoryModel.class))
+	 */
+	@Override
+	public QueryHint getQueryHint(){
+		return new QueryHint(InventoryModel.class);
+	}
 }
@@ -4,7 +4,10 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import roborally.board.Position;
 import roborally.conditiontester.CombinedTester;
+import roborally.conditiontester.InSubrangeTester;
+import roborally.conditiontester.QueryHint;
 import roborally.conditiontester.TypeTester;
 import roborally.model.BoardModel;
 import roborally.model.dynamicObject.Robot;
@@ -156,4 +159,16 @@ public class CombinedTesterTest {
 		assertFalse(ct.testCondition(null));
 		assertFalse(ct.testCondition(r));
 	}
+	
+	@Test
+	public void getQueryHint(){
+		CombinedTester ct = new CombinedTester();
+		assertEquals(QueryHint.NO_HINT, ct.getQueryHint());
+		ct.addConditionTester(new TypeTester(Robot.class));
+		ct.addConditionTester(new InSubrangeTester(new Position(5L,5L), 3L));
+		CombinedTester ct2 = new CombinedTester();
+		ct2.addConditionTester(new InSubrangeTester(new Position(9L,9L), 2L));
+		ct.addConditionTester(ct2);
+		assertEquals(new QueryHint(7L, 7L, 8L, 8L, Robot.class), ct.getQueryHint());
+	}
 }
@@ -7,6 +7,8 @@ import org.junit.Test;
 import roborally.board.Board;
 import roborally.board.Position;
 import roborally.conditiontester.InSubrangeTester;
+import roborally.conditiontester.QueryHint;
+import roborally.model.BoardModel;
 import roborally.model.dynamicObject.Robot;
 
 /**
@@ -61,4 +63,10 @@ public class InSubrangeTesterTest {
 		assertTrue(ist.testCondition(new Robot(new Board(10L,10L), new Position(10L,6L))));
 		assertTrue(ist.testCondition(new Robot(new Board(10L,10L), new Position(0L,0L))));
 	}
+	
+	@Test
+	public void getQueryHint(){
+		InSubrangeTester ist = new InSubrangeTester(new Position(5L,6L), 2L);
+		assertEquals(new QueryHint(3L, 4L, 7L, 8L, BoardModel.class), ist.getQueryHint());
+	}
 }
@@ -0,0 +1,76 @@
+package roborally.conditiontester.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import roborally.conditiontester.QueryHint;
+import roborally.model.BoardModel;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.EnergyModel;
+import roborally.model.inventory.item.Battery;
+
+/**
+ * A test class for query hint objects.
+ * 
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class QueryHintTest {
+
+	@Test
+	public void construct(){
+		QueryHint hint = new QueryHint(1L, 2L, 3L, 4L, Robot.class);
+		assertEquals(1L, hint.getMinX());
+		assertEquals(2L, hint.getMinY());
+		assertEquals(3L, hint.getMaxX());
+		assertEquals(4L, hint.getMaxY());
+		assertEquals(Robot.class, hint.getType());
+		assertFalse(hint.isEmpty());
+	}
+	
+	@Test
+	public void construct_unbounded(){
+		QueryHint hint = new QueryHint(Battery.class);
+		assertEquals(Long.MIN_VALUE, hint.getMinX());
+		assertEquals(Long.MIN_VALUE, hint.getMinY());
+		assertEquals(Long.MAX_VALUE, hint.getMaxX());
+		assertEquals(Long.MAX_VALUE, hint.getMaxY());
+		assertEquals(Battery.class, hint.getType());
+	}
+	
+	@Test (expected = NullPointerException.class)
+	public void construct_null(){
+		new QueryHint(null);
+	}
+	
+	@Test
+	public void isEmpty(){
+		assertTrue(new QueryHint(3L, 0L, 2L, 5L, Robot.class).isEmpty());
+		assertTrue(new QueryHint(0L, 3L, 5L, 2L, Robot.class).isEmpty());
+		assertFalse(new QueryHint(2L, 2L, 2L, 2L, Robot.class).isEmpty());
+	}
+	
+	@Test
+	public void intersect(){
+		QueryHint hint = new QueryHint(0L, 0L, 5L, 5L, BoardModel.class).intersect(new QueryHint(3L, -2L, 8L, 4L, Robot.class));
+		assertEquals(new QueryHint(3L, 0L, 5L, 4L, Robot.class), hint);
+		assertTrue(hint.intersect(new QueryHint(6L, 0L, 9L, 9L, Robot.class)).isEmpty());
+	}
+	
+	@Test
+	public void intersect_unrelatedTypes(){
+		assertEquals(Battery.class, new QueryHint(Battery.class).intersect(new QueryHint(EnergyModel.class)).getType());
+		assertEquals(Battery.class, new QueryHint(EnergyModel.class).intersect(new QueryHint(Battery.class)).getType());
+		assertEquals(Robot.class, QueryHint.NO_HINT.intersect(new QueryHint(Robot.class)).getType());
+	}
+	
+	@Test
+	public void equals(){
+		assertEquals(new QueryHint(1L, 2L, 3L, 4L, Robot.class), new QueryHint(1L, 2L, 3L, 4L, Robot.class));
+		assertEquals(new QueryHint(1L, 2L, 3L, 4L, Robot.class).hashCode(), new QueryHint(1L, 2L, 3L, 4L, Robot.class).hashCode());
+		assertFalse(new QueryHint(1L, 2L, 3L, 4L, Robot.class).equals(new QueryHint(1L, 2L, 3L, 4L, Battery.class)));
+		assertFalse(new QueryHint(Robot.class).equals(null));
+	}
+}
@@ -11,6 +11,7 @@ import roborally.model.energy.EnergyModel;
 import roborally.model.inventory.Collector;
 import roborally.model.inventory.InventoryUser;
 import roborally.model.inventory.item.Battery;
+import roborally.conditiontester.QueryHint;
 
 /**
  * A test class for type tester objects.
@@ -60,4 +61,10 @@ public class TypeTesterTest {
 		assertFalse(tt6.testCondition(null));
 		assertFalse(tt7.testCondition(null));
 	}
+	
+	@Test
+	public void getQueryHint(){
+		assertEquals(new QueryHint(Battery.class), new TypeTester(Battery.class).getQueryHint());
+		assertEquals(new QueryHint(BoardModel.class), new TypeTester(null).getQueryHint());
+	}
 }
@@ -1,5 +1,6 @@
 package roborally.facade;
 
+import roborally.astar.PathfindingContext;
 import roborally.board.*;
 import roborally.model.*;
 import roborally.model.dynamicObject.*;
@@ -520,7 +521,7 @@ public class Facade implements IFacade<Board, Robot, Wall, Battery, RepairKit, S
 		if(robot.getBoard() == null)
 			return -1;
 		try{
-			Energy retVal  = robot.getMinimalEnergyRequiredToReachPosition(new Position(x, y));
+			Energy retVal  = robot.getMinimalEnergyRequiredToReachPosition(new Position(x, y), pathfindingContext);
 			if(retVal.compareTo(robot.getEnergy()) <= 0)
 				return retVal.getEnergyAmount();
 			else
@@ -531,6 +532,11 @@ public class Facade implements IFacade<Board, Robot, Wall, Battery, RepairKit, S
 		}
 	}
 	
+	/**
+	 * Variable referencing the pathfinding context reused by all pathfinding queries of this facade.
+	 */
+	private final PathfindingContext pathfindingContext = new PathfindingContext();
+	
 	/**
 	 * Return whether your implementation of <code>moveNextTo</code> takes into account other robots, walls and the fact that turning consumes energy (required to score 18+). The return
 	 * value of this method determines the expected effect of <code>moveNextTo</code> in the test suite.
@@ -562,7 +568,7 @@ public class Facade implements IFacade<Board, Robot, Wall, Battery, RepairKit, S
 	@Override
 	public void moveNextTo(Robot robot, Robot other){
 		try{
-			robot.moveNextTo(other);
+			robot.moveNextTo(other, pathfindingContext);
 		}
 		catch(IllegalArgumentException e){
 			System.err.println(e.getMessage());
@@ -748,8 +754,6 @@ public class Facade implements IFacade<Board, Robot, Wall, Battery, RepairKit, S
 	 */
 	@Override
 	public void stepn(Robot robot, int n){
-		for (int i = 0; i < n; i++){
-			robot.executeProgramStep();
-		}
+		robot.executeProgramSteps(n);
 	}
 }
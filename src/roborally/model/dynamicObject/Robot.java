@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 
 import roborally.astar.Astar;
+import roborally.astar.PathfindingContext;
+import roborally.astar.RoutePlanner;
 import roborally.board.*;
 import roborally.model.*;
 import roborally.model.inventory.*;
@@ -338,7 +340,7 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 	 * 
 	 * @return	Returns the amount of energy stored in this robot's accu
 	 * 			expressed in WS.
-	 * 			| result == getAccu().getAmountOfEnergy().toEnergyUnit(EnergyUnit.WS).getEnergyAmount()
+	 * 			| result == getAccu().getAmountOfEnergyIn(EnergyUnit.WS)
 	 * @throws 	IllegalStateException
 	 * 			Robot is not effective.
 	 * 			| isTerminated()
@@ -348,7 +350,7 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 		if (isTerminated())
 			throw new IllegalStateException("Robot is not effective");
 		//NullpointerException: avoided due to invariant: if !isTerminated() then getAccu() != null
-		return getAccu().getAmountOfEnergy().toEnergyUnit(EnergyUnit.WS).getEnergyAmount();
+		return getAccu().getAmountOfEnergyIn(EnergyUnit.WS);
 	}
 	
 	/**
@@ -568,7 +570,7 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 	 * 			(rounded to the first smaller or equal integer).
 	 * 			| if(Cost.isValidCost(cost) && Cost.MOVE == cost)
 	 * 			| let
-	 * 			|	total = getInventory().getTotalWeightOfInventoryItems(MOVE_WEIGHT_SURPLUS_FACTOR.getWeightUnit()).getWeightAmount()
+	 * 			|	total = getInventory().getTotalWeightAmount(MOVE_WEIGHT_SURPLUS_FACTOR.getWeightUnit())
 	 * 			|	factor_move = (total/MOVE_WEIGHT_SURPLUS_FACTOR.getWeightAmount())
 	 *			|	surplus = ENERGY_MOVE_WEIGHT_SURPLUS_COST.multiply(factor_move)
 	 *			| in:
@@ -601,9 +603,10 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 		if(!hasAsEnergyCost(cost))
 			return Energy.WS_0;
 		
-		double total = getInventory().getTotalWeightOfInventoryItems(MOVE_WEIGHT_SURPLUS_FACTOR.getWeightUnit()).getWeightAmount();
-		
 		if(cost == Cost.MOVE){
+			double total = getInventory().getTotalWeightAmount(MOVE_WEIGHT_SURPLUS_FACTOR.getWeightUnit());
+			if(total == 0.0)
+				return energyCostCores.get(cost);
 			double factor_move = (total/MOVE_WEIGHT_SURPLUS_FACTOR.getWeightAmount());
 			Energy surplus = ENERGY_MOVE_WEIGHT_SURPLUS_COST.multiply(factor_move);
 			return energyCostCores.get(cost).add(surplus);
@@ -824,9 +827,7 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 			return false;
 		if(getBoard() == null)
 			return false;
-		// IllegalStateException (getEnergy): 		avoided because method has already returned false if robot is terminated
-		// IllegalArgumentException (subtract):		avoided because method has already returned false if energyCost is invalid
-		return (canHaveAsEnergy(getEnergy().subtract(energyCost)));
+		return getAccu().canDischargeAmountOfEnergy(energyCost);
 	}
 	
 	/**
@@ -1028,14 +1029,82 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 	 */
 	public Energy getMinimalEnergyRequiredToReachPosition(Position position)
 			throws IllegalStateException, IllegalArgumentException{
+		return getMinimalEnergyRequiredToReachPosition(position, getPathfindingContext());
+	}
+	
+	/**
+	 * Returns the minimal amount of energy required to reach a certain position with this robot
+	 * without performing any inefficient moves or turns, searched with the given pathfinding context.
+	 * 
+	 * @param 	coordinates
+	 * 			The coordinates corresponding to the position that this robot
+	 * 			must reach.
+	 * @param	context
+	 * 			The pathfinding context to search with.
+	 * @return 	| result.equals(Astar.getEnergyRequiredForAstarRoute(this, position, context.getEngine()))
+	 * @note	The energy is looked up in the cache of distance fields of the board of this robot;
+	 * 			the engine of the given context only searches if the cache cannot answer the query.
+	 * @throws	IllegalStateException
+	 * 			This robot is not effective.
+	 * 			| isTerminated()
+	 * @throws	IllegalArgumentException
+	 * 			This robot cannot be located on the given position.
+	 * 			| !getBoard().canHaveBoardModelAtNoBindingCheck(position, this)
+	 * @throws	IllegalArgumentException
+	 * 			The given position is unreachable or too complex to reach.
+	 * @throws	IllegalArgumentException
+	 * 			The given pathfinding context refers the null reference.
+	 * 			| context == null
+	 */
+	public Energy getMinimalEnergyRequiredToReachPosition(Position position, PathfindingContext context)
+			throws IllegalStateException, IllegalArgumentException{
 		if(isTerminated())
 			throw new IllegalStateException("This robot is not effective.");
+		if(context == null)
+			throw new IllegalArgumentException("The given pathfinding context is invalid.");
 		//NullPointerException: 	avoided due to invariant
 		if (!getBoard().canHaveBoardModelAtNoBindingCheck(position, this))
 			throw new IllegalArgumentException("Robot can not be located on the given position.");
-		return Astar.getEnergyRequiredForAstarRoute(this, position);
+		return getBoard().getDistanceFieldCache().getEnergyRequired(this, position, context.getEngine());
 	}
 	
+	/**
+	 * Returns the pathfinding context this robot uses for its own pathfinding queries.
+	 * 
+	 * @return	The same pathfinding context is returned for every call.
+	 * 			| result == getPathfindingContext()
+	 * @note	The pathfinding context is only created at the first call.
+	 */
+	public PathfindingContext getPathfindingContext(){
+		if(pathfindingContext == null)
+			pathfindingContext = new PathfindingContext();
+		return pathfindingContext;
+	}
+	
+	/**
+	 * Variable referencing the pathfinding context of this robot.
+	 */
+	private PathfindingContext pathfindingContext;
+	
+	/**
+	 * Returns the sensor snapshot of this robot.
+	 * 
+	 * @return	The same sensor snapshot is returned for every call.
+	 * 			| result == getSensorSnapshot()
+	 * @return	| result.getRobot() == this
+	 * @note	The sensor snapshot is only created at the first call.
+	 */
+	public SensorSnapshot getSensorSnapshot(){
+		if(sensorSnapshot == null)
+			sensorSnapshot = new SensorSnapshot(this);
+		return sensorSnapshot;
+	}
+	
+	/**
+	 * Variable referencing the sensor snapshot of this robot.
+	 */
+	private SensorSnapshot sensorSnapshot;
+	
 	/**
 	 * Moves this robot and the given robot as close as possible to each other
 	 * with the least total amount of energy consumed.
@@ -1074,11 +1143,40 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 	 */
 	public void moveNextTo(Robot other)
 			throws IllegalArgumentException, IllegalStateException{
+		moveNextTo(other, getPathfindingContext());
+	}
+	
+	/**
+	 * Moves this robot and the given robot as close as possible to each other
+	 * with the least total amount of energy consumed, searched with the given pathfinding context.
+	 * 
+	 * @param 	other
+	 * 			The other robot to move next to.
+	 * @param	context
+	 * 			The pathfinding context to search with.
+	 * @effect	| moveNextTo(other)
+	 * @throws	IllegalArgumentException
+	 * 			The given other robot refers the null reference.
+	 * 			The given other robot's board refers the null reference.
+	 * 			This robot's board refers the null reference.
+	 * 			The given other robot refers this robot.
+	 * 			| other == null || other.getBoard() == null || this.getBoard() == null || other == this
+	 * @throws	IllegalArgumentException
+	 * 			The robots are not located on the same board.
+	 * 			| getBoard() != other.getBoard()
+	 * @throws	IllegalArgumentException
+	 * 			The given pathfinding context refers the null reference.
+	 * 			| context == null
+	 */
+	public void moveNextTo(Robot other, PathfindingContext context)
+			throws IllegalArgumentException, IllegalStateException{
 		if(other == null || other.getBoard() == null || this.getBoard() == null || other == this)
 			throw new IllegalArgumentException("One of the operating robots or their boards are invalid for this operation.");
 		if (getBoard() != other.getBoard())
 			throw new IllegalArgumentException("Robots are not located on the same board.");
-		List<List<Position>> posLists = Astar.generateOptimalPositionLists(this, other);
+		if(context == null)
+			throw new IllegalArgumentException("The given pathfinding context is invalid.");
+		List<List<Position>> posLists = Astar.generateOptimalPositionLists(this, other, context);
 		moveAccordingToPositionList(posLists.get(0));
 		other.moveAccordingToPositionList(posLists.get(1));
 	}
@@ -1119,6 +1217,43 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 		}
 	}
 	
+	/**
+	 * Moves this robot one step along the optimal route of the given route planner.
+	 * The route planner repairs its route for all changes of the board since its
+	 * previous request, so this robot can follow it while the board changes.
+	 * 
+	 * @pre		The robot must be able to pay the energy cost of the next step of the route.
+	 * 			| canDoEnergyCostMethod(getEnergyCostOf(Cost.MOVE)
+	 * 			|	.add(getEnergyCostOf(Cost.TURN).multiply(Direction.amountOfEfficientTurnsToDirection(getDirection(),
+	 * 			|		firstDirectionToReachPosition(planner.getNextPosition())))))
+	 * @param 	planner
+	 * 			The route planner of this robot.
+	 * @effect	The robot turns if needed and moves to the next position of the route.
+	 * 			| moveDirection(firstDirectionToReachPosition(planner.getNextPosition()))
+	 * @effect	If this robot has reached the target position of the route planner,
+	 * 			the route planner is terminated, so it no longer listens to the board.
+	 * 			| if(new.getPosition().equals(planner.getTarget()))
+	 * 			|	then planner.terminate()
+	 * @throws	IllegalArgumentException
+	 * 			The given route planner refers the null reference or is not a route planner of this robot.
+	 * 			| planner == null || planner.getRobot() != this
+	 * @throws	IllegalArgumentException
+	 * 			This robot is already located on the target position of the route planner,
+	 * 			or that position is unreachable or too complex to reach.
+	 * @throws	IllegalStateException
+	 * 			The route planner is terminated or this robot has left its board.
+	 * 			| planner.isTerminated() || getBoard() != planner.getBoard()
+	 */
+	public void moveAlong(RoutePlanner planner)
+			throws IllegalArgumentException, IllegalStateException{
+		if(planner == null || planner.getRobot() != this)
+			throw new IllegalArgumentException("The given route planner is invalid.");
+		//precondition: 	the energy cost of the step is checked by moveDirection
+		moveDirection(firstDirectionToReachPosition(planner.getNextPosition()));
+		if(getPosition().equals(planner.getTarget()))
+			planner.terminate();
+	}
+	
 	/**
 	 * The robot's accu is standard discharged with this energy variable when shot. 
 	 */
@@ -1163,17 +1298,42 @@ public class Robot extends BoardModel implements EnergyModel, InventoryUser{
 	 * 			| if(getProgram() != null && !getProgramFinished())
 	 * 			|	then if(getProgram().isFinished()) then setProgramFinished(true)
 	 * 			| [all clauses SEQENTIAL]
+	 * @note	The energy this robot spends during the step is recorded in the
+	 * 			ledger of its accu and settled once at the end of the step.
 	 */
 	public void executeProgramStep(){
 		if(getProgram() != null && !getProgramFinished()){
-			if(getProgram().isFinished())
-				getProgram().start();
-			getProgram().executeStep();
-			if (getProgram().isFinished())
-				setProgramFinished(true);
+			Accu accu = getAccu();
+			boolean ledger = accu != null && !accu.isLedgerOpen();
+			if(ledger)
+				accu.openLedger();
+			try{
+				if(getProgram().isFinished())
+					getProgram().start();
+				getProgram().executeStep();
+				if (getProgram().isFinished())
+					setProgramFinished(true);
+			}
+			finally{
+				if(ledger)
+					accu.settleLedger();
+			}
 		}
 	}
 	
+	/**
+	 * Executes the given number of steps of the program of this robot.
+	 * 
+	 * @param 	n
+	 * 			The number of steps that has to be executed.
+	 * @effect	| for each i in [1..n] :
+	 * 			| 	executeProgramStep()
+	 */
+	public void executeProgramSteps(int n){
+		for(int i = 0; i < n; i++)
+			executeProgramStep();
+	}
+	
 	/**
 	 * Sets this robot's program to a program, read from the given file path.
 	 * 
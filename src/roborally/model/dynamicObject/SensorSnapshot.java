@@ -0,0 +1,213 @@
+package roborally.model.dynamicObject;
+
+import java.util.Collections;
+import java.util.List;
+
+import roborally.board.Board;
+import roborally.board.Position;
+import roborally.model.BoardModel;
+import roborally.model.Direction;
+import roborally.model.inventory.item.InventoryModel;
+import roborally.model.staticObject.Wall;
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of sensor snapshots, registering what a robot perceives of its board.
+ *
+ * Every sensor reading is only computed when it is first asked for, and is reused
+ * until the board of the robot changes or the robot is put on another position, in
+ * another direction or on another board. All conditions evaluated in the same program
+ * step therefore share a single query of the board per sensor.
+ *
+ * @invar	The robot of every sensor snapshot is effective.
+ * 			| getRobot() != null
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class SensorSnapshot {
+
+	/**
+	 * Initializes a new sensor snapshot for the given robot.
+	 *
+	 * @param 	robot
+	 * 			The robot of the new sensor snapshot.
+	 * @post	| new.getRobot() == robot
+	 * @throws	NullPointerException
+	 * 			| robot == null
+	 */
+	public SensorSnapshot(Robot robot) throws NullPointerException{
+		if(robot == null)
+			throw new NullPointerException();
+		this.robot = robot;
+	}
+
+	/**
+	 * Returns the robot of this sensor snapshot.
+	 */
+	@Basic @Immutable
+	public Robot getRobot(){
+		return robot;
+	}
+
+	/**
+	 * Variable referencing the robot of this sensor snapshot.
+	 */
+	private final Robot robot;
+
+	/**
+	 * Checks whether the position to the right of the robot of this sensor snapshot
+	 * is occupied by a wall.
+	 *
+	 * @return	False if the robot is not located on any board.
+	 * 			| if(getRobot().getBoard() == null)
+	 * 			|	then result == false
+	 * @return	Otherwise true if and only if the position to the right of the robot
+	 * 			is occupied by at least one wall.
+	 * 			| let
+	 * 			|	Position toRightOfRobotPos = getRobot().getPosition().getNextPositionInDirection(Direction.turnDirectionClockwise(getRobot().getDirection()))
+	 * 			| in :
+	 * 			|	result == getRobot().getBoard().containsPositionKey(toRightOfRobotPos)
+	 * 			|		&& getRobot().getBoard().getBoardModelsClassAt(toRightOfRobotPos, Wall.class).size() > 0
+	 */
+	public boolean hasWallToTheRight(){
+		if(!isUpToDate())
+			invalidate();
+		if(wallToTheRight == null){
+			wallToTheRight = false;
+			Board board = getRobot().getBoard();
+			if(board != null){
+				Position toRightOfRobotPos = getRobot().getPosition().getNextPositionInDirection(Direction.turnDirectionClockwise(getRobot().getDirection()));
+				wallToTheRight = board.containsPositionKey(toRightOfRobotPos)
+						&& board.getBoardModelsClassAt(toRightOfRobotPos, Wall.class).size() > 0;
+			}
+		}
+		return wallToTheRight;
+	}
+
+	/**
+	 * Variable registering whether the position to the right of the robot is occupied by a wall,
+	 * or referencing the null reference if this sensor has not been read since the last change.
+	 */
+	private Boolean wallToTheRight;
+
+	/**
+	 * Returns the inventory models located on the position of the robot of this sensor snapshot.
+	 *
+	 * @return	An empty list if the robot is not located on any board.
+	 * 			| if(getRobot().getBoard() == null)
+	 * 			|	then result.isEmpty()
+	 * @return	Otherwise the inventory models located on the position of the robot.
+	 * 			| result.equals(getRobot().getBoard().getBoardModelsClassAt(getRobot().getPosition(), InventoryModel.class))
+	 * @note	The resulting list can't be modified.
+	 */
+	public List<InventoryModel> getInventoryModelsUnderfoot(){
+		if(!isUpToDate())
+			invalidate();
+		if(inventoryModelsUnderfoot == null){
+			Board board = getRobot().getBoard();
+			if(board == null)
+				inventoryModelsUnderfoot = Collections.emptyList();
+			else
+				inventoryModelsUnderfoot = Collections.unmodifiableList(board.getBoardModelsClassAt(getRobot().getPosition(), InventoryModel.class));
+		}
+		return inventoryModelsUnderfoot;
+	}
+
+	/**
+	 * Variable referencing the inventory models located on the position of the robot,
+	 * or the null reference if this sensor has not been read since the last change.
+	 */
+	private List<InventoryModel> inventoryModelsUnderfoot;
+
+	/**
+	 * Checks whether a robot is among the first board models the robot of this sensor
+	 * snapshot would hit when shooting.
+	 *
+	 * @return	False if the robot is not located on any board.
+	 * 			| if(getRobot().getBoard() == null)
+	 * 			|	then result == false
+	 * @return	Otherwise true if and only if one of the targets of the robot is a robot.
+	 * 			| result ==
+	 * 			|	for some i in 0..getRobot().getBoard().getAllTargets(getRobot().getPosition(), getRobot().getDirection()).size()-1 :
+	 * 			|		Robot.class.isInstance(getRobot().getBoard().getAllTargets(getRobot().getPosition(), getRobot().getDirection()).get(i))
+	 * @note	The energy of the robot is not taken into account.
+	 */
+	public boolean hasRobotInLineOfFire(){
+		if(!isUpToDate())
+			invalidate();
+		if(robotInLineOfFire == null){
+			robotInLineOfFire = false;
+			Board board = getRobot().getBoard();
+			if(board != null){
+				for(BoardModel bm : board.getAllTargets(getRobot().getPosition(), getRobot().getDirection())){
+					if(Robot.class.isInstance(bm)){
+						robotInLineOfFire = true;
+						break;
+					}
+				}
+			}
+		}
+		return robotInLineOfFire;
+	}
+
+	/**
+	 * Variable registering whether a robot is in the line of fire of the robot,
+	 * or referencing the null reference if this sensor has not been read since the last change.
+	 */
+	private Boolean robotInLineOfFire;
+
+	/**
+	 * Checks whether the sensor readings of this sensor snapshot still hold.
+	 *
+	 * @return	True if and only if neither the board of the robot, nor its position
+	 * 			and direction, nor any cell of its board changed since the readings were taken.
+	 */
+	public boolean isUpToDate(){
+		Board board = getRobot().getBoard();
+		if(board != this.board || getRobot().getDirection() != this.direction)
+			return false;
+		if(board == null)
+			return true;
+		return board.getModificationCount() == this.modificationCount
+				&& getRobot().getPosition().equals(this.position);
+	}
+
+	/**
+	 * Discards all sensor readings of this sensor snapshot and registers the current
+	 * board, position and direction of the robot.
+	 *
+	 * @post	| new.isUpToDate()
+	 */
+	@Model
+	private void invalidate(){
+		wallToTheRight = null;
+		inventoryModelsUnderfoot = null;
+		robotInLineOfFire = null;
+		board = getRobot().getBoard();
+		direction = getRobot().getDirection();
+		position = board == null ? null : getRobot().getPosition();
+		modificationCount = board == null ? 0L : board.getModificationCount();
+	}
+
+	/**
+	 * Variable referencing the board of the robot when the readings were taken.
+	 */
+	private Board board;
+
+	/**
+	 * Variable referencing the position of the robot when the readings were taken.
+	 */
+	private Position position;
+
+	/**
+	 * Variable referencing the direction of the robot when the readings were taken.
+	 */
+	private Direction direction;
+
+	/**
+	 * Variable registering the modification count of the board of the robot when the readings were taken.
+	 */
+	private long modificationCount;
+}
@@ -3,6 +3,7 @@ package roborally.model.dynamicObject.test;
 import java.io.IOException;
 import java.math.BigInteger;
 
+import roborally.astar.PathfindingContext;
 import roborally.board.*;
 import roborally.model.*;
 import roborally.model.dynamicObject.Robot;
@@ -588,6 +589,25 @@ public class RobotTest {
 		assertEquals(new Energy(1100),rob.getMinimalEnergyRequiredToReachPosition(new Position(21, 19)));
 	}
 	
+	@Test
+	public void getMinimalEnergyRequiredToReachPosition_sharedPathfindingContext(){
+		Board b = new Board(2000, 1000);
+		Robot rob1 = new Robot(b, new Position(20, 20), new Accu(new Energy(0)), Direction.UP);
+		Robot rob2 = new Robot(b, new Position(30, 20), new Accu(new Energy(0)), Direction.DOWN);
+		PathfindingContext context = new PathfindingContext();
+		assertEquals(new Energy(1100),rob1.getMinimalEnergyRequiredToReachPosition(new Position(21, 19), context));
+		assertEquals(new Energy(5600),rob2.getMinimalEnergyRequiredToReachPosition(new Position(20, 21), context));
+		int capacity = context.getEngine().getCapacity();
+		assertEquals(new Energy(1100),rob1.getMinimalEnergyRequiredToReachPosition(new Position(21, 19), context));
+		assertEquals(capacity, context.getEngine().getCapacity());
+		assertSame(rob1.getPathfindingContext(), rob1.getPathfindingContext());
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void getMinimalEnergyRequiredToReachPosition_nullPathfindingContext(){
+		position20x20yDirectionUp.getMinimalEnergyRequiredToReachPosition(new Position(21, 19), null);
+	}
+	
 	@Test
 	public void getMinimalEnergyRequiredToReachPosition_clearBoard_twoTurnsOneTranslation(){
 		Board b = new Board(2000, 1000);
@@ -1242,6 +1262,17 @@ public class RobotTest {
 		 assertEquals(oldpos, rob.getPosition());
 	 }
 	 
+	 @Test
+	 public void executeProgramStep_settlesLedger() throws IllegalArgumentException, IOException{
+		 Board b = new Board(20, 20);
+		 Robot rob = new Robot(b, new Position(5, 5), new Accu(new Energy(10000), new Energy(20000)), Direction.RIGHT);
+		 rob.setProgramFromFile("src/res/programs/gump.prog");
+		 rob.executeProgramStep();
+		 assertFalse(rob.getAccu().isLedgerOpen());
+		 assertEquals(10000 - 500, rob.getAccu().getAmountOfEnergy().getEnergyAmount(), 0.0001);
+		 assertEquals(10000 - 500, rob.getAmountOfEnergyInWS(), 0.0001);
+	 }
+	 
 	 @Test
 	 public void setProgramFromFile() throws IllegalArgumentException, IOException{
 		 Board b = new Board(20, 20);
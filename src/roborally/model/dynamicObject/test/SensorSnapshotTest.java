@@ -0,0 +1,128 @@
+package roborally.model.dynamicObject.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.Board;
+import roborally.board.Position;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.dynamicObject.SensorSnapshot;
+import roborally.model.energy.Accu;
+import roborally.model.energy.Energy;
+import roborally.model.inventory.item.Battery;
+import roborally.model.staticObject.Wall;
+
+/**
+ * A class collecting tests for the class of sensor snapshots.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class SensorSnapshotTest {
+
+	Board board;
+	Robot robot;
+	SensorSnapshot snapshot;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		board = new Board(20L, 20L);
+		robot = new Robot(board, new Position(5L, 5L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.UP);
+		snapshot = robot.getSensorSnapshot();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct(){
+		assertSame(robot, snapshot.getRobot());
+		assertSame(snapshot, robot.getSensorSnapshot());
+		assertFalse(snapshot.isUpToDate());
+	}
+
+	@Test (expected = NullPointerException.class)
+	public void construct_null(){
+		new SensorSnapshot(null);
+	}
+
+	@Test
+	public void hasWallToTheRight_invalidatedByNewWall(){
+		assertFalse(snapshot.hasWallToTheRight());
+		assertTrue(snapshot.isUpToDate());
+		new Wall(board, new Position(6L, 5L));
+		assertFalse(snapshot.isUpToDate());
+		assertTrue(snapshot.hasWallToTheRight());
+	}
+
+	@Test
+	public void hasWallToTheRight_invalidatedByTurn(){
+		new Wall(board, new Position(6L, 5L));
+		assertTrue(snapshot.hasWallToTheRight());
+		robot.turnClockwise();
+		assertFalse(snapshot.isUpToDate());
+		assertFalse(snapshot.hasWallToTheRight());
+	}
+
+	@Test
+	public void getInventoryModelsUnderfoot(){
+		assertTrue(snapshot.getInventoryModelsUnderfoot().isEmpty());
+		Battery battery = new Battery(board, new Position(5L, 5L));
+		assertEquals(1, snapshot.getInventoryModelsUnderfoot().size());
+		assertSame(battery, snapshot.getInventoryModelsUnderfoot().get(0));
+		robot.move();
+		assertTrue(snapshot.getInventoryModelsUnderfoot().isEmpty());
+	}
+
+	@Test (expected = UnsupportedOperationException.class)
+	public void getInventoryModelsUnderfoot_unmodifiable(){
+		snapshot.getInventoryModelsUnderfoot().add(new Battery());
+	}
+
+	@Test
+	public void hasRobotInLineOfFire(){
+		assertFalse(snapshot.hasRobotInLineOfFire());
+		Robot other = new Robot(board, new Position(5L, 1L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.UP);
+		assertTrue(snapshot.hasRobotInLineOfFire());
+		new Wall(board, new Position(5L, 3L));
+		assertFalse(snapshot.hasRobotInLineOfFire());
+		board.removeBoardModel(other);
+		robot.turnCounterClockwise();
+		assertFalse(snapshot.hasRobotInLineOfFire());
+	}
+
+	@Test
+	public void readings_reusedWhileBoardUnchanged(){
+		snapshot.hasWallToTheRight();
+		snapshot.hasRobotInLineOfFire();
+		long count = board.getModificationCount();
+		assertTrue(snapshot.isUpToDate());
+		snapshot.getInventoryModelsUnderfoot();
+		assertTrue(snapshot.isUpToDate());
+		assertEquals(count, board.getModificationCount());
+	}
+
+	@Test
+	public void readings_robotWithoutBoard(){
+		board.removeBoardModel(robot);
+		assertFalse(snapshot.hasWallToTheRight());
+		assertTrue(snapshot.getInventoryModelsUnderfoot().isEmpty());
+		assertFalse(snapshot.hasRobotInLineOfFire());
+	}
+}
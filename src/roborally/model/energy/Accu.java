@@ -162,13 +162,63 @@ public class Accu implements Terminatable{
 		return (Energy.isValidEnergy(request)) && (request.getEnergyAmount() >=0.0) && (request.compareTo(getEnergyCapacityLimit()) <= 0);
 	}
 	
+	/**
+	 * Checks whether the given discharge amount can be discharged from this accu.
+	 * 
+	 * @param 	dischargeAmount
+	 * 			The amount of energy that has to be checked.
+	 * @return	True if and only if the discharge amount is valid and
+	 * 			this accu can have the difference of its amount of energy and
+	 * 			the discharge amount as its amount of energy.
+	 * 			| result == (Energy.isValidEnergy(dischargeAmount)) &&
+	 * 			|			canHaveAsAmountOfEnergy(getAmountOfEnergy().subtract(dischargeAmount))
+	 * @note	This check is answered from the running balance of the ledger of this accu,
+	 * 			without creating any energy.
+	 */
+	@Raw
+	public boolean canDischargeAmountOfEnergy(Energy dischargeAmount){
+		if(!Energy.isValidEnergy(dischargeAmount))
+			return false;
+		EnergyUnit unit = amountOfEnergy.getEnergyUnit();
+		double amount = getLedgerBalance() - dischargeAmount.getEnergyAmountIn(unit);
+		return amount >= 0.0 && Double.compare(amount, getEnergyCapacityLimit().getEnergyAmountIn(unit)) <= 0;
+	}
+	
 	/**
 	 * Returns the energy of this accu.
+	 * 
+	 * @note	If the ledger of this accu is open and records unsettled debits or credits,
+	 * 			a new energy is returned for its running balance, without settling it.
+	 * 			Reads while the ledger is open should use getAmountOfEnergyIn instead.
 	 */
 	@Basic @Raw
 	public Energy getAmountOfEnergy(){
+		if(isLedgerOpen() && ledgerBalance != amountOfEnergy.getEnergyAmount())
+			return new Energy(ledgerBalance, amountOfEnergy.getEnergyUnit());
 		return amountOfEnergy;
 	}
+	
+	/**
+	 * Returns the amount of energy of this accu expressed in the given energy unit.
+	 * 
+	 * @param	energyUnit
+	 * 			The energy unit to express the amount of energy in.
+	 * @return	| result == getAmountOfEnergy().getEnergyAmountIn(energyUnit)
+	 * @throws	IllegalArgumentException
+	 * 			The given energy unit is invalid.
+	 * 			| !EnergyUnit.isValidEnergyUnit(energyUnit)
+	 * @note	This amount is read from the running balance of the ledger of this accu,
+	 * 			without creating any energy.
+	 */
+	@Raw
+	public double getAmountOfEnergyIn(EnergyUnit energyUnit) throws IllegalArgumentException{
+		if(!EnergyUnit.isValidEnergyUnit(energyUnit))
+			throw new IllegalArgumentException("The given energy unit is invalid.");
+		EnergyUnit unit = amountOfEnergy.getEnergyUnit();
+		if(unit == energyUnit)
+			return getLedgerBalance();
+		return getLedgerBalance() * unit.toEnergyUnit(energyUnit);
+	}
 
 	/**
 	 * Returns the percentage of energy stored in this accu according to
@@ -210,6 +260,7 @@ public class Accu implements Terminatable{
 	private void setAmountOfEnergy(Energy amount){
 		assert(isValidAmountOfEnergy(amount, getEnergyCapacityLimit()));
 		amountOfEnergy = amount;
+		ledgerBalance = amount.getEnergyAmount();
 	}
 	
 	/**
@@ -227,13 +278,23 @@ public class Accu implements Terminatable{
 	 * @effect 	The amount of energy of this accu is set to the sum of the amount already stored 
 	 *         	in this accu and the given recharge amount.
 	 *         	| setAmountOfEnergy(getAmountOfEnergy().add(rechargeAmount))
+	 * @note	If the ledger of this accu is open, the recharge amount is only
+	 * 			recorded in the running balance of the ledger.
 	 */
 	@Raw
 	public void rechargeAmountOfEnergy(Energy rechargeAmount){
 		assert(Energy.isValidEnergy(rechargeAmount));
 		assert(rechargeAmount.getEnergyAmount() >= 0.0);
-		assert(canHaveAsAmountOfEnergy(getAmountOfEnergy().add(rechargeAmount)));
-		setAmountOfEnergy(getAmountOfEnergy().add(rechargeAmount));
+		if(isLedgerOpen()){
+			EnergyUnit unit = amountOfEnergy.getEnergyUnit();
+			double balance = ledgerBalance + rechargeAmount.getEnergyAmountIn(unit);
+			assert(balance >= 0.0 && balance <= getEnergyCapacityLimit().getEnergyAmountIn(unit));
+			ledgerBalance = balance;
+			return;
+		}
+		Energy amount = getAmountOfEnergy().add(rechargeAmount);
+		assert(canHaveAsAmountOfEnergy(amount));
+		setAmountOfEnergy(amount);
 	}
 	
 	/**
@@ -251,13 +312,23 @@ public class Accu implements Terminatable{
 	 * @effect 	The amount of energy of this accu is set to the difference of the amount already stored 
 	 *         	in this accu and the given discharge amount.
 	 *         	| setAmountOfEnergy(getAmountOfEnergy().subtract(dischargeAmount))
+	 * @note	If the ledger of this accu is open, the discharge amount is only
+	 * 			recorded in the running balance of the ledger.
 	 */
 	@Raw
 	public void dischargeAmountOfEnergy(Energy dischargeAmount){
 		assert(Energy.isValidEnergy(dischargeAmount));
 		assert(dischargeAmount.getEnergyAmount() >= 0.0);
-		assert(canHaveAsAmountOfEnergy(getAmountOfEnergy().subtract(dischargeAmount)));
-		setAmountOfEnergy(getAmountOfEnergy().subtract(dischargeAmount));
+		if(isLedgerOpen()){
+			EnergyUnit unit = amountOfEnergy.getEnergyUnit();
+			double balance = ledgerBalance - dischargeAmount.getEnergyAmountIn(unit);
+			assert(balance >= 0.0 && balance <= getEnergyCapacityLimit().getEnergyAmountIn(unit));
+			ledgerBalance = balance;
+			return;
+		}
+		Energy amount = getAmountOfEnergy().subtract(dischargeAmount);
+		assert(canHaveAsAmountOfEnergy(amount));
+		setAmountOfEnergy(amount);
 	}
 	
 	/**
@@ -265,6 +336,61 @@ public class Accu implements Terminatable{
 	 */
 	private Energy amountOfEnergy;
 	
+	/**
+	 * Checks whether the ledger of this accu is open.
+	 */
+	@Basic @Raw
+	public boolean isLedgerOpen(){
+		return ledgerOpen;
+	}
+	
+	/**
+	 * Opens the ledger of this accu. While the ledger is open, recharges and
+	 * discharges are recorded in a running balance and only settled in the
+	 * amount of energy of this accu when the ledger is settled.
+	 * 
+	 * @post	| new.isLedgerOpen()
+	 * @post	| new.getAmountOfEnergy().equals(getAmountOfEnergy())
+	 */
+	@Raw
+	public void openLedger(){
+		ledgerBalance = amountOfEnergy.getEnergyAmount();
+		ledgerOpen = true;
+	}
+	
+	/**
+	 * Settles the running balance of the ledger of this accu in its amount
+	 * of energy and closes the ledger.
+	 * 
+	 * @post	| !new.isLedgerOpen()
+	 * @post	| new.getAmountOfEnergy().equals(getAmountOfEnergy())
+	 */
+	@Raw
+	public void settleLedger(){
+		if(isLedgerOpen() && ledgerBalance != amountOfEnergy.getEnergyAmount())
+			amountOfEnergy = new Energy(ledgerBalance, amountOfEnergy.getEnergyUnit());
+		ledgerOpen = false;
+	}
+	
+	/**
+	 * Returns the running balance of the ledger of this accu,
+	 * expressed in the energy unit of the amount of energy of this accu.
+	 */
+	@Model @Raw
+	private double getLedgerBalance(){
+		return isLedgerOpen() ? ledgerBalance : amountOfEnergy.getEnergyAmount();
+	}
+	
+	/**
+	 * Variable registering whether the ledger of this accu is open.
+	 */
+	private boolean ledgerOpen;
+	
+	/**
+	 * Variable registering the running balance of the ledger of this accu.
+	 */
+	private double ledgerBalance;
+	
 	/**
 	 * Checks whether the given request is a valid capacity limit of energy for this accu.
 	 * 
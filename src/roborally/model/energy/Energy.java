@@ -100,6 +100,27 @@ public class Energy implements Comparable<Energy> {
 		return this.energyUnit;
 	}
 	
+	/**
+	 * Returns the energy amount of this energy expressed in the given energy unit.
+	 * 
+	 * @param	energyUnit
+	 * 			The energy unit to convert to.
+	 * @return	The energy amount of this energy multiplied with the exchange rate
+	 * 			from the energy unit of this energy to the given energy unit.
+	 * 			| result == toEnergyUnit(energyUnit).getEnergyAmount()
+	 * @throws	IllegalArgumentException
+	 * 			The given energy unit is invalid.
+	 * 			| !EnergyUnit.isValidEnergyUnit(energyUnit)
+	 * @note	Unlike toEnergyUnit, this method never creates a new energy.
+	 */
+	public double getEnergyAmountIn(EnergyUnit energyUnit) throws IllegalArgumentException{
+		if (!EnergyUnit.isValidEnergyUnit(energyUnit))
+			throw new IllegalArgumentException("The given energy unit is invalid.");
+		if (getEnergyUnit() == energyUnit)
+			return getEnergyAmount();
+		return getEnergyAmount() * getEnergyUnit().toEnergyUnit(energyUnit);
+	}
+	
 	/**
 	 * Returns an energy that has the same value as this energy expressed in the given energy unit.
 	 * 
@@ -155,6 +176,8 @@ public class Energy implements Comparable<Energy> {
 	 * 			| result.getEnergyAmount = factor * this.getEnergyAmount();
 	 */
 	public Energy multiply(double factor){
+		if (factor == 1.0)
+			return this;
 		return new Energy(getEnergyAmount() * factor, getEnergyUnit());
 	}
 	
@@ -180,9 +203,9 @@ public class Energy implements Comparable<Energy> {
 	public Energy add(Energy other) throws IllegalArgumentException{
 		if (!isValidEnergy(other))
 			throw new IllegalArgumentException("The other energy is invalid.");
-		if (getEnergyUnit() == other.getEnergyUnit())
-			return new Energy(getEnergyAmount() + other.getEnergyAmount(), getEnergyUnit());
-		return add(other.toEnergyUnit(getEnergyUnit()));
+		if (other.getEnergyAmount() == 0.0)
+			return this;
+		return new Energy(getEnergyAmount() + other.getEnergyAmountIn(getEnergyUnit()), getEnergyUnit());
 	}
 	
 	/**
@@ -199,9 +222,9 @@ public class Energy implements Comparable<Energy> {
 	public Energy subtract(Energy other) throws IllegalArgumentException{
 		if (!isValidEnergy(other))
 			throw new IllegalArgumentException("The other energy is invalid");
-		if (getEnergyUnit() == other.getEnergyUnit())
-			return new Energy(getEnergyAmount() - other.getEnergyAmount(), getEnergyUnit());
-		return subtract(other.toEnergyUnit(getEnergyUnit()));
+		if (other.getEnergyAmount() == 0.0)
+			return this;
+		return new Energy(getEnergyAmount() - other.getEnergyAmountIn(getEnergyUnit()), getEnergyUnit());
 	}
 	
 	/**
@@ -221,7 +244,7 @@ public class Energy implements Comparable<Energy> {
 	public int compareTo(Energy other) throws ClassCastException{
 		if (!isValidEnergy(other))
 			throw new ClassCastException("The other energy is invalid");
-		return Double.compare(this.getEnergyAmount(), other.toEnergyUnit(this.getEnergyUnit()).getEnergyAmount());
+		return Double.compare(this.getEnergyAmount(), other.getEnergyAmountIn(this.getEnergyUnit()));
 	}
 	
 	/**
@@ -249,7 +272,7 @@ public class Energy implements Comparable<Energy> {
 	public boolean hasSameValueAs(Energy other) throws IllegalArgumentException{
 		if (!isValidEnergy(other))
 			throw new IllegalArgumentException("The other energy is invalid.");
-		return this.equals(other.toEnergyUnit(getEnergyUnit()));
+		return this.getEnergyAmount() == other.getEnergyAmountIn(getEnergyUnit());
 	}
 	
 	/**
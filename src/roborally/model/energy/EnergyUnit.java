@@ -59,9 +59,6 @@ public enum EnergyUnit {
 		if (!isValidEnergyUnit(other)){
 			throw new IllegalArgumentException("The given energy unit is invalid");
 		}
-		if (exchangeRates[this.ordinal()][other.ordinal()] == 0.0){
-			exchangeRates[this.ordinal()][other.ordinal()] = 1 / exchangeRates[other.ordinal()][this.ordinal()];
-		}
 		return exchangeRates[this.ordinal()][other.ordinal()];
 	}
 	
@@ -72,7 +69,7 @@ public enum EnergyUnit {
 	 * from; the ordinal number to convert to is used to index
 	 * the second level.
 	 */
-	private static double[][] exchangeRates = new double[4][4];
+	private static final double[][] exchangeRates = new double[4][4];
 	
 	static {
 		exchangeRates[WS.ordinal()][WS.ordinal()] = 1D;
@@ -85,6 +82,10 @@ public enum EnergyUnit {
 		exchangeRates[KILOJOULE.ordinal()][JOULE.ordinal()] = 1000D;
 		exchangeRates[KILOJOULE.ordinal()][WS.ordinal()] = 1000D;
 		exchangeRates[KILOJOULE.ordinal()][KILOJOULE.ordinal()] = 1D;
+		for(int i = 0; i < exchangeRates.length; i++)
+			for(int j = 0; j < exchangeRates.length; j++)
+				if(exchangeRates[i][j] == 0.0)
+					exchangeRates[i][j] = 1 / exchangeRates[j][i];
 	}
 	
 	/**
@@ -513,6 +513,54 @@ public class AccuTest {
 		assertEquals(ak.getAmountOfEnergy(), am);
 	}
 	
+	@Test
+	public void openLedger_dischargeAndRecharge(){
+		Accu a = amountOfEnergy15000Ws_and_energyCapacityLimit1KWH;
+		a.openLedger();
+		assertTrue(a.isLedgerOpen());
+		for(int i = 0; i < 100; i++)
+			a.dischargeAmountOfEnergy(new Energy(100D,EnergyUnit.WS));
+		a.rechargeAmountOfEnergy(new Energy(1D,EnergyUnit.KILOJOULE));
+		assertEquals(6000D, a.getAmountOfEnergy().getEnergyAmount(), 0.0001D);
+		a.dischargeAmountOfEnergy(new Energy(1000D,EnergyUnit.WS));
+		a.settleLedger();
+		assertFalse(a.isLedgerOpen());
+		assertEquals(5000D, a.getAmountOfEnergy().getEnergyAmount(), 0.0001D);
+		assertEquals(EnergyUnit.WS, a.getAmountOfEnergy().getEnergyUnit());
+	}
+	
+	@Test
+	public void getAmountOfEnergy_ledgerOpen(){
+		Accu a = amountOfEnergy15000Ws_and_energyCapacityLimit20000Ws;
+		Energy settled = a.getAmountOfEnergy();
+		a.openLedger();
+		a.dischargeAmountOfEnergy(new Energy(3000D,EnergyUnit.WS));
+		assertEquals(12000D, a.getAmountOfEnergy().getEnergyAmount(), 0.0001D);
+		assertEquals(12D, a.getAmountOfEnergyIn(EnergyUnit.KILOJOULE), 0.0001D);
+		a.rechargeAmountOfEnergy(new Energy(3000D,EnergyUnit.WS));
+		assertSame(settled, a.getAmountOfEnergy());
+		assertTrue(a.isLedgerOpen());
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void getAmountOfEnergyIn_null(){
+		new Accu().getAmountOfEnergyIn(null);
+	}
+	
+	@Test
+	public void canDischargeAmountOfEnergy(){
+		Accu a = amountOfEnergy15000Ws_and_energyCapacityLimit20000Ws;
+		a.openLedger();
+		a.dischargeAmountOfEnergy(new Energy(10000D,EnergyUnit.WS));
+		assertTrue(a.canDischargeAmountOfEnergy(new Energy(5000D,EnergyUnit.WS)));
+		assertFalse(a.canDischargeAmountOfEnergy(new Energy(5001D,EnergyUnit.WS)));
+		assertFalse(a.canDischargeAmountOfEnergy(new Energy(-15001D,EnergyUnit.WS)));
+		assertFalse(a.canDischargeAmountOfEnergy(null));
+		a.settleLedger();
+		assertTrue(a.canDischargeAmountOfEnergy(new Energy(5D,EnergyUnit.KILOJOULE)));
+		assertFalse(a.canDischargeAmountOfEnergy(new Energy(6D,EnergyUnit.KILOJOULE)));
+	}
+	
 	@Test (expected = NullPointerException.class)
 	public void detachEnergyModel_nullEnergyModel(){
 		Accu a = new Accu();
@@ -73,6 +73,13 @@ public class EnergyUnitTest {
 		assertEquals(EnergyUnit.KILOJOULE.toEnergyUnit(EnergyUnit.KILOJOULE),1D,0.01D);
 	}
 	
+	@Test
+	public void toEnergyUnit_inverse(){
+		for(EnergyUnit unit : EnergyUnit.values())
+			for(EnergyUnit other : EnergyUnit.values())
+				assertEquals(1D, unit.toEnergyUnit(other) * other.toEnergyUnit(unit), 0.0000001D);
+	}
+	
 	@Test (expected = IllegalArgumentException.class)
 	public void toEnergyUnit_inValidEnergyUnitRejectedI(){
 		EnergyUnit.WS.toEnergyUnit(null);
@@ -254,10 +254,11 @@ public class Inventory implements Terminatable{
 	 * @return	Returns true if and only if this inventory possesses
 	 * 			the given inventory model.
 	 * 			| result == (getAllInventoryItems().contains(inventoryModel))
+	 * @note	This method operation is executed in constant time.
 	 */
 	@Raw
 	public boolean hasAsInventoryItem(InventoryModel inventoryModel){
-		return (inventoryItems.contains(inventoryModel));
+		return (inventoryItemSet.contains(inventoryModel));
 	}
 	
 	/**
@@ -274,7 +275,7 @@ public class Inventory implements Terminatable{
 	 * 			| if(canHaveAsInventoryItem(inventoryModel)) then
 	 * 			| 	new.getAllInventoryItems().contains(inventoryModel)
 	 * @post	After an executed add operation the inventory items
-	 * 			of this inventory become sorted again.
+	 * 			of this inventory are still sorted.
 	 * 			| new.hasProperInventoryItemsOrder() == true
 	 * @throws	IllegalStateException
 	 * 			The collector of this inventory is picked up.
@@ -292,8 +293,7 @@ public class Inventory implements Terminatable{
 		if(!canHaveAsInventoryItem(inventoryModel))
 			throw new IllegalArgumentException("The given inventory model could not be added to this inventory.");
 		inventoryModel.pickUp();
-		inventoryItems.add(inventoryModel);
-		sortInventoryItemsByWeight();
+		registerInventoryItem(inventoryModel);
 	}
 	
 	/**
@@ -309,7 +309,7 @@ public class Inventory implements Terminatable{
 	 * 			| !new.inventory.hasAsInventoryItem(inventoryModel)
 	 * 			| && (new this).hasAsInventoryItem(inventoryModel)
 	 * @post	After the executed add operation the inventory items of
-	 * 			this inventory become sorted again.
+	 * 			this inventory are still sorted.
 	 * 			| new.hasProperInventoryItemsOrder() == true
 	 * @throws	IllegalArgumentException
 	 * 			This inventory may not be terminated.
@@ -336,9 +336,8 @@ public class Inventory implements Terminatable{
 		if(!inventory.hasAsInventoryItem(inventoryModel))
 			throw new IllegalArgumentException("The given inventory model could not be transferred.");
 		
-		inventoryItems.add(inventoryModel);
-		inventory.inventoryItems.remove(inventoryModel);
-		sortInventoryItemsByWeight();
+		inventory.unregisterInventoryItem(inventoryModel);
+		registerInventoryItem(inventoryModel);
 	}
 	
 	/**
@@ -354,7 +353,7 @@ public class Inventory implements Terminatable{
 	 * 			| 	!new.inventory.hasAsInventoryItem(inventoryModel)
 	 * 			| 	&& (new this).hasAsInventoryItem(inventoryModel)
 	 * @post	After all the executed add operations the inventory items
-	 * 			of this inventory become sorted again.
+	 * 			of this inventory are still sorted.
 	 * 			| new.hasProperInventoryItemsOrder() == true
 	 * @throws	IllegalArgumentException
 	 * 			This inventory may not be terminated.
@@ -378,10 +377,9 @@ public class Inventory implements Terminatable{
 		
 		while(inventory.getNbOfInventoryItems() > 0){
 			InventoryModel item = inventory.getInventoryItemAt(1);
-			inventoryItems.add(item);
-			inventory.inventoryItems.remove(item);
+			inventory.unregisterInventoryItem(item);
+			registerInventoryItem(item);
 		}
-		sortInventoryItemsByWeight();
 	}
 	
 	/**
@@ -394,9 +392,7 @@ public class Inventory implements Terminatable{
 	 * 			| 	for each model in getCollector().getBoard().getBoardModelsClassAt(getCollector().getPosition(), InventoryModel.class):
 	 * 			| 		model.pickUp() && inventoryItems.add(model)
 	 * @post	After all the executed add operations the inventory items
-	 * 			of this inventory become sorted again. (If add operations
-	 * 			are not executed during this method no resort method is 
-	 * 			needed or executed.)
+	 * 			of this inventory are still sorted.
 	 * 			| new.hasProperInventoryItemsOrder() == true
 	 * @throws	IllegalStateException
 	 * 			This inventory is terminated.
@@ -404,8 +400,6 @@ public class Inventory implements Terminatable{
 	 * @throws	IllegalStateException
 	 * 			The collector of this inventory is not located on a board.
 	 * 			| getCollector().getBoard() == null
-	 * @note	This method sorts the inventory items of this inventory just once.
-	 * 			(Even if more inventory items are added.)
 	 */
 	public void addInventoryItemsOfPosition()
 			throws IllegalStateException{
@@ -418,9 +412,8 @@ public class Inventory implements Terminatable{
 		if (inventoryModelList.size() > 0){			
 			for(InventoryModel model : inventoryModelList){
 				model.pickUp();
-				inventoryItems.add(model);
+				registerInventoryItem(model);
 			}
-			sortInventoryItemsByWeight();
 		}
 	}
 	
@@ -450,7 +443,7 @@ public class Inventory implements Terminatable{
 				throw new IllegalStateException("The collector of this inventory is picked up.");
 		
 		if(hasAsInventoryItem(inventoryModel)){
-			inventoryItems.remove(inventoryModel);
+			unregisterInventoryItem(inventoryModel);
 			inventoryModel.drop(getCollector().getBoard(), getCollector().getPosition());
 		}
 	}
@@ -478,7 +471,7 @@ public class Inventory implements Terminatable{
 				throw new IllegalStateException("The collector of this inventory is picked up.");
 		
 		if(hasAsInventoryItem(inventoryModel)){
-			inventoryItems.remove(inventoryModel);
+			unregisterInventoryItem(inventoryModel);
 			inventoryModel.drop(null, null);
 		}
 	}
@@ -560,6 +553,22 @@ public class Inventory implements Terminatable{
 	 * 			The weight unit for the return value.
 	 * @return	Returns the total weight of this inventory
 	 * 			as a weight of the given weight unit.
+	 * 			| result.equals(new Weight(getTotalWeightAmount(unit), unit))
+	 * @throws	IllegalArgumentException
+	 * 			The given weight unit is not valid.
+	 * 			| !WeightUnit.isValidWeightUnit(unit)
+	 */
+	public Weight getTotalWeightOfInventoryItems(WeightUnit unit){
+		return new Weight(getTotalWeightAmount(unit), unit);
+	}
+	
+	/**
+	 * Returns the amount of the total weight of this inventory,
+	 * expressed in the given weight unit.
+	 * 
+	 * @param 	unit
+	 * 			The weight unit for the return value.
+	 * @return	Returns the amount of the total weight of this inventory.
 	 * 			If one of the inventory items is an instance
 	 * 			of the collector class, its own weight plus
 	 * 			the total weight of the inventory of that collector
@@ -572,25 +581,193 @@ public class Inventory implements Terminatable{
 	 * 			|			then w = w.add(model.getInventory().getTotalWeightOfInventoryItems(w.getWeightUnit()))
 	 * 			|	in :
 	 * 			|	temp = temp.add(w)
-	 * 			| result.equals(new.temp)
-	 * 			| && result.getWeightUnit() == unit
+	 * 			| result == new.temp.getWeightAmount()
 	 * @throws	IllegalArgumentException
 	 * 			The given weight unit is not valid.
 	 * 			| !WeightUnit.isValidWeightUnit(unit)
+	 * @note	This method operation is executed in constant time and does not
+	 * 			allocate any objects, because every inventory keeps its total weight
+	 * 			up to date while inventory items are added, removed or transferred.
 	 */
-	public Weight getTotalWeightOfInventoryItems(WeightUnit unit){
+	public double getTotalWeightAmount(WeightUnit unit){
 		if(!WeightUnit.isValidWeightUnit(unit))
 			throw new IllegalArgumentException("The given weight unit is not valid.");
-		Weight temp = new Weight(0.0, unit);
-		for(InventoryModel model : inventoryItems){
-			Weight w = model.getWeight();
-			if(Collector.class.isInstance(model))
-				w = w.add(((Collector) model).getInventory().getTotalWeightOfInventoryItems(w.getWeightUnit()));
-			temp = temp.add(w);
+		if(unit == WeightUnit.G)
+			return totalWeight;
+		return totalWeight * WeightUnit.G.toWeightUnit(unit);
+	}
+	
+	/**
+	 * Returns the weight in grams the given inventory model adds to the inventory
+	 * that possesses it: its own weight, plus the total weight of its own inventory
+	 * if it is a collector.
+	 * 
+	 * @param 	inventoryModel
+	 * 			The inventory model whose weight has to be returned.
+	 */
+	@Model
+	private static double getWeightInGrams(InventoryModel inventoryModel){
+		Weight weight = inventoryModel.getWeight();
+		double result = weight.getWeightAmount();
+		if(weight.getWeightUnit() != WeightUnit.G)
+			result *= weight.getWeightUnit().toWeightUnit(WeightUnit.G);
+		if(Collector.class.isInstance(inventoryModel))
+			result += ((Collector) inventoryModel).getInventory().totalWeight;
+		return result;
+	}
+	
+	/**
+	 * Inserts the given inventory model in the inventory items of this inventory,
+	 * after all the inventory items that are not heavier than the given inventory model,
+	 * and adds its weight to the total weight of this inventory and of every
+	 * inventory that (indirectly) possesses the collector of this inventory.
+	 * The given inventory model is also added to the group of its class and,
+	 * if it is an energy model, to the energy models sorted by energy capacity.
+	 * 
+	 * @param 	inventoryModel
+	 * 			The inventory model that has to be registered.
+	 */
+	@Model
+	private void registerInventoryItem(InventoryModel inventoryModel){
+		insertInventoryItem(inventoryModel);
+		inventoryItemSet.add(inventoryModel);
+		Set<InventoryModel> bucket = inventoryItemsByClass.get(inventoryModel.getClass());
+		if(bucket == null){
+			bucket = new HashSet<InventoryModel>();
+			inventoryItemsByClass.put(inventoryModel.getClass(), bucket);
+		}
+		bucket.add(inventoryModel);
+		if(EnergyModel.class.isInstance(inventoryModel)){
+			int low = 0;
+			int high = energyModels.size();
+			while(low < high){
+				int mid = (low + high) >>> 1;
+				if(ENERGY_CAPACITY_COMPARATOR.compare(energyModels.get(mid), (EnergyModel) inventoryModel) <= 0)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			energyModels.add(low, (EnergyModel) inventoryModel);
+		}
+		if(Collector.class.isInstance(inventoryModel))
+			((Collector) inventoryModel).getInventory().parentInventory = this;
+		changeTotalWeight(getWeightInGrams(inventoryModel));
+	}
+	
+	/**
+	 * Removes the given inventory model from the inventory items of this inventory
+	 * and subtracts its weight from the total weight of this inventory and of every
+	 * inventory that (indirectly) possesses the collector of this inventory.
+	 * The given inventory model is also removed from the group of its class
+	 * and from the energy models sorted by energy capacity.
+	 * 
+	 * @param 	inventoryModel
+	 * 			The inventory model that has to be unregistered.
+	 */
+	@Model
+	private void unregisterInventoryItem(InventoryModel inventoryModel){
+		inventoryItems.remove(indexOfInventoryItem(inventoryModel));
+		inventoryItemSet.remove(inventoryModel);
+		Set<InventoryModel> bucket = inventoryItemsByClass.get(inventoryModel.getClass());
+		bucket.remove(inventoryModel);
+		if(bucket.size() == 0)
+			inventoryItemsByClass.remove(inventoryModel.getClass());
+		if(EnergyModel.class.isInstance(inventoryModel))
+			energyModels.remove(inventoryModel);
+		if(Collector.class.isInstance(inventoryModel))
+			((Collector) inventoryModel).getInventory().parentInventory = null;
+		changeTotalWeight(-getWeightInGrams(inventoryModel));
+	}
+	
+	/**
+	 * Changes the total weight of this inventory and of every inventory
+	 * that (indirectly) possesses the collector of this inventory with the given delta.
+	 * 
+	 * @param 	delta
+	 * 			The change in grams of the total weight.
+	 * @note	The total weight of an empty inventory is reset to exactly zero,
+	 * 			so rounding errors cannot accumulate over time.
+	 * @note	The collector of this inventory is moved to its new place
+	 * 			in the inventory that possesses it, because the weight it adds
+	 * 			to that inventory changes with the total weight of this inventory.
+	 */
+	@Model
+	private void changeTotalWeight(double delta){
+		Inventory parent = parentInventory;
+		if(parent != null)
+			parent.inventoryItems.remove(parent.indexOfInventoryItem((InventoryModel) getCollector()));
+		if(inventoryItems.size() == 0)
+			totalWeight = 0.0;
+		else
+			totalWeight += delta;
+		if(parent != null){
+			parent.insertInventoryItem((InventoryModel) getCollector());
+			parent.changeTotalWeight(delta);
 		}
-		return temp;
 	}
 	
+	/**
+	 * Inserts the given inventory model in the inventory items of this inventory,
+	 * after all the inventory items that are not heavier than the given inventory model.
+	 * 
+	 * @param 	inventoryModel
+	 * 			The inventory model that has to be inserted.
+	 * @note	The place of the given inventory model is found by a binary search.
+	 */
+	@Model
+	private void insertInventoryItem(InventoryModel inventoryModel){
+		double weight = getWeightInGrams(inventoryModel);
+		int low = 0;
+		int high = inventoryItems.size();
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(getWeightInGrams(inventoryItems.get(mid)) <= weight)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		inventoryItems.add(low, inventoryModel);
+	}
+	
+	/**
+	 * Returns the index of the given inventory model in the inventory items of this inventory.
+	 * 
+	 * @param 	inventoryModel
+	 * 			The inventory model whose index has to be returned.
+	 * @return	The index of the given inventory model, or -1 if this inventory
+	 * 			doesn't possess the given inventory model.
+	 * @note	The inventory items with the same weight as the given inventory model
+	 * 			are found by a binary search.
+	 */
+	@Model
+	private int indexOfInventoryItem(InventoryModel inventoryModel){
+		double weight = getWeightInGrams(inventoryModel);
+		int low = 0;
+		int high = inventoryItems.size();
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(getWeightInGrams(inventoryItems.get(mid)) < weight)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		for(int i = low; i < inventoryItems.size() && getWeightInGrams(inventoryItems.get(i)) == weight; i++)
+			if(inventoryItems.get(i) == inventoryModel)
+				return i;
+		return -1;
+	}
+	
+	/**
+	 * Variable registering the total weight in grams of this inventory.
+	 */
+	private double totalWeight = 0.0;
+	
+	/**
+	 * Variable referencing the inventory that possesses the collector
+	 * of this inventory, if any.
+	 */
+	private Inventory parentInventory;
+	
 	/**
 	 * Checks if the inventory models of this inventory are sorted
 	 * by weight in ascending order.
@@ -613,17 +790,6 @@ public class Inventory implements Terminatable{
 		return true;
 	}
 	
-	/**
-	 * Sorts the inventory models of this inventory by weight. (ascending order)
-	 * 
-	 * @effect	Sorts the inventory models of this inventory by weight.
-	 * 			| Collections.sort(getAllInventoryItems(), new InventoryModelWeightComparator())
-	 */
-	@Model
-	private void sortInventoryItemsByWeight(){
-		Collections.sort(inventoryItems, new InventoryModelWeightComparator());
-	}
-	
 	/**
 	 * Returns an unmodifiable view of all the inventory models of this inventory.
 	 */
@@ -653,7 +819,11 @@ public class Inventory implements Terminatable{
 	 */
 	@Raw
 	public <T extends InventoryModel> int getNbOfInventoryItemsClass(Class<T> inventoryModelType){
-		return getAllInventoryItemsClass(inventoryModelType).size();
+		int result = 0;
+		for(Map.Entry<Class<?>, Set<InventoryModel>> entry : inventoryItemsByClass.entrySet())
+			if(inventoryModelType.isAssignableFrom(entry.getKey()))
+				result += entry.getValue().size();
+		return result;
 	}
 	
 	/**
@@ -668,13 +838,16 @@ public class Inventory implements Terminatable{
 	 * @return	The result only contains inventory models of the given subclass
 	 * 			| for each T extends InventoryModel model in result :
 	 * 			| inventoryModelType.isInstance(model)
+	 * @note	Only the inventory models of the classes that are a subclass
+	 * 			of the given class are visited.
 	 */
 	@Raw
 	public <T extends InventoryModel> Set<T> getAllInventoryItemsClass(Class<T> inventoryModelType){
 		Set<T> temp = new HashSet<T>();
-		for (InventoryModel im : inventoryItems){
-			if (inventoryModelType.isInstance(im))
-				temp.add(inventoryModelType.cast(im));
+		for(Map.Entry<Class<?>, Set<InventoryModel>> entry : inventoryItemsByClass.entrySet()){
+			if(inventoryModelType.isAssignableFrom(entry.getKey()))
+				for(InventoryModel im : entry.getValue())
+					temp.add(inventoryModelType.cast(im));
 		}
 		return Collections.unmodifiableSet(temp);
 	}
@@ -691,22 +864,48 @@ public class Inventory implements Terminatable{
 	 * 			| for each j in [i..result.size()-1] :
 	 * 			| result.get(i).getAccu().getEnergyCapacityLimit()
 	 * 			|		.subtract(get(j).getAccu().getEnergyCapacityLimit()).getEnergyAmount() <= 0.0
+	 * @note	The energy models of this inventory are kept sorted by energy capacity
+	 * 			while they are added. They are only sorted again if the energy capacity
+	 * 			of one of them has changed since.
 	 */
 	public List<EnergyModel> getOptimalEnergyModelOrder(){
-		List<EnergyModel> temp = new ArrayList<EnergyModel>();
-		for (InventoryModel im : inventoryItems){
-			if (EnergyModel.class.isInstance(im))
-				temp.add(EnergyModel.class.cast(im));
+		for(int i=1; i<energyModels.size(); i++){
+			if(ENERGY_CAPACITY_COMPARATOR.compare(energyModels.get(i-1), energyModels.get(i)) > 0){
+				Collections.sort(energyModels, ENERGY_CAPACITY_COMPARATOR);
+				break;
+			}
 		}
-		Collections.sort(temp,new EnergyModelEnergyCapacityComparator());
-		return Collections.unmodifiableList(temp);
+		return Collections.unmodifiableList(new ArrayList<EnergyModel>(energyModels));
 	}
 	
 	/**
-	 * Set collection storing all inventory models stocked in this inventory.
+	 * Variable referencing the comparator used to sort the energy models of every inventory.
+	 */
+	private static final EnergyModelEnergyCapacityComparator ENERGY_CAPACITY_COMPARATOR = new EnergyModelEnergyCapacityComparator();
+	
+	/**
+	 * List collection storing all inventory models stocked in this inventory,
+	 * sorted by weight in ascending order.
 	 */
 	private List<InventoryModel> inventoryItems = new ArrayList<InventoryModel>();
 	
+	/**
+	 * Set collection storing all inventory models stocked in this inventory.
+	 */
+	private Set<InventoryModel> inventoryItemSet = new HashSet<InventoryModel>();
+	
+	/**
+	 * Map collection storing all inventory models stocked in this inventory,
+	 * grouped by their class.
+	 */
+	private Map<Class<?>, Set<InventoryModel>> inventoryItemsByClass = new HashMap<Class<?>, Set<InventoryModel>>();
+	
+	/**
+	 * List collection storing all energy models stocked in this inventory,
+	 * sorted by energy capacity in ascending order.
+	 */
+	private List<EnergyModel> energyModels = new ArrayList<EnergyModel>();
+	
 	/**
 	 * Returns a string representation of this inventory.
 	 */
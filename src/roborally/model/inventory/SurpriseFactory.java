@@ -1,6 +1,6 @@
 package roborally.model.inventory;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import roborally.board.Board;
 import roborally.board.Position;
@@ -19,6 +19,7 @@ public class SurpriseFactory {
 	/**
 	 * Generates a random standard inventory model (surprise).
 	 * Possibilities: Battery, RepairKit, Bomb, TeleportGate, SurpriseBox
+	 * The choice is drawn from the random generator of the given board, if any.
 	 * 
 	 * @param 	board
 	 * 			The board where the random standard inventory model
@@ -45,8 +46,7 @@ public class SurpriseFactory {
 	 * 			| 	!board.canHaveAsBoardModel(position, generateRandomStandardSurprise(board, position))
 	 */
 	public static InventoryModel generateRandomStandardSurprise(Board board, Position position){
-		Random randomGenerator = new Random();
-		int choice = randomGenerator.nextInt(5);
+		int choice = (board != null) ? board.getRandomGenerator().nextInt(5) : ThreadLocalRandom.current().nextInt(5);
 		switch(choice){
 			case 0:
 				return new Battery(board, position);
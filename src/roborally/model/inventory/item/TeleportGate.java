@@ -1,6 +1,6 @@
 package roborally.model.inventory.item;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import be.kuleuven.cs.som.annotate.*;
 import roborally.board.*;
@@ -216,6 +216,7 @@ public class TeleportGate extends InventoryModel{
 	/**
 	 * Returns a pseudo random generated position in the area around
 	 * this teleport gate with the given teleport range as 'radius'.
+	 * The position is drawn from the random generator of the board of this teleport gate.
 	 * 
 	 * @return	Returns a random position within the boundaries of this teleport gate.
 	 * 			| (result.getPosition().getCoordinate(Dimension.HORIZONTAL) >= (getPosition().getCoordinate(Dimension.HORIZONTAL)-getTeleportRange()))
@@ -231,7 +232,7 @@ public class TeleportGate extends InventoryModel{
 		if(isTerminated() || getPosition() == null)
 			throw new IllegalStateException("This teleport gate is ineffective.");
 			
-		Random randomGenerator = new Random();
+		SplittableRandom randomGenerator = getBoard().getRandomGenerator();
 		int signx = (randomGenerator.nextBoolean() == true) ? 1 : -1;
 		int signy =	(randomGenerator.nextBoolean() == true) ? 1 : -1;
 		long x = getPosition().getCoordinate(Dimension.HORIZONTAL)+signx*randomGenerator.nextInt(getTeleportRange()+1);
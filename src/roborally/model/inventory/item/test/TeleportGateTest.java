@@ -126,6 +126,19 @@ public class TeleportGateTest {
 		}
 	}
 	
+	@Test
+	public void generateTeleportPosition_seeded(){
+		Board b = new Board(20L, 20L);
+		TeleportGate temp = new TeleportGate(b, new Position(10L,10L), 5);
+		b.setSeed(7L);
+		Position[] positions = new Position[10];
+		for(int i = 0; i < positions.length; i++)
+			positions[i] = temp.generateTeleportPosition();
+		b.setSeed(7L);
+		for(int i = 0; i < positions.length; i++)
+			assertEquals(positions[i], temp.generateTeleportPosition());
+	}
+	
 	@Test
 	public void getTeleportRange(){
 		TeleportGate temp = new TeleportGate(1);
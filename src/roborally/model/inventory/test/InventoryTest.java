@@ -2,6 +2,10 @@ package roborally.model.inventory.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -10,6 +14,7 @@ import org.junit.Test;
 
 import roborally.board.Board;
 import roborally.board.Position;
+import roborally.model.Cost;
 import roborally.model.dynamicObject.Robot;
 import roborally.model.energy.Accu;
 import roborally.model.energy.Energy;
@@ -17,9 +22,11 @@ import roborally.model.energy.EnergyModel;
 import roborally.model.energy.EnergyUnit;
 import roborally.model.inventory.Inventory;
 import roborally.model.inventory.item.Battery;
+import roborally.model.inventory.item.InventoryEnergyModel;
 import roborally.model.inventory.item.Bomb;
 import roborally.model.inventory.item.InventoryModel;
 import roborally.model.inventory.item.ItemBox;
+import roborally.model.inventory.item.RepairKit;
 import roborally.model.weight.Weight;
 import roborally.model.weight.WeightUnit;
 
@@ -901,6 +908,53 @@ public class InventoryTest {
 		i.getTotalWeightOfInventoryItems(null);
 	}
 	
+	@Test
+	public void getTotalWeightAmount_nestedTransfer(){
+		Position p = new Position(10L,10L);
+		Board board = new Board(20L, 20L);
+		
+		Robot r = new Robot(board, p);
+		Inventory i = r.getInventory();
+		ItemBox b = new ItemBox(board, p);
+		Inventory ib = b.getInventory();
+		
+		Battery b1 = new Battery(board, p);
+		Battery b2 = new Battery(board, p);
+		ib.addInventoryItem(b1);
+		ib.addInventoryItem(b2);
+		i.addInventoryItem(b);
+		double battery = Battery.STANDARD_BATTERY_WEIGHT.toWeightUnit(WeightUnit.G).getWeightAmount();
+		double box = ItemBox.STANDARD_ITEMBOX_WEIGHT.toWeightUnit(WeightUnit.G).getWeightAmount();
+		assertEquals(2*battery + box, i.getTotalWeightAmount(WeightUnit.G), 0.01D);
+		
+		i.addInventoryItem(b1, ib);
+		assertEquals(battery, ib.getTotalWeightAmount(WeightUnit.G), 0.01D);
+		assertEquals(2*battery + box, i.getTotalWeightAmount(WeightUnit.G), 0.01D);
+		
+		i.addInventoryItemsFrom(ib);
+		assertEquals(0.0D, ib.getTotalWeightAmount(WeightUnit.G), 0.0D);
+		assertEquals(2*battery + box, i.getTotalWeightAmount(WeightUnit.G), 0.01D);
+		
+		i.removeInventoryItem(b1);
+		i.removeInventoryItem(b2);
+		i.removeInventoryItem(b);
+		assertEquals(0.0D, i.getTotalWeightAmount(WeightUnit.KG), 0.0D);
+	}
+	
+	@Test
+	public void getTotalWeightAmount_moveCost(){
+		Position p = new Position(10L,10L);
+		Board board = new Board(20L, 20L);
+		
+		Robot r = new Robot(board, p);
+		Energy before = r.getEnergyCostOf(Cost.MOVE);
+		Battery b1 = new Battery(board, p, new Accu(new Energy(100)), new Weight(3, WeightUnit.KG));
+		r.getInventory().addInventoryItem(b1);
+		assertEquals(before.getEnergyAmount() + 3*50, r.getEnergyCostOf(Cost.MOVE).getEnergyAmount(), 0.0001D);
+		r.getInventory().removeInventoryItem(b1);
+		assertEquals(before.getEnergyAmount(), r.getEnergyCostOf(Cost.MOVE).getEnergyAmount(), 0.0D);
+	}
+	
 	@Test
 	public void getAllInventoryItems(){
 		Position p = new Position(10L,10L);
@@ -990,6 +1044,51 @@ public class InventoryTest {
 		assertEquals(i.getAllInventoryItemsClass(Battery.class).size(), 2);
 	}
 	
+	@Test
+	public void getAllInventoryItemsClass_afterRemoval(){
+		Robot r = new Robot();
+		Inventory i = r.getInventory();
+		
+		Battery b1 = new Battery();
+		Battery b2 = new Battery();
+		RepairKit k = new RepairKit();
+		Bomb bomb = new Bomb();
+		i.addInventoryItem(b1);
+		i.addInventoryItem(b2);
+		i.addInventoryItem(k);
+		i.addInventoryItem(bomb);
+		
+		assertEquals(3, i.getAllInventoryItemsClass(InventoryEnergyModel.class).size());
+		assertEquals(3, i.getNbOfInventoryItemsClass(InventoryEnergyModel.class));
+		i.removeInventoryItem(b1);
+		i.removeInventoryItem(k);
+		assertEquals(1, i.getNbOfInventoryItemsClass(InventoryEnergyModel.class));
+		assertTrue(i.getAllInventoryItemsClass(Battery.class).contains(b2));
+		assertEquals(0, i.getNbOfInventoryItemsClass(RepairKit.class));
+		assertEquals(2, i.getNbOfInventoryItemsClass(InventoryModel.class));
+	}
+	
+	@Test
+	public void getOptimalEnergyModelOrder_changedCapacity(){
+		Robot r = new Robot();
+		Inventory i = r.getInventory();
+		
+		Battery m1 = new Battery(new Accu(new Energy(10D), new Energy(100D)));
+		Battery m2 = new Battery(new Accu(new Energy(10D), new Energy(200D)));
+		Battery m3 = new Battery(new Accu(new Energy(10D), new Energy(300D)));
+		i.addInventoryItem(m2);
+		i.addInventoryItem(m3);
+		i.addInventoryItem(m1);
+		assertEquals(m1, i.getOptimalEnergyModelOrder().get(0));
+		assertEquals(m3, i.getOptimalEnergyModelOrder().get(2));
+		
+		m3.getAccu().setEnergyCapacityLimit(new Energy(50D));
+		assertEquals(m3, i.getOptimalEnergyModelOrder().get(0));
+		i.removeInventoryItem(m1);
+		assertEquals(2, i.getOptimalEnergyModelOrder().size());
+		assertEquals(m2, i.getOptimalEnergyModelOrder().get(1));
+	}
+	
 	@Test
 	public void getOptimalEnergyModelOrder(){
 		Robot r = new Robot();
@@ -1319,6 +1418,43 @@ public class InventoryTest {
 		assertEquals(i.getNbOfInventoryItemsClass(Battery.class),5);
 	}
 	
+	@Test
+	public void hasProperInventoryItemOrder_manyItems(){
+		Robot r = new Robot();
+		Inventory i = r.getInventory();
+		Random random = new Random(7L);
+		List<InventoryModel> models = new ArrayList<InventoryModel>();
+		for(int k = 0; k < 200; k++){
+			InventoryModel m = new Battery(null, null, new Accu(), new Weight(random.nextInt(50), WeightUnit.G));
+			models.add(m);
+			i.addInventoryItem(m);
+		}
+		assertTrue(i.hasProperInventoryItemOrder());
+		for(int k = 0; k < 100; k++)
+			i.removeInventoryItem(models.get(2*k));
+		assertTrue(i.hasProperInventoryItemOrder());
+		assertEquals(100, i.getNbOfInventoryItems());
+		for(int k = 0; k < 200; k++)
+			assertEquals(k % 2 == 1, i.hasAsInventoryItem(models.get(k)));
+		assertSame(i.getInventoryItemAt(i.getNbOfInventoryItems()), i.getHeaviestInventoryItemAt(1));
+	}
+	
+	@Test
+	public void getHeaviestInventoryItemAt_nestedTransfer(){
+		Robot r = new Robot();
+		Inventory i = r.getInventory();
+		ItemBox b = new ItemBox(null, null, new Weight(10D, WeightUnit.G));
+		InventoryModel m1 = new Battery(null, null, new Accu(), new Weight(100D, WeightUnit.G));
+		InventoryModel m2 = new Battery(null, null, new Accu(), new Weight(50D, WeightUnit.G));
+		b.getInventory().addInventoryItem(m1);
+		i.addInventoryItem(b);
+		i.addInventoryItem(m2);
+		assertSame(b, i.getHeaviestInventoryItemAt(1));
+		i.addInventoryItem(m1, b.getInventory());
+		assertSame(m1, i.getHeaviestInventoryItemAt(1));
+		assertSame(b, i.getInventoryItemAt(1));
+	}
+	
 	@Test
 	public void hasProperInventoryItemOrder(){
 		Robot r = new Robot();
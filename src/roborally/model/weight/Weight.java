@@ -100,6 +100,27 @@ public class Weight implements Comparable<Weight> {
 		return this.weightUnit;
 	}
 	
+	/**
+	 * Returns the weight amount of this weight expressed in the given weight unit.
+	 * 
+	 * @param	weightUnit
+	 * 			The weight unit to convert to.
+	 * @return	The weight amount of this weight multiplied with the exchange rate
+	 * 			from the weight unit of this weight to the given weight unit.
+	 * 			| result == toWeightUnit(weightUnit).getWeightAmount()
+	 * @throws	IllegalArgumentException
+	 * 			The given weight unit is invalid.
+	 * 			| !WeightUnit.isValidWeightUnit(weightUnit)
+	 * @note	Unlike toWeightUnit, this method never creates a new weight.
+	 */
+	public double getWeightAmountIn(WeightUnit weightUnit) throws IllegalArgumentException{
+		if (!WeightUnit.isValidWeightUnit(weightUnit))
+			throw new IllegalArgumentException("The given weight unit is invalid.");
+		if (getWeightUnit() == weightUnit)
+			return getWeightAmount();
+		return getWeightAmount() * getWeightUnit().toWeightUnit(weightUnit);
+	}
+	
 	/**
 	 * Returns a weight that has the same value as this weight expressed in the given weight unit.
 	 * 
@@ -157,6 +178,8 @@ public class Weight implements Comparable<Weight> {
 	 * 			| result.getWeightAmount = factor * this.getWeightAmount();
 	 */
 	public Weight multiply(double factor){
+		if (factor == 1.0)
+			return this;
 		return new Weight(getWeightAmount() * factor, getWeightUnit());
 	}
 	
@@ -182,9 +205,9 @@ public class Weight implements Comparable<Weight> {
 	public Weight add(Weight other) throws IllegalArgumentException{
 		if (!isValidWeight(other))
 			throw new IllegalArgumentException("The other weight is invalid.");
-		if (getWeightUnit() == other.getWeightUnit())
-			return new Weight(getWeightAmount() + other.getWeightAmount(), getWeightUnit());
-		return add(other.toWeightUnit(getWeightUnit()));
+		if (other.getWeightAmount() == 0.0)
+			return this;
+		return new Weight(getWeightAmount() + other.getWeightAmountIn(getWeightUnit()), getWeightUnit());
 	}
 	
 	/**
@@ -201,9 +224,9 @@ public class Weight implements Comparable<Weight> {
 	public Weight subtract(Weight other) throws IllegalArgumentException{
 		if (!isValidWeight(other))
 			throw new IllegalArgumentException("The other weight is invalid");
-		if (getWeightUnit() == other.getWeightUnit())
-			return new Weight(getWeightAmount() - other.getWeightAmount(), getWeightUnit());
-		return subtract(other.toWeightUnit(getWeightUnit()));
+		if (other.getWeightAmount() == 0.0)
+			return this;
+		return new Weight(getWeightAmount() - other.getWeightAmountIn(getWeightUnit()), getWeightUnit());
 	}
 	
 	/**
@@ -222,7 +245,7 @@ public class Weight implements Comparable<Weight> {
 	public int compareTo(Weight other) throws ClassCastException{
 		if (!isValidWeight(other))
 			throw new ClassCastException("The other weight is invalid");
-		return Double.compare(this.getWeightAmount(), other.toWeightUnit(this.getWeightUnit()).getWeightAmount());
+		return Double.compare(this.getWeightAmount(), other.getWeightAmountIn(this.getWeightUnit()));
 	}
 	
 	/**
@@ -250,7 +273,7 @@ public class Weight implements Comparable<Weight> {
 	public boolean hasSameValueAs(Weight other) throws IllegalArgumentException{
 		if (!isValidWeight(other))
 			throw new IllegalArgumentException("The other weight is invalid.");
-		return this.equals(other.toWeightUnit(getWeightUnit()));
+		return this.getWeightAmount() == other.getWeightAmountIn(getWeightUnit());
 	}
 	
 	/**
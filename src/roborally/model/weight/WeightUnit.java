@@ -58,8 +58,6 @@ public enum WeightUnit {
 	public double toWeightUnit(WeightUnit other) throws IllegalArgumentException{
 		if (!isValidWeightUnit(other))
 			throw new IllegalArgumentException("The given weight unit is invalid");
-		if (exchangeRates[this.ordinal()][other.ordinal()] == 0.0)
-			exchangeRates[this.ordinal()][other.ordinal()] = 1 / exchangeRates[other.ordinal()][this.ordinal()];
 		return exchangeRates[this.ordinal()][other.ordinal()];
 	}
 	
@@ -70,12 +68,16 @@ public enum WeightUnit {
 	 * from; the ordinal number to convert to is used to index
 	 * the second level.
 	 */
-	private static double[][] exchangeRates = new double[2][2];
+	private static final double[][] exchangeRates = new double[2][2];
 	
 	static {
 		exchangeRates[G.ordinal()][G.ordinal()] = 1;
 		exchangeRates[KG.ordinal()][G.ordinal()] = 1000;
 		exchangeRates[KG.ordinal()][KG.ordinal()] = 1;
+		for(int i = 0; i < exchangeRates.length; i++)
+			for(int j = 0; j < exchangeRates.length; j++)
+				if(exchangeRates[i][j] == 0.0)
+					exchangeRates[i][j] = 1 / exchangeRates[j][i];
 	}
 	
 	/**
@@ -56,6 +56,13 @@ public class WeightUnitTest {
 		assertEquals(WeightUnit.KG.toWeightUnit(WeightUnit.KG),1D,0.01D);
 	}
 	
+	@Test
+	public void toWeightUnit_inverse(){
+		for(WeightUnit unit : WeightUnit.values())
+			for(WeightUnit other : WeightUnit.values())
+				assertEquals(1D, unit.toWeightUnit(other) * other.toWeightUnit(unit), 0.0000001D);
+	}
+	
 	@Test (expected = IllegalArgumentException.class)
 	public void toWeightUnit_inValidWeightUnitRejectedI(){
 		WeightUnit.G.toWeightUnit(null);
@@ -0,0 +1,366 @@
+package roborally.program;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import be.kuleuven.cs.som.annotate.*;
+import roborally.model.dynamicObject.Robot;
+import roborally.program.commands.Command;
+import roborally.program.commands.ExecutableCommand;
+import roborally.program.commands.IfCommand;
+import roborally.program.commands.SeqCommand;
+import roborally.program.commands.WhileCommand;
+import roborally.program.conditions.Condition;
+
+/**
+ * A class of compiled programs: command trees lowered to a flat array of instructions.
+ *
+ * Every instruction is a sequence of integers in the code of a compiled program, starting
+ * with its operation code:
+ * 	- EXECUTE k:				executes the k-th executable command and ends the step.
+ * 	- JUMP t:					continues at the instruction at position t.
+ * 	- JUMP_IF_FALSE c t:		continues at position t if the c-th condition is false.
+ * 	- NOP:						does nothing. (An empty sequential command.)
+ * A program counter equal to the length of the code refers the end of the program.
+ *
+ * A compiled program is immutable and holds no execution state, so it can be shared by
+ * several programs, even of robots on boards that are stepped in parallel; every program
+ * keeps its own execution state. Executing a step does not allocate any objects.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class CompiledProgram {
+
+	/**
+	 * Operation code of an instruction executing an executable command.
+	 */
+	public static final int EXECUTE = 0;
+
+	/**
+	 * Operation code of an unconditional jump.
+	 */
+	public static final int JUMP = 1;
+
+	/**
+	 * Operation code of a jump that is taken if a condition is false.
+	 */
+	public static final int JUMP_IF_FALSE = 2;
+
+	/**
+	 * Operation code of an instruction that does nothing.
+	 */
+	public static final int NOP = 3;
+
+	/**
+	 * Initializes a new compiled program for the given command.
+	 *
+	 * @param 	command
+	 * 			The command that has to be compiled.
+	 * @effect	| this(command, command)
+	 */
+	public CompiledProgram(Command command) throws IllegalArgumentException{
+		this(command, command);
+	}
+
+	/**
+	 * Initializes a new compiled program for the given command, executing
+	 * the given equivalent command instead.
+	 *
+	 * @param 	command
+	 * 			The command of the new compiled program.
+	 * @param 	compiledCommand
+	 * 			The command that has to be compiled, equivalent to the given command.
+	 * @post	| new.getCommand() == command
+	 * @post	| new.getCompiledCommand() == compiledCommand
+	 * @throws	IllegalArgumentException
+	 * 			One of the given commands refers the null reference or the given compiled
+	 * 			command is composed of commands that cannot be compiled.
+	 */
+	public CompiledProgram(Command command, Command compiledCommand) throws IllegalArgumentException{
+		if(command == null || compiledCommand == null)
+			throw new IllegalArgumentException("The given command refers the null reference.");
+		this.command = command;
+		this.compiledCommand = compiledCommand;
+		Compiler compiler = new Compiler();
+		compiler.compile(compiledCommand);
+		this.code = compiler.getCode();
+		this.executableCommands = compiler.getExecutableCommands();
+		this.conditions = compiler.getConditions();
+	}
+
+	/**
+	 * Returns the command of this compiled program.
+	 */
+	@Basic @Immutable
+	public Command getCommand(){
+		return command;
+	}
+	
+	/**
+	 * Variable referencing the command of this compiled program.
+	 */
+	private final Command command;
+
+	/**
+	 * Returns the command compiled into the code of this compiled program.
+	 */
+	@Basic @Immutable
+	public Command getCompiledCommand(){
+		return compiledCommand;
+	}
+
+	/**
+	 * Variable referencing the command compiled into the code of this compiled program.
+	 */
+	private final Command compiledCommand;
+
+	/**
+	 * Returns the length of the code of this compiled program.
+	 */
+	@Basic @Immutable
+	public int getCodeLength(){
+		return code.length;
+	}
+
+	/**
+	 * Returns the integer at the given position in the code of this compiled program.
+	 *
+	 * @param 	position
+	 * 			The position of the integer that has to be returned.
+	 * @throws	IndexOutOfBoundsException
+	 * 			| position < 0 || position >= getCodeLength()
+	 */
+	@Basic @Immutable
+	public int getCodeAt(int position) throws IndexOutOfBoundsException{
+		return code[position];
+	}
+
+	/**
+	 * Checks whether the given program counter refers the end of this compiled program.
+	 *
+	 * @param 	programCounter
+	 * 			The program counter that has to be checked.
+	 * @return	| result == (programCounter >= getCodeLength())
+	 */
+	public boolean isFinished(int programCounter){
+		return programCounter >= code.length;
+	}
+
+	/**
+	 * Executes a single step of this compiled program for the given robot, starting
+	 * from the given program counter: instructions are executed until an executable
+	 * command has been executed or until the end of this compiled program is reached.
+	 *
+	 * @param 	robot
+	 * 			The robot that executes the step.
+	 * @param 	programCounter
+	 * 			The position of the instruction to start from.
+	 * @return	The program counter at which the next step has to start.
+	 * 			Unconditional jumps that follow the executed command are already taken,
+	 * 			so the result refers the end of this compiled program as soon as no
+	 * 			instructions are left that the command tree would still have to expand.
+	 * @note	Every condition is evaluated exactly once each time its instruction is reached:
+	 * 			the condition of a while command is evaluated once per iteration,
+	 * 			plus once when the while command ends.
+	 */
+	public int executeStep(Robot robot, int programCounter){
+		return executeStep(robot, programCounter, null);
+	}
+	
+	/**
+	 * Executes a single step of this compiled program for the given robot, starting
+	 * from the program counter of the given execution state.
+	 *
+	 * @param 	robot
+	 * 			The robot that executes the step.
+	 * @param 	state
+	 * 			The execution state of the given robot.
+	 * @effect	| state.setProgramCounter(executeStep(robot, state.getProgramCounter()))
+	 * @post	The number of condition evaluations of the given execution state is
+	 * 			incremented for every condition of an if or while command evaluated during the step.
+	 * 			(Not for the conditions it is composed of.)
+	 * @throws	NullPointerException
+	 * 			| state == null
+	 */
+	public void executeStep(Robot robot, ExecutionState state) throws NullPointerException{
+		if(state == null)
+			throw new NullPointerException();
+		state.setProgramCounter(executeStep(robot, state.getProgramCounter(), state));
+	}
+	
+	/**
+	 * Executes a single step of this compiled program, counting the evaluated conditions
+	 * in the given execution state if it is effective.
+	 */
+	@Model
+	private int executeStep(Robot robot, int programCounter, ExecutionState state){
+		int pc = programCounter;
+		while(pc < code.length){
+			switch(code[pc]){
+				case EXECUTE:
+					executableCommands[code[pc+1]].executeStep(robot);
+					pc += 2;
+					while(pc < code.length && code[pc] == JUMP)
+						pc = code[pc+1];
+					return pc;
+				case JUMP:
+					pc = code[pc+1];
+					break;
+				case JUMP_IF_FALSE:
+					if(state != null)
+						state.countConditionEvaluation();
+					if(conditions[code[pc+1]].result(robot))
+						pc += 3;
+					else
+						pc = code[pc+2];
+					break;
+				default:
+					pc += 1;
+			}
+		}
+		return pc;
+	}
+
+	/**
+	 * Variable registering the code of this compiled program.
+	 */
+	private final int[] code;
+
+	/**
+	 * Variable referencing the executable commands referred by the code of this compiled program.
+	 */
+	private final ExecutableCommand[] executableCommands;
+
+	/**
+	 * Variable referencing the conditions referred by the code of this compiled program.
+	 */
+	private final Condition[] conditions;
+
+	/**
+	 * A class of compilers, collecting the code, executable commands and conditions
+	 * of a compiled program while it is being initialized.
+	 */
+	private static final class Compiler {
+
+		/**
+		 * Appends the instructions of the given command to the code of this compiler.
+		 *
+		 * @param 	command
+		 * 			The command that has to be compiled.
+		 * @throws	IllegalArgumentException
+		 * 			The given command cannot be compiled.
+		 */
+		private void compile(Command command) throws IllegalArgumentException{
+			if(command instanceof ExecutableCommand){
+				emit(EXECUTE);
+				emit(indexOf(executableCommandList, executableCommandIndices, (ExecutableCommand) command));
+			}
+			else if(command instanceof SeqCommand){
+				SeqCommand seq = (SeqCommand) command;
+				if(seq.getNbSubElements() == 0)
+					emit(NOP);
+				for(int i = 1; i <= seq.getNbSubElements(); i++)
+					compile(seq.getSubElementAt(i));
+			}
+			else if(command instanceof IfCommand){
+				IfCommand ifCommand = (IfCommand) command;
+				emit(JUMP_IF_FALSE);
+				emit(indexOf(conditionList, conditionIndices, ifCommand.getCondition()));
+				int elseTarget = size;
+				emit(-1);
+				compile(ifCommand.getThenCommand());
+				emit(JUMP);
+				int endTarget = size;
+				emit(-1);
+				code[elseTarget] = size;
+				compile(ifCommand.getElseCommand());
+				code[endTarget] = size;
+			}
+			else if(command instanceof WhileCommand){
+				WhileCommand whileCommand = (WhileCommand) command;
+				int top = size;
+				emit(JUMP_IF_FALSE);
+				emit(indexOf(conditionList, conditionIndices, whileCommand.getCondition()));
+				int endTarget = size;
+				emit(-1);
+				compile(whileCommand.getWhileCommand());
+				emit(JUMP);
+				emit(top);
+				code[endTarget] = size;
+			}
+			else
+				throw new IllegalArgumentException("The given command cannot be compiled.");
+		}
+
+		/**
+		 * Appends the given integer to the code of this compiler.
+		 */
+		private void emit(int value){
+			if(size == code.length)
+				code = Arrays.copyOf(code, 2*code.length);
+			code[size++] = value;
+		}
+
+		/**
+		 * Returns the index of the given element in the given list, looked up by identity
+		 * in the given map, adding the element to both if it's not yet part of them.
+		 */
+		private static <T> int indexOf(List<T> list, Map<T, Integer> indices, T element){
+			Integer index = indices.get(element);
+			if(index == null){
+				index = list.size();
+				list.add(element);
+				indices.put(element, index);
+			}
+			return index;
+		}
+
+		/**
+		 * Returns a copy of the code collected by this compiler.
+		 */
+		private int[] getCode(){
+			return Arrays.copyOf(code, size);
+		}
+
+		/**
+		 * Returns the executable commands collected by this compiler, in order of their index.
+		 */
+		private ExecutableCommand[] getExecutableCommands(){
+			return executableCommandList.toArray(new ExecutableCommand[executableCommandList.size()]);
+		}
+
+		/**
+		 * Returns the conditions collected by this compiler, in order of their index.
+		 */
+		private Condition[] getConditions(){
+			return conditionList.toArray(new Condition[conditionList.size()]);
+		}
+
+		/**
+		 * Variable registering the code collected by this compiler.
+		 */
+		private int[] code = new int[16];
+
+		/**
+		 * Variable registering the length of the code collected by this compiler.
+		 */
+		private int size;
+
+		/**
+		 * Lists collecting the executable commands and conditions, in order of their index.
+		 */
+		private final List<ExecutableCommand> executableCommandList = new ArrayList<ExecutableCommand>();
+		private final List<Condition> conditionList = new ArrayList<Condition>();
+
+		/**
+		 * Maps registering the index of every collected executable command and condition, by identity.
+		 */
+		private final Map<ExecutableCommand, Integer> executableCommandIndices = new IdentityHashMap<ExecutableCommand, Integer>();
+		private final Map<Condition, Integer> conditionIndices = new IdentityHashMap<Condition, Integer>();
+	}
+}
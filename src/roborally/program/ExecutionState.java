@@ -0,0 +1,77 @@
+package roborally.program;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of execution states, registering how far a robot has executed a compiled program.
+ *
+ * A compiled program is immutable and can be shared by the programs of many robots;
+ * every program keeps its own execution state.
+ *
+ * @invar	The number of condition evaluations of every execution state is not negative.
+ * 			| getNbConditionEvaluations() >= 0
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public final class ExecutionState {
+
+	/**
+	 * Initializes a new execution state with the given program counter.
+	 *
+	 * @param 	programCounter
+	 * 			The program counter of the new execution state.
+	 * @post	| new.getProgramCounter() == programCounter
+	 * @post	| new.getNbConditionEvaluations() == 0
+	 */
+	public ExecutionState(int programCounter){
+		setProgramCounter(programCounter);
+	}
+
+	/**
+	 * Returns the program counter of this execution state.
+	 */
+	@Basic
+	public int getProgramCounter(){
+		return programCounter;
+	}
+
+	/**
+	 * Sets the program counter of this execution state to the given program counter.
+	 *
+	 * @param 	programCounter
+	 * 			The new program counter of this execution state.
+	 * @post	| new.getProgramCounter() == programCounter
+	 */
+	public void setProgramCounter(int programCounter){
+		this.programCounter = programCounter;
+	}
+
+	/**
+	 * Variable registering the position of the next instruction that has to be executed.
+	 */
+	private int programCounter;
+
+	/**
+	 * Returns the number of conditions evaluated in this execution state.
+	 */
+	@Basic
+	public long getNbConditionEvaluations(){
+		return nbConditionEvaluations;
+	}
+
+	/**
+	 * Registers the evaluation of a condition in this execution state.
+	 *
+	 * @post	| new.getNbConditionEvaluations() == getNbConditionEvaluations() + 1
+	 */
+	public void countConditionEvaluation(){
+		nbConditionEvaluations++;
+	}
+
+	/**
+	 * Variable registering the number of conditions evaluated in this execution state.
+	 */
+	private long nbConditionEvaluations;
+}
@@ -1,14 +1,10 @@
 package roborally.program;
 
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
 
 import be.kuleuven.cs.som.annotate.*;
-import roborally.Terminatable;
 import roborally.model.dynamicObject.Robot;
 import roborally.program.commands.Command;
-import roborally.program.commands.ExecutableCommand;
 
 /**
  * A class of programs.
@@ -40,7 +36,6 @@ public class Program {
 	public Program(Robot robot, String filePath) throws IOException, IllegalArgumentException{
 		if (!isValidRobot(robot))
 			throw new IllegalArgumentException("The given robot is invalid for this program");
-		this.robotLanguageInterpreter = new RobotLanguageInterpreter();
 		setCommand(filePath);
 		this.robot = robot;
 	}
@@ -48,90 +43,108 @@ public class Program {
 	/**
 	 * Starts the execution for this program
 	 * 
-	 * @effect	if this program is finished add the internal command to the stack.
+	 * @effect	If this program is finished, the execution restarts
+	 * 			at the first instruction of the compiled command of this program.
 	 * 			| if (isFinished())
-	 * 			| 	then getCommandStack().addFirst(getCommand())
+	 * 			| 	then setProgramCounter(0)
 	 */
 	public void start(){
 		if (isFinished())
-			getCommandStack().addFirst(getCommand());
-	}
-	
-	/**
-	 * Adds the command list of the given command to the command stack.
-	 * 
-	 * @param	fromCmd
-	 * 			The command to use to add to the command stack.
-	 * @effect	Every command from the command list of the given command is added to the stack.
-	 * 			| for each Command cmd in fromCmd.getCommandList(getRobot()) :
-	 * 			| 	getCommandStack().addFirst(cmd)
-	 */
-	private void addToCommandStackFromCommand(Command fromCmd){
-		List<Command> newCommands = fromCmd.getCommandList(getRobot());
-		for (Command cmd : newCommands){
-			getCommandStack().addFirst(cmd);
-		}
+			setProgramCounter(0);
 	}
 	
 	/**
 	 * Executes a single step of this program.
+	 * 
+	 * @effect	If this program is not finished, a step of the compiled command
+	 * 			of this program is executed in the execution state of this program.
+	 * 			| if (!isFinished())
+	 * 			| 	then getCompiledProgram().executeStep(getRobot(), getExecutionState())
 	 */
 	public void executeStep(){
-		if (!isFinished()){
-			boolean encounteredBasic = false;
-			
-			while (!encounteredBasic && !isFinished()){
-				Command cmd = getCommandStack().getFirst();
-				if (ExecutableCommand.class.isInstance(cmd)){
-					((ExecutableCommand)cmd).executeStep(getRobot());
-					encounteredBasic = true;
-				}
-				else{
-					addToCommandStackFromCommand(cmd);
-				}
-				
-				if (cmd.removeFromStackAfterExecution(robot)){
-					if (cmd == getCommandStack().getFirst())
-						getCommandStack().removeFirst();
-					else
-						getCommandStack().remove(cmd);
-				}
-			}
-		}
+		if (!isFinished())
+			getCompiledProgram().executeStep(getRobot(), getExecutionState());
 	}
 	
 	/**
 	 * Returns whether this program has finished yet.
 	 * 
-	 * @param	robot
-	 * 			The robot for which to check 
-	 * @return	Returns whether the internal command stack is empty.
-	 * 			| getCommandStack().isEmpty()
+	 * @return	Returns whether the program counter of this program
+	 * 			refers the end of the compiled command of this program.
+	 * 			| getCompiledProgram().isFinished(getProgramCounter())
 	 */
 	@Raw
 	public boolean isFinished(){
-		return getCommandStack().isEmpty();
+		return getCompiledProgram().isFinished(getProgramCounter());
 	}
 
 	/**
-	 * Returns the command stack of this program.
+	 * Returns the program counter of this program.
+	 * 
+	 * @return	| result == getExecutionState().getProgramCounter()
+	 */
+	@Raw
+	public int getProgramCounter(){
+		return getExecutionState().getProgramCounter();
+	}
+	
+	/**
+	 * Sets the program counter of this program to the given program counter.
+	 * 
+	 * @param	programCounter
+	 * 			The new program counter of this program.
+	 * @effect	| getExecutionState().setProgramCounter(programCounter)
+	 */
+	@Raw @Model
+	private void setProgramCounter(int programCounter){
+		getExecutionState().setProgramCounter(programCounter);
+	}
+	
+	/**
+	 * Returns the execution state of this program.
+	 */
+	@Basic @Model @Raw
+	private ExecutionState getExecutionState(){
+		return executionState;
+	}
+	
+	/**
+	 * Variable referencing the execution state of this program
+	 * in the compiled command of this program.
+	 */
+	private ExecutionState executionState;
+	
+	/**
+	 * Returns the compiled command of this program.
 	 */
 	@Basic @Raw
-	private LinkedList<Command> getCommandStack(){
-		return commandStack;
+	public CompiledProgram getCompiledProgram(){
+		return compiledProgram;
 	}
 	
 	/**
-	 * Internal command stack to keep track of the current program progress.
+	 * Variable referencing the compiled command of this program.
 	 */
-	LinkedList<Command> commandStack = new LinkedList<Command>();
+	private CompiledProgram compiledProgram;
+	
+	/**
+	 * Returns the number of conditions this program has evaluated
+	 * since its command was set.
+	 * 
+	 * @return	| result == getExecutionState().getNbConditionEvaluations()
+	 */
+	public long getNbConditionEvaluations(){
+		return getExecutionState().getNbConditionEvaluations();
+	}
 	
 	/**
 	 * Returns the sequential command of this program.
+	 * 
+	 * @return	| result == getCompiledProgram().getCommand()
 	 */
-	@Basic @Model @Raw
+	@Model @Raw
 	private Command getCommand(){
-		return command;
+		return getCompiledProgram().getCommand();
 	}
 	
 	/**
@@ -139,39 +152,25 @@ public class Program {
 	 * 
 	 * @param 	filePath
 	 * 			The file path of the file to read for the program.
-	 * @effect 	First terminates the command of this program.
-	 * 			| terminateCommand()
-	 * @post	The robot language interpreter of this program will load the command list from
-	 * 			the given file into this program.
-	 * 			| new.getCommand() == getRobotLanguageInterpreter().readCommandListFromFile(filePath)
+	 * @post	The compiled command of this program is the compiled program
+	 * 			of the given file in the standard program cache.
+	 * 			| new.getCompiledProgram() == ProgramCache.STANDARD_PROGRAM_CACHE.readProgramFromFile(filePath)
+	 * @post	This program has a new execution state and is finished.
+	 * 			| new.getNbConditionEvaluations() == 0
+	 * 			| && new.isFinished()
 	 * @throws 	IOException
 	 * 			If the given file could not be read.
 	 * @throws 	IllegalArgumentException
 	 * 			If the given file's program is not written in correct robot language syntax.
+	 * @note	The command of this program may be shared with the programs of other robots
+	 * 			that loaded the same program, so it is never terminated by this program.
 	 */
 	public void setCommand(String filePath) throws IOException, IllegalArgumentException{
-		terminateCommand();
-		this.command = getRobotLanguageInterpreter().readCommandListFromFile(filePath);
-	}
-	
-	/**
-	 * Terminates the command of this program.
-	 * 
-	 * @effect	If the internal command is an instance of Terminatable then terminate the command.
-	 * 			| if (getCommand() instanceof Terminatable)
-	 * 			| 	then ((Terminatable)getCommand()).terminate()
-	 */
-	private void terminateCommand(){
-		if (getCommand() instanceof Terminatable){
-			((Terminatable)getCommand()).terminate();
-		}
+		CompiledProgram newCompiledProgram = ProgramCache.STANDARD_PROGRAM_CACHE.readProgramFromFile(filePath);
+		this.compiledProgram = newCompiledProgram;
+		this.executionState = new ExecutionState(newCompiledProgram.getCodeLength());
 	}
 	
-	/**
-	 * Variable storing the command representing this program.
-	 */
-	private Command command;
-	
 	/**
 	 * Returns whether the given robot is a valid robot for any program.
 	 * 
@@ -199,16 +198,19 @@ public class Program {
 	
 	/**
 	 * Returns the robot language interpreter of this program.
+	 * 
+	 * @note	All programs share the same robot language interpreter,
+	 * 			since an interpreter holds no state.
 	 */
 	@Basic @Immutable @Model @Raw
 	private final RobotLanguageInterpreter getRobotLanguageInterpreter(){
-		return robotLanguageInterpreter;
+		return ROBOT_LANGUAGE_INTERPRETER;
 	}
 	
 	/**
-	 * Variable storing the robot language interpreter for this program.
+	 * Constant referencing the robot language interpreter shared by all programs.
 	 */
-	private final RobotLanguageInterpreter robotLanguageInterpreter;
+	private static final RobotLanguageInterpreter ROBOT_LANGUAGE_INTERPRETER = new RobotLanguageInterpreter();
 	
 	/**
 	 * Writes this program to a file at the given filepath.
@@ -0,0 +1,200 @@
+package roborally.program;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import be.kuleuven.cs.som.annotate.*;
+import roborally.program.commands.Command;
+
+/**
+ * A class of caches of compiled programs, keyed by the content of their source.
+ *
+ * Reading the same source twice returns the same compiled program, and thus the same
+ * command tree, so the programs of all robots loading the same file share a single parsed
+ * and compiled program. The code of every compiled program is compiled from the optimized
+ * command, while its command is still the command as it was read. Once the capacity of a
+ * cache is reached, the least recently used programs are evicted.
+ *
+ * @invar	The number of programs of every program cache does not exceed its capacity.
+ * 			| getNbPrograms() <= getCapacity()
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ * @note	A program cache can be used by several threads at the same time.
+ */
+public class ProgramCache {
+
+	/**
+	 * Variable referencing the program cache used by programs read from files.
+	 */
+	public static final ProgramCache STANDARD_PROGRAM_CACHE = new ProgramCache(64);
+
+	/**
+	 * Initializes a new program cache with the given capacity.
+	 *
+	 * @param 	capacity
+	 * 			The capacity of the new program cache.
+	 * @post	| new.getCapacity() == capacity
+	 * @post	| new.getNbPrograms() == 0
+	 * @throws	IllegalArgumentException
+	 * 			| capacity <= 0
+	 */
+	public ProgramCache(final int capacity) throws IllegalArgumentException{
+		if(capacity <= 0)
+			throw new IllegalArgumentException("The capacity of a program cache must be positive.");
+		this.capacity = capacity;
+		this.programs = new LinkedHashMap<String, CompiledProgram>(16, 0.75f, true){
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompiledProgram> eldest){
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the capacity of this program cache.
+	 */
+	@Basic @Immutable
+	public int getCapacity(){
+		return capacity;
+	}
+
+	/**
+	 * Variable registering the capacity of this program cache.
+	 */
+	private final int capacity;
+
+	/**
+	 * Returns the number of programs in this program cache.
+	 */
+	public synchronized int getNbPrograms(){
+		return programs.size();
+	}
+
+	/**
+	 * Returns the number of sources this program cache had to parse.
+	 */
+	@Basic
+	public synchronized long getNbParses(){
+		return nbParses;
+	}
+
+	/**
+	 * Variable registering the number of sources this program cache had to parse.
+	 */
+	private long nbParses;
+
+	/**
+	 * Removes all programs from this program cache.
+	 *
+	 * @post	| new.getNbPrograms() == 0
+	 */
+	public synchronized void clear(){
+		programs.clear();
+	}
+
+	/**
+	 * Returns the compiled program for the file with the given file path.
+	 *
+	 * @param 	filePath
+	 * 			The file path of the file to read the program from.
+	 * @return	A compiled program of the command read from the given file.
+	 * 			If a file with the same content was read before, the same compiled program is returned.
+	 * @throws	IOException
+	 * 			The given file could not be read.
+	 * @throws	IllegalArgumentException
+	 * 			The program in the given file is not written in correct robot language syntax.
+	 */
+	public CompiledProgram readProgramFromFile(String filePath) throws IOException, IllegalArgumentException{
+		return readProgram(Files.readAllBytes(Paths.get(filePath)));
+	}
+
+	/**
+	 * Returns the compiled program for the given source.
+	 *
+	 * @param 	input
+	 * 			The source of the program.
+	 * @return	A compiled program of the command read from the given source.
+	 * 			If the same source was read before, the same compiled program is returned.
+	 * @throws	IllegalArgumentException
+	 * 			The given source is not written in correct robot language syntax.
+	 */
+	public CompiledProgram readProgram(String input) throws IllegalArgumentException{
+		try{
+			return readProgram(input.getBytes(Charset.defaultCharset()));
+		}
+		catch(IOException e){
+			// Reading from memory never fails.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the compiled program for the source with the given content.
+	 */
+	@Model
+	private CompiledProgram readProgram(byte[] content) throws IOException, IllegalArgumentException{
+		String key = getContentHash(content);
+		synchronized(this){
+			CompiledProgram program = programs.get(key);
+			if(program != null)
+				return program;
+		}
+		Command command = interpreter.readCommandList(new InputStreamReader(new ByteArrayInputStream(content), Charset.defaultCharset()));
+		CompiledProgram program = new CompiledProgram(command, optimizer.optimize(command));
+		synchronized(this){
+			nbParses++;
+			CompiledProgram other = programs.get(key);
+			if(other != null)
+				return other;
+			programs.put(key, program);
+			return program;
+		}
+	}
+
+	/**
+	 * Returns the hash of the given content, used as key in this program cache.
+	 */
+	@Model
+	private static String getContentHash(byte[] content){
+		try{
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			StringBuilder key = new StringBuilder(2*digest.length);
+			for(byte b : digest)
+				key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return key.toString();
+		}
+		catch(NoSuchAlgorithmException e){
+			// Every Java platform supports SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Variable referencing the compiled programs of this program cache, by the hash of their source,
+	 * in order of their last use.
+	 */
+	private final Map<String, CompiledProgram> programs;
+
+	/**
+	 * Variable referencing the robot language interpreter of this program cache.
+	 */
+	private final RobotLanguageInterpreter interpreter = new RobotLanguageInterpreter();
+
+	/**
+	 * Variable referencing the robot language optimizer of this program cache.
+	 */
+	private final RobotLanguageOptimizer optimizer = new RobotLanguageOptimizer();
+}
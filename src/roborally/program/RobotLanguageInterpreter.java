@@ -34,126 +34,219 @@ public class RobotLanguageInterpreter {
 		return cmd.toRobotLanguage();
 	}
 
+	/**
+	 * Reads the command list from the file with the given file path.
+	 * 
+	 * @param 	filePath
+	 * 			The file path of the file to read the program from.
+	 * @return	| result == readCommandList(new FileReader(filePath))
+	 * @throws	IOException
+	 * 			The given file could not be read.
+	 * @throws	RobotLanguageSyntaxException
+	 * 			The program in the given file is not written in correct robot language syntax.
+	 */
 	public Command readCommandListFromFile(String filePath) throws IOException, IllegalArgumentException{
-        StringBuilder fileData = new StringBuilder();
-        BufferedReader reader = new BufferedReader(
-                new FileReader(filePath));
-        char[] buf = new char[1024];
-        int numRead=0;
-        while((numRead=reader.read(buf)) != -1){
-            String readData = String.valueOf(buf, 0, numRead);
-            fileData.append(readData);
-            buf = new char[1024];
-        }
-        reader.close();
-        return readCommandList(fileData.toString());
+		Reader reader = new BufferedReader(new FileReader(filePath));
+		try{
+			return readCommandList(reader);
+		}
+		finally{
+			reader.close();
+		}
 	}
 	
+	/**
+	 * Reads the command list from the given string.
+	 * 
+	 * @param 	input
+	 * 			The program that has to be read.
+	 * @return	| result == readCommandList(new StringReader(input))
+	 * @throws	RobotLanguageSyntaxException
+	 * 			The given program is not written in correct robot language syntax.
+	 */
 	public Command readCommandList(String input) throws IllegalArgumentException{
-		input = input.replace("\n", " ");
-		input = input.replace("\r", " ");
-		input = input.replace("\t", " ");
-		input = input.trim().replaceAll(" +", " ");
-		
-		LinkedList<String> inputSplit = new LinkedList<String>(Arrays.asList(input.split("\\(")));
-		
-		inputSplit.removeFirst();
-		/*inputSplit.addFirst("seq");
-		String temp = inputSplit.getLast() + ")";
-		inputSplit.removeLast();
-		inputSplit.addLast(temp);*/
-		
-		return (Command)readElement(inputSplit);
+		try{
+			return readCommandList(new StringReader(input));
+		}
+		catch(IOException e){
+			// A string reader only throws when it's closed.
+			throw new IllegalStateException(e);
+		}
 	}
 	
-	public LanguageElement readElement(LinkedList<String> list) throws IllegalArgumentException{
-		recursionLevel++;
-		int endBrackets = countEndBrackets(list.getFirst());
-		LanguageElement retEl = null;
-		
-		String elementName = list.getFirst().trim();
-		list.removeFirst();
+	/**
+	 * Reads the command list from the given reader, in a single pass.
+	 * 
+	 * @param 	reader
+	 * 			The reader to read the program from.
+	 * @return	The command represented by the program read from the given reader.
+	 * @throws	IOException
+	 * 			The given reader could not be read.
+	 * @throws	RobotLanguageSyntaxException
+	 * 			The program read from the given reader is not written in correct
+	 * 			robot language syntax, or contains more than one command.
+	 * @note	The state of the parse is kept on the stack of this call only,
+	 * 			so a robot language interpreter can be shared by several threads.
+	 */
+	public Command readCommandList(Reader reader) throws IOException, IllegalArgumentException{
+		RobotLanguageLexer lexer = new RobotLanguageLexer(reader);
+		Command command = readCommand(lexer);
+		if(lexer.getType() != RobotLanguageLexer.END)
+			throw syntaxError(lexer, "end of program expected but found " + describeToken(lexer));
+		return command;
+	}
+	
+	/**
+	 * Reads a command from the given lexer.
+	 */
+	private Command readCommand(RobotLanguageLexer lexer) throws IOException, IllegalArgumentException{
+		int line = lexer.getLine();
+		int column = lexer.getColumn();
+		LanguageElement element = readElement(lexer);
+		if(!(element instanceof Command))
+			throw new RobotLanguageSyntaxException("command expected but found condition", line, column);
+		return (Command) element;
+	}
+	
+	/**
+	 * Reads a condition from the given lexer.
+	 */
+	private Condition readCondition(RobotLanguageLexer lexer) throws IOException, IllegalArgumentException{
+		int line = lexer.getLine();
+		int column = lexer.getColumn();
+		LanguageElement element = readElement(lexer);
+		if(!(element instanceof Condition))
+			throw new RobotLanguageSyntaxException("condition expected but found command", line, column);
+		return (Condition) element;
+	}
+	
+	/**
+	 * Reads a language element, from its opening up to and including its closing bracket,
+	 * from the given lexer.
+	 */
+	private LanguageElement readElement(RobotLanguageLexer lexer) throws IOException, IllegalArgumentException{
+		expect(lexer, RobotLanguageLexer.OPEN, "'('");
+		if(lexer.getType() != RobotLanguageLexer.WORD)
+			throw syntaxError(lexer, "element name expected but found " + describeToken(lexer));
+		String elementName = lexer.getText();
+		int line = lexer.getLine();
+		int column = lexer.getColumn();
+		lexer.next();
 		
-		if (elementName.startsWith("while")){
-			Condition whileCond = (Condition)readElement(list);
-			Command whileCmd = (Command)readElement(list);
+		LanguageElement retEl;
+		if (elementName.equals("while")){
+			Condition whileCond = readCondition(lexer);
+			Command whileCmd = readCommand(lexer);
 			retEl = new WhileCommand(whileCond, whileCmd);
 		}
-		else if (elementName.startsWith("seq")){
-			int oldRec = recursionLevel;
+		else if (elementName.equals("seq")){
 			List<Command> cmdList = new ArrayList<Command>();
-			while (oldRec <= recursionLevel){
-				cmdList.add((Command)readElement(list));
+			while (lexer.getType() == RobotLanguageLexer.OPEN){
+				cmdList.add(readCommand(lexer));
 			}
 			Command[] a = new Command[cmdList.size()];
 			retEl = new SeqCommand(cmdList.toArray(a));
 		}
-		else if (elementName.startsWith("if")){
-			Condition ifCond = (Condition)readElement(list);
-			Command thenCmd = (Command)readElement(list);
-			Command elseCmd = (Command)readElement(list);
+		else if (elementName.equals("if")){
+			Condition ifCond = readCondition(lexer);
+			Command thenCmd = readCommand(lexer);
+			Command elseCmd = readCommand(lexer);
 			retEl = new IfCommand(ifCond, thenCmd, elseCmd);
 		}
-		else if (elementName.startsWith("move")){
+		else if (elementName.equals("move")){
 			retEl = MoveCommand.MOVE_COMMAND;
 		}
-		else if (elementName.startsWith("shoot")){
+		else if (elementName.equals("shoot")){
 			retEl = ShootCommand.SHOOT_COMMAND;
 		}
-		else if (elementName.startsWith("turn")){
-			String paramStr = elementName.split(" ")[1].split("\\)")[0];
-			TurnDirectionParameter param = TurnDirectionParameter.TurnDirectionFromString(paramStr.toLowerCase());
-			
-			retEl = new TurnCommand(param);
+		else if (elementName.equals("turn")){
+			String paramStr = readParameter(lexer);
+			try{
+				retEl = new TurnCommand(TurnDirectionParameter.TurnDirectionFromString(paramStr.toLowerCase()));
+			}
+			catch(IllegalArgumentException e){
+				throw new RobotLanguageSyntaxException("turn direction unknown: " + paramStr, line, column);
+			}
 		}
-		else if (elementName.startsWith("pickup-and-use")){
+		else if (elementName.equals("pickup-and-use")){
 			retEl = PickUpAndUseCommand.PICK_UP_AND_USE_COMMAND;
 		}
-		else if (elementName.startsWith("and")){
-			Condition cond1 = (Condition)readElement(list);
-			Condition cond2 = (Condition)readElement(list);
+		else if (elementName.equals("and")){
+			Condition cond1 = readCondition(lexer);
+			Condition cond2 = readCondition(lexer);
 			retEl = new AndCondition(cond1, cond2);
 		}
-		else if (elementName.startsWith("or")){
-			Condition cond1 = (Condition)readElement(list);
-			Condition cond2 = (Condition)readElement(list);
+		else if (elementName.equals("or")){
+			Condition cond1 = readCondition(lexer);
+			Condition cond2 = readCondition(lexer);
 			retEl = new OrCondition(cond1, cond2);
 		}
-		else if (elementName.startsWith("not")){
-			Condition cond = (Condition)readElement(list);
+		else if (elementName.equals("not")){
+			Condition cond = readCondition(lexer);
 			retEl = new NotCondition(cond);
 		}
-		else if (elementName.startsWith("energy-at-least")){
-			String paramStr = elementName.split(" ")[1].split("\\)")[0];
-			Double param = Double.parseDouble(paramStr);
-			retEl = new EnergyAtleastCondition(new Energy(param));
+		else if (elementName.equals("energy-at-least")){
+			String paramStr = readParameter(lexer);
+			try{
+				retEl = new EnergyAtleastCondition(new Energy(Double.parseDouble(paramStr)));
+			}
+			catch(IllegalArgumentException e){
+				throw new RobotLanguageSyntaxException("energy amount invalid: " + paramStr, line, column);
+			}
 		}
-		else if (elementName.startsWith("at-item")){
+		else if (elementName.equals("at-item")){
 			retEl = AtItemCondition.AT_ITEM_CONDITION;
 		}
-		else if (elementName.startsWith("can-hit-robot")){
+		else if (elementName.equals("can-hit-robot")){
 			retEl = CanHitRobotCondition.CAN_HIT_ROBOT_CONDITION;
 		}
-		else if (elementName.startsWith("wall")){
+		else if (elementName.equals("wall")){
 			retEl = WallCondition.WALL_CONDITION;
 		}
-		else if (elementName.startsWith("true")){
+		else if (elementName.equals("true")){
 			retEl = TrueCondition.TRUE_CONDITION;
 		}
 		else{
-			throw new IllegalArgumentException(elementName + " element unkown");
+			throw new RobotLanguageSyntaxException(elementName + " element unkown", line, column);
 		}
-
-		recursionLevel -= endBrackets;
+		
+		expect(lexer, RobotLanguageLexer.CLOSE, "')'");
 		return retEl;
 	}
 	
-	private int recursionLevel;
+	/**
+	 * Reads the word parameter of a language element from the given lexer.
+	 */
+	private String readParameter(RobotLanguageLexer lexer) throws IOException, IllegalArgumentException{
+		if(lexer.getType() != RobotLanguageLexer.WORD)
+			throw syntaxError(lexer, "parameter expected but found " + describeToken(lexer));
+		String parameter = lexer.getText();
+		lexer.next();
+		return parameter;
+	}
+	
+	/**
+	 * Checks that the current token of the given lexer has the given type and advances the lexer.
+	 */
+	private void expect(RobotLanguageLexer lexer, int type, String description) throws IOException, IllegalArgumentException{
+		if(lexer.getType() != type)
+			throw syntaxError(lexer, description + " expected but found " + describeToken(lexer));
+		lexer.next();
+	}
 	
-	private int countEndBrackets(String input){
-		input = input.trim().replaceAll("\\s+", "");
-		int ind = input.indexOf(")");
-		int amtBrackets = (ind == -1)? 0:input.length() - ind;
-		return amtBrackets;
+	/**
+	 * Returns a description of the current token of the given lexer for a syntax error.
+	 */
+	private String describeToken(RobotLanguageLexer lexer){
+		if(lexer.getType() == RobotLanguageLexer.END)
+			return "end of program";
+		return "'" + lexer.getText() + "'";
+	}
+	
+	/**
+	 * Returns a syntax exception with the given message at the current token of the given lexer.
+	 */
+	private RobotLanguageSyntaxException syntaxError(RobotLanguageLexer lexer, String message){
+		return new RobotLanguageSyntaxException(message, lexer.getLine(), lexer.getColumn());
 	}
-}
\ No newline at end of file
+}
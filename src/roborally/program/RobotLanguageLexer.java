@@ -0,0 +1,172 @@
+package roborally.program;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of lexers splitting the characters of a robot language program into tokens.
+ *
+ * A lexer reads its characters one by one from a reader and only keeps the current token,
+ * so programs are tokenized in a single pass without holding their source in memory.
+ * The tokens are opening brackets, closing brackets and words: maximal sequences
+ * of characters that are neither whitespace nor brackets.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class RobotLanguageLexer {
+
+	/**
+	 * Type of the token marking the end of the program.
+	 */
+	public static final int END = 0;
+
+	/**
+	 * Type of an opening bracket token.
+	 */
+	public static final int OPEN = 1;
+
+	/**
+	 * Type of a closing bracket token.
+	 */
+	public static final int CLOSE = 2;
+
+	/**
+	 * Type of a word token.
+	 */
+	public static final int WORD = 3;
+
+	/**
+	 * Initializes a new lexer reading from the given reader and reads its first token.
+	 *
+	 * @param 	reader
+	 * 			The reader to read the program from.
+	 * @effect	| next()
+	 * @throws	NullPointerException
+	 * 			| reader == null
+	 * @throws	IOException
+	 * 			The given reader could not be read.
+	 */
+	public RobotLanguageLexer(Reader reader) throws NullPointerException, IOException{
+		if(reader == null)
+			throw new NullPointerException();
+		this.reader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+		this.lookahead = this.reader.read();
+		next();
+	}
+
+	/**
+	 * Returns the type of the current token of this lexer.
+	 */
+	@Basic
+	public int getType(){
+		return type;
+	}
+
+	/**
+	 * Returns the text of the current token of this lexer.
+	 */
+	@Basic
+	public String getText(){
+		return text;
+	}
+
+	/**
+	 * Returns the line at which the current token of this lexer starts.
+	 */
+	@Basic
+	public int getLine(){
+		return tokenLine;
+	}
+
+	/**
+	 * Returns the column at which the current token of this lexer starts.
+	 */
+	@Basic
+	public int getColumn(){
+		return tokenColumn;
+	}
+
+	/**
+	 * Advances this lexer to the next token.
+	 *
+	 * @throws	IOException
+	 * 			The reader of this lexer could not be read.
+	 */
+	public void next() throws IOException{
+		while(lookahead != -1 && Character.isWhitespace(lookahead))
+			advance();
+		tokenLine = line;
+		tokenColumn = column;
+		if(lookahead == -1){
+			type = END;
+			text = "";
+		}
+		else if(lookahead == '('){
+			type = OPEN;
+			text = "(";
+			advance();
+		}
+		else if(lookahead == ')'){
+			type = CLOSE;
+			text = ")";
+			advance();
+		}
+		else{
+			builder.setLength(0);
+			while(lookahead != -1 && lookahead != '(' && lookahead != ')' && !Character.isWhitespace(lookahead)){
+				builder.append((char) lookahead);
+				advance();
+			}
+			type = WORD;
+			text = builder.toString();
+		}
+	}
+
+	/**
+	 * Consumes the lookahead character of this lexer and reads the next one.
+	 */
+	@Model
+	private void advance() throws IOException{
+		if(lookahead == '\n'){
+			line++;
+			column = 1;
+		}
+		else
+			column++;
+		lookahead = reader.read();
+	}
+
+	/**
+	 * Variable referencing the reader of this lexer.
+	 */
+	private final Reader reader;
+
+	/**
+	 * Variable registering the character following the current token, or -1 at the end of the program.
+	 */
+	private int lookahead;
+
+	/**
+	 * Variables registering the line and column of the lookahead character.
+	 */
+	private int line = 1;
+	private int column = 1;
+
+	/**
+	 * Variables registering the current token.
+	 */
+	private int type;
+	private String text;
+	private int tokenLine;
+	private int tokenColumn;
+
+	/**
+	 * Variable referencing the builder reused for the text of words.
+	 */
+	private final StringBuilder builder = new StringBuilder();
+}
@@ -0,0 +1,155 @@
+package roborally.program;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import roborally.program.commands.*;
+import roborally.program.conditions.*;
+
+/**
+ * A class of optimizers for robot language programs.
+ *
+ * An optimizer rewrites a command into an equivalent command that executes the same
+ * executable commands in the same order, but evaluates fewer conditions:
+ * 	- conditions composed with the true condition are folded,
+ * 	- double negations are eliminated,
+ * 	- branches of if and while commands that can never be taken are removed,
+ * 	- nested sequential commands are flattened.
+ * The false condition is represented as (not (true)).
+ *
+ * Optimizing never changes the given command: a new command is built, so the given
+ * command still writes back to its original source.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ * @note	Conditions have no side effects, so conditions whose result is known beforehand
+ * 			can be left out. A step of an optimized program may therefore finish a program
+ * 			one step earlier, when no executable commands remain after its last command.
+ */
+public class RobotLanguageOptimizer {
+
+	/**
+	 * Initializes a new robot language optimizer.
+	 */
+	public RobotLanguageOptimizer(){
+	}
+
+	/**
+	 * Returns an optimized command equivalent to the given command.
+	 *
+	 * @param 	command
+	 * 			The command that has to be optimized.
+	 * @return	A command executing the same executable commands as the given command,
+	 * 			in the same order, for every robot.
+	 * @throws	NullPointerException
+	 * 			| command == null
+	 */
+	public Command optimize(Command command) throws NullPointerException{
+		if(command == null)
+			throw new NullPointerException();
+		if(command instanceof IfCommand){
+			IfCommand ifCommand = (IfCommand) command;
+			Condition condition = optimize(ifCommand.getCondition());
+			Boolean value = getConstantValue(condition);
+			if(value == Boolean.TRUE)
+				return optimize(ifCommand.getThenCommand());
+			if(value == Boolean.FALSE)
+				return optimize(ifCommand.getElseCommand());
+			return new IfCommand(condition, optimize(ifCommand.getThenCommand()), optimize(ifCommand.getElseCommand()));
+		}
+		if(command instanceof WhileCommand){
+			WhileCommand whileCommand = (WhileCommand) command;
+			Condition condition = optimize(whileCommand.getCondition());
+			if(getConstantValue(condition) == Boolean.FALSE)
+				return new SeqCommand();
+			return new WhileCommand(condition, optimize(whileCommand.getWhileCommand()));
+		}
+		if(command instanceof SeqCommand){
+			SeqCommand seq = (SeqCommand) command;
+			List<Command> subCommands = new ArrayList<Command>();
+			for(int i = 1; i <= seq.getNbSubElements(); i++){
+				Command subCommand = optimize(seq.getSubElementAt(i));
+				if(subCommand instanceof SeqCommand){
+					SeqCommand subSeq = (SeqCommand) subCommand;
+					for(int j = 1; j <= subSeq.getNbSubElements(); j++)
+						subCommands.add(subSeq.getSubElementAt(j));
+				}
+				else
+					subCommands.add(subCommand);
+			}
+			if(subCommands.size() == 1)
+				return subCommands.get(0);
+			return new SeqCommand(subCommands.toArray(new Command[subCommands.size()]));
+		}
+		return command;
+	}
+
+	/**
+	 * Returns an optimized condition equivalent to the given condition.
+	 *
+	 * @param 	condition
+	 * 			The condition that has to be optimized.
+	 * @return	A condition with the same result as the given condition, for every robot.
+	 * @throws	NullPointerException
+	 * 			| condition == null
+	 */
+	public Condition optimize(Condition condition) throws NullPointerException{
+		if(condition == null)
+			throw new NullPointerException();
+		if(condition instanceof NotCondition){
+			Condition subCondition = optimize(((NotCondition) condition).getSubCondition());
+			if(subCondition instanceof NotCondition)
+				return ((NotCondition) subCondition).getSubCondition();
+			return new NotCondition(subCondition);
+		}
+		if(condition instanceof AndCondition){
+			Condition first = optimize(((AndCondition) condition).getFirstSubCondition());
+			Condition second = optimize(((AndCondition) condition).getSecondSubCondition());
+			Boolean firstValue = getConstantValue(first);
+			Boolean secondValue = getConstantValue(second);
+			if(firstValue == Boolean.FALSE || secondValue == Boolean.FALSE)
+				return new NotCondition(TrueCondition.TRUE_CONDITION);
+			if(firstValue == Boolean.TRUE)
+				return second;
+			if(secondValue == Boolean.TRUE)
+				return first;
+			return new AndCondition(first, second);
+		}
+		if(condition instanceof OrCondition){
+			Condition first = optimize(((OrCondition) condition).getFirstSubCondition());
+			Condition second = optimize(((OrCondition) condition).getSecondSubCondition());
+			Boolean firstValue = getConstantValue(first);
+			Boolean secondValue = getConstantValue(second);
+			if(firstValue == Boolean.TRUE || secondValue == Boolean.TRUE)
+				return TrueCondition.TRUE_CONDITION;
+			if(firstValue == Boolean.FALSE)
+				return second;
+			if(secondValue == Boolean.FALSE)
+				return first;
+			return new OrCondition(first, second);
+		}
+		return condition;
+	}
+
+	/**
+	 * Returns the result of the given optimized condition if it is the same for every robot,
+	 * or the null reference otherwise.
+	 *
+	 * @param 	condition
+	 * 			The optimized condition that has to be checked.
+	 * @return	| if(condition instanceof TrueCondition)
+	 * 			|	then result == Boolean.TRUE
+	 * 			| else if(condition instanceof NotCondition
+	 * 			|			&& ((NotCondition) condition).getSubCondition() instanceof TrueCondition)
+	 * 			|	then result == Boolean.FALSE
+	 * 			| else result == null
+	 */
+	private static Boolean getConstantValue(Condition condition){
+		if(condition instanceof TrueCondition)
+			return Boolean.TRUE;
+		if(condition instanceof NotCondition && ((NotCondition) condition).getSubCondition() instanceof TrueCondition)
+			return Boolean.FALSE;
+		return null;
+	}
+}
@@ -0,0 +1,65 @@
+package roborally.program;
+
+import be.kuleuven.cs.som.annotate.*;
+
+/**
+ * A class of exceptions signaling programs that are not written in correct robot language syntax.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class RobotLanguageSyntaxException extends IllegalArgumentException{
+
+	/**
+	 * The Serial Version ID
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Initializes this new robot language syntax exception with given message, line and column.
+	 *
+	 * @param	message
+	 * 			The message describing the syntax error.
+	 * @param	line
+	 * 			The line of the syntax error.
+	 * @param	column
+	 * 			The column of the syntax error.
+	 * @post	| new.getLine() == line
+	 * @post	| new.getColumn() == column
+	 * @post	| new.getMessage().equals("line " + line + ", column " + column + ": " + message)
+	 */
+	public RobotLanguageSyntaxException(String message, int line, int column){
+		super("line " + line + ", column " + column + ": " + message);
+		this.line = line;
+		this.column = column;
+	}
+
+	/**
+	 * Returns the line of the syntax error of this robot language syntax exception.
+	 * The first line of a program has number 1.
+	 */
+	@Basic @Immutable
+	public int getLine(){
+		return line;
+	}
+
+	/**
+	 * Variable registering the line of the syntax error.
+	 */
+	private final int line;
+
+	/**
+	 * Returns the column of the syntax error of this robot language syntax exception.
+	 * The first column of a line has number 1.
+	 */
+	@Basic @Immutable
+	public int getColumn(){
+		return column;
+	}
+
+	/**
+	 * Variable registering the column of the syntax error.
+	 */
+	private final int column;
+}
@@ -33,6 +33,9 @@ public class AndCondition extends BinaryCondition {
 	 * @return	The result is the logical and-ing of its two sub conditions.
 	 * 			| result == getFirstSubCondition().result(robot)
 	 * 			|			&& getSecondSubCondition().result(robot)
+	 * @note	The sub condition with the lowest estimated cost is evaluated first,
+	 * 			the other one only if the result is not yet known.
+	 * 			| getFirstEvaluatedSubCondition().result(robot) && getLastEvaluatedSubCondition().result(robot)
 	 */
 	@Override
 	public boolean result(Robot robot){
@@ -40,7 +43,7 @@ public class AndCondition extends BinaryCondition {
 			throw new IllegalStateException("The given robot is not effective.");
 		if(robot.isTerminated())
 			throw new IllegalStateException("The given robot is terminated.");
-		return getFirstSubCondition().result(robot) && getSecondSubCondition().result(robot);
+		return getFirstEvaluatedSubCondition().result(robot) && getLastEvaluatedSubCondition().result(robot);
 	}
 	
 	/**
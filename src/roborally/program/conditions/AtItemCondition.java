@@ -48,6 +48,9 @@ public final class AtItemCondition extends BasicCondition {
 	 * 			|	then result ==
 	 * 			|		for some i in 0..robot.getBoard().getBoardModelsClassAt(robot.getPosition(), InventoryModel.class).size()-1 :
 	 * 			|			robot.getInventory().canHaveAsInventoryItem(robot.getBoard().getBoardModelsClassAt(robot.getPosition(), InventoryModel.class).get(i))
+
+	 * @note	The inventory models are read from the sensor snapshot of the given robot,
+	 * 			while the inventory of the given robot is checked at every evaluation.
 	 */
 	@Override
 	public boolean result(Robot robot) 
@@ -58,7 +61,7 @@ public final class AtItemCondition extends BasicCondition {
 			throw new IllegalStateException("The given robot is terminated.");
 		if(robot.getBoard() == null)
 			return false;
-		List<InventoryModel> list = robot.getBoard().getBoardModelsClassAt(robot.getPosition(), InventoryModel.class);
+		List<InventoryModel> list = robot.getSensorSnapshot().getInventoryModelsUnderfoot();
 		for (InventoryModel im : list){
 			if (robot.getInventory().canHaveAsInventoryItem(im))
 				return true;
@@ -66,6 +69,17 @@ public final class AtItemCondition extends BasicCondition {
 		return false;
 	}
 	
+	/**
+	 * Returns the estimated cost of evaluating this at item condition.
+	 * 
+	 * @return	Four, since an at item condition collects the inventory models of a single cell.
+	 * 			| result == 4
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return 4;
+	}
+	
 	/**
 	 * Returns a string representation of this condition.
 	 * 
@@ -40,6 +40,8 @@ public abstract class BinaryCondition extends CombinedLanguageElement<Condition>
 			throw new IllegalArgumentException("The second given condition is illegal for this binary condition");
 		setSubElementAt(1, one);
 		setSubElementAt(2, two);
+		this.estimatedCost = one.getEstimatedCost() + two.getEstimatedCost();
+		this.secondSubConditionEvaluatedFirst = two.getEstimatedCost() < one.getEstimatedCost();
 	}
 	
 	/**
@@ -130,6 +132,53 @@ public abstract class BinaryCondition extends CombinedLanguageElement<Condition>
 	 */
 	private Condition secondSubCondition;
 	
+	/**
+	 * Returns the sub condition of this binary condition that is evaluated first.
+	 * 
+	 * @return	The sub condition with the lowest estimated cost, or the first
+	 * 			sub condition if both have the same estimated cost.
+	 * 			| if(getSecondSubCondition().getEstimatedCost() < getFirstSubCondition().getEstimatedCost())
+	 * 			|	then result == getSecondSubCondition()
+	 * 			|	else result == getFirstSubCondition()
+	 */
+	public Condition getFirstEvaluatedSubCondition(){
+		return secondSubConditionEvaluatedFirst ? getSecondSubCondition() : getFirstSubCondition();
+	}
+	
+	/**
+	 * Returns the sub condition of this binary condition that is evaluated last.
+	 * 
+	 * @return	The other sub condition than the one that is evaluated first.
+	 * 			| if(getFirstEvaluatedSubCondition() == getSecondSubCondition())
+	 * 			|	then result == getFirstSubCondition()
+	 * 			|	else result == getSecondSubCondition()
+	 */
+	public Condition getLastEvaluatedSubCondition(){
+		return secondSubConditionEvaluatedFirst ? getFirstSubCondition() : getSecondSubCondition();
+	}
+	
+	/**
+	 * Variable registering whether the second sub condition of this binary condition
+	 * is evaluated before its first sub condition.
+	 */
+	private final boolean secondSubConditionEvaluatedFirst;
+	
+	/**
+	 * Returns the estimated cost of evaluating this binary condition.
+	 * 
+	 * @return	The sum of the estimated costs of its sub conditions.
+	 * 			| result == getFirstSubCondition().getEstimatedCost() + getSecondSubCondition().getEstimatedCost()
+	 */
+	@Basic @Immutable @Override
+	public double getEstimatedCost(){
+		return estimatedCost;
+	}
+	
+	/**
+	 * Variable registering the estimated cost of evaluating this binary condition.
+	 */
+	private final double estimatedCost;
+	
 	/**
 	 * Returns this combined condition in robot language syntax.
 	 * 
@@ -1,8 +1,5 @@
 package roborally.program.conditions;
 
-import java.util.List;
-
-import roborally.model.BoardModel;
 import roborally.model.Cost;
 import roborally.model.dynamicObject.Robot;
 
@@ -48,6 +45,9 @@ public final class CanHitRobotCondition extends BasicCondition {
 	 * 			|	then result ==
 	 * 			|		for some i in 0..robot.getBoard().getAllTargets(robot.getPosition(), robot.getDirection()).size()-1 :
 	 * 			|			Robot.class.isInstance(robot.getBoard().getAllTargets(robot.getPosition(), robot.getDirection()).get(i))
+
+	 * @note	The targets are read from the sensor snapshot of the given robot,
+	 * 			while the energy of the given robot is checked at every evaluation.
 	 */
 	@Override
 	public boolean result(Robot robot) 
@@ -58,13 +58,18 @@ public final class CanHitRobotCondition extends BasicCondition {
 			throw new IllegalStateException("The given robot is terminated.");
 		if (!robot.canDoEnergyCostMethod(robot.getEnergyCostOf(Cost.SHOOT)))
 			return false;
-		List<BoardModel> list = robot.getBoard().getAllTargets(robot.getPosition(), robot.getDirection());
-		for (BoardModel bm : list){
-			if (Robot.class.isInstance(bm)){
-				return true;
-			}
-		}
-		return false;
+		return robot.getSensorSnapshot().hasRobotInLineOfFire();
+	}
+	
+	/**
+	 * Returns the estimated cost of evaluating this can hit robot condition.
+	 * 
+	 * @return	Sixteen, since a can hit robot condition searches the board along its line of fire.
+	 * 			| result == 16
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return 16;
 	}
 	
 	/**
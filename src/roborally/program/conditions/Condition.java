@@ -26,4 +26,14 @@ public interface Condition extends LanguageElement{
 	 */	
 	public abstract boolean result(Robot robot)
 			throws IllegalStateException;
+	
+	/**
+	 * Returns an estimate of the cost of evaluating this condition, relative to
+	 * the cost of comparing the amount of energy of a robot.
+	 * 
+	 * @return	| result >= 0
+	 * @note	Conditions have no side effects, so the sub conditions of an and or an or
+	 * 			condition are evaluated in order of their estimated cost.
+	 */
+	public double getEstimatedCost();
 }
@@ -2,6 +2,7 @@ package roborally.program.conditions;
 
 import roborally.model.dynamicObject.Robot;
 import roborally.model.energy.Energy;
+import roborally.model.energy.EnergyUnit;
 import roborally.program.languageelement.ParameterizedBasicLanguageElement;
 
 /**
@@ -49,12 +50,24 @@ public class EnergyAtleastCondition extends ParameterizedBasicLanguageElement<En
 			throw new IllegalStateException("The given robot is not effective.");
 		if(robot.isTerminated())
 			throw new IllegalStateException("The given robot is terminated.");
-		if(robot.getEnergy().compareTo(getParameter()) < 0)
+		EnergyUnit unit = getParameter().getEnergyUnit();
+		if(Double.compare(robot.getAccu().getAmountOfEnergyIn(unit), getParameter().getEnergyAmount()) < 0)
 			return false;
 		else
 			return true;
 	}
 	
+	/**
+	 * Returns the estimated cost of evaluating this energy at least condition.
+	 * 
+	 * @return	One, since an energy at least condition only compares two amounts of energy.
+	 * 			| result == 1
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return 1;
+	}
+	
 	/**
 	 * Returns a string representation of this condition.
 	 * 
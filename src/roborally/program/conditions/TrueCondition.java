@@ -44,6 +44,17 @@ public final class TrueCondition extends BasicCondition {
 		return true;
 	}
 	
+	/**
+	 * Returns the estimated cost of evaluating this true condition.
+	 * 
+	 * @return	Zero, since a true condition does not inspect the robot at all.
+	 * 			| result == 0
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return 0;
+	}
+	
 	/**
 	 * Returns a string representation of this true condition.
 	 * 
@@ -94,6 +94,17 @@ public abstract class UnaryCondition extends CombinedLanguageElement<Condition>
 	 */
 	private Condition subCondition;
 	
+	/**
+	 * Returns the estimated cost of evaluating this unary condition.
+	 * 
+	 * @return	The estimated cost of its sub condition.
+	 * 			| result == getSubCondition().getEstimatedCost()
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return getSubCondition().getEstimatedCost();
+	}
+	
 	/**
 	 * Returns this combined condition in robot language syntax.
 	 * 
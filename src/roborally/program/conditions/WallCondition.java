@@ -53,6 +53,8 @@ public final class WallCondition extends BasicCondition {
 	 * 			|	then result == true
 	 * @return	In all other cases the result is false.
 	 * 			| result == false
+	 * @note	The walls are read from the sensor snapshot of the given robot,
+	 * 			so the board is only queried again once it has changed.
 	 */
 	@Override
 	public boolean result(Robot robot) 
@@ -63,13 +65,18 @@ public final class WallCondition extends BasicCondition {
 			throw new IllegalStateException("The given robot is terminated.");
 		if(robot.getBoard() == null)
 			return false;
-		Direction toRightOfRobotDir = Direction.turnDirectionClockwise(robot.getDirection());
-		Position toRightOfRobotPos = robot.getPosition().getNextPositionInDirection(toRightOfRobotDir);
-		if(!robot.getBoard().containsPositionKey(toRightOfRobotPos))
-			return false;
-		if(robot.getBoard().getBoardModelsClassAt(toRightOfRobotPos, Wall.class).size() > 0)
-			return true;
-		return false;
+		return robot.getSensorSnapshot().hasWallToTheRight();
+	}
+	
+	/**
+	 * Returns the estimated cost of evaluating this wall condition.
+	 * 
+	 * @return	Four, since a wall condition collects the walls of a single cell.
+	 * 			| result == 4
+	 */
+	@Override
+	public double getEstimatedCost(){
+		return 4;
 	}
 	
 	/**
@@ -16,8 +16,10 @@ import roborally.model.energy.Accu;
 import roborally.model.energy.Energy;
 import roborally.program.conditions.AndCondition;
 import roborally.program.conditions.AtItemCondition;
+import roborally.program.conditions.CanHitRobotCondition;
 import roborally.program.conditions.Condition;
 import roborally.program.conditions.EnergyAtleastCondition;
+import roborally.program.conditions.WallCondition;
 
 /**
  * A test class for and conditions.
@@ -63,6 +65,28 @@ public class AndConditionTest {
 		assertSame(cond2, someAndCondition.getSecondSubCondition());
 	}
 
+	@Test
+	public void getFirstEvaluatedSubCondition_cheapestFirst(){
+		Condition energy = new EnergyAtleastCondition(new Energy(5000));
+		AndCondition someAndCondition = new AndCondition(CanHitRobotCondition.CAN_HIT_ROBOT_CONDITION, energy);
+		assertSame(energy, someAndCondition.getFirstEvaluatedSubCondition());
+		assertSame(CanHitRobotCondition.CAN_HIT_ROBOT_CONDITION, someAndCondition.getLastEvaluatedSubCondition());
+		assertEquals(17, someAndCondition.getEstimatedCost(), 0.0001);
+	}
+	
+	@Test
+	public void getFirstEvaluatedSubCondition_sameCostInSourceOrder(){
+		AndCondition someAndCondition = new AndCondition(WallCondition.WALL_CONDITION, AtItemCondition.AT_ITEM_CONDITION);
+		assertSame(WallCondition.WALL_CONDITION, someAndCondition.getFirstEvaluatedSubCondition());
+	}
+	
+	@Test
+	public void result_cheapestFirstSameResult(){
+		new Robot(b, new Position(10, 5), new Accu(new Energy(5000)), Direction.DOWN);
+		assertTrue(new AndCondition(CanHitRobotCondition.CAN_HIT_ROBOT_CONDITION, new EnergyAtleastCondition(new Energy(1000))).result(rob));
+		assertFalse(new AndCondition(CanHitRobotCondition.CAN_HIT_ROBOT_CONDITION, new EnergyAtleastCondition(new Energy(6000))).result(rob));
+	}
+	
 	@Test(expected=IllegalStateException.class)
 	public void result_robotNull() {
 		assertTrue(andConditionTrueTrue.result(null));
@@ -64,6 +64,15 @@ public class OrConditionTest {
 		assertSame(cond2, someAndCondition.getSecondSubCondition());
 	}
 
+	@Test
+	public void getFirstEvaluatedSubCondition_cheapestFirst(){
+		Condition energy = new EnergyAtleastCondition(new Energy(5000));
+		OrCondition someOrCondition = new OrCondition(AtItemCondition.AT_ITEM_CONDITION, energy);
+		assertSame(energy, someOrCondition.getFirstEvaluatedSubCondition());
+		assertSame(AtItemCondition.AT_ITEM_CONDITION, someOrCondition.getLastEvaluatedSubCondition());
+		assertTrue(someOrCondition.result(rob));
+	}
+	
 	@Test(expected=IllegalStateException.class)
 	public void result_robotNull() {
 		assertTrue(orConditionTrueTrue.result(null));
@@ -0,0 +1,131 @@
+package roborally.program.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.Board;
+import roborally.board.Dimension;
+import roborally.board.Position;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Accu;
+import roborally.model.energy.Energy;
+import roborally.program.CompiledProgram;
+import roborally.program.ExecutionState;
+import roborally.program.RobotLanguageInterpreter;
+import roborally.program.commands.Command;
+
+/**
+ * A class collecting tests for the class of compiled programs.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class CompiledProgramTest {
+
+	Board board;
+	Robot robot;
+	RobotLanguageInterpreter interpreter;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		board = new Board(20L, 20L);
+		robot = new Robot(board, new Position(0L, 0L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.RIGHT);
+		interpreter = new RobotLanguageInterpreter();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct_while(){
+		Command command = interpreter.readCommandList("(while (true) (move))");
+		CompiledProgram compiled = new CompiledProgram(command);
+		assertEquals(7, compiled.getCodeLength());
+		assertEquals(CompiledProgram.JUMP_IF_FALSE, compiled.getCodeAt(0));
+		assertEquals(7, compiled.getCodeAt(2));
+		assertEquals(CompiledProgram.EXECUTE, compiled.getCodeAt(3));
+		assertEquals(CompiledProgram.JUMP, compiled.getCodeAt(5));
+		assertEquals(0, compiled.getCodeAt(6));
+	}
+
+	@Test
+	public void executeStep_oneCommandPerStep(){
+		CompiledProgram compiled = new CompiledProgram(interpreter.readCommandList("(seq (move) (turn clockwise) (move))"));
+		int pc = compiled.executeStep(robot, 0);
+		assertEquals(1L, robot.getPosition().getCoordinate(Dimension.HORIZONTAL));
+		pc = compiled.executeStep(robot, pc);
+		assertEquals(Direction.DOWN, robot.getDirection());
+		assertFalse(compiled.isFinished(pc));
+		pc = compiled.executeStep(robot, pc);
+		assertEquals(1L, robot.getPosition().getCoordinate(Dimension.VERTICAL));
+		assertTrue(compiled.isFinished(pc));
+	}
+
+	@Test
+	public void executeStep_finishedAfterLastBranch(){
+		CompiledProgram compiled = new CompiledProgram(interpreter.readCommandList("(if (true) (move) (shoot))"));
+		assertTrue(compiled.isFinished(compiled.executeStep(robot, 0)));
+	}
+
+	@Test
+	public void executeStep_whileEndsWithoutCommand(){
+		CompiledProgram compiled = new CompiledProgram(interpreter.readCommandList("(while (energy-at-least 9000) (move))"));
+		ExecutionState state = new ExecutionState(0);
+		int steps = 0;
+		while(!compiled.isFinished(state.getProgramCounter())){
+			compiled.executeStep(robot, state);
+			steps++;
+		}
+		assertEquals(4, steps);
+		assertEquals(3L, robot.getPosition().getCoordinate(Dimension.HORIZONTAL));
+		assertEquals(4L, state.getNbConditionEvaluations());
+	}
+
+	@Test
+	public void getNbConditionEvaluations_canHitRobotOncePerIteration(){
+		new Robot(board, new Position(5L, 0L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.LEFT);
+		CompiledProgram compiled = new CompiledProgram(interpreter.readCommandList("(while (can-hit-robot) (turn clockwise))"));
+		ExecutionState state = new ExecutionState(0);
+		compiled.executeStep(robot, state);
+		assertEquals(Direction.DOWN, robot.getDirection());
+		assertEquals(1L, state.getNbConditionEvaluations());
+		compiled.executeStep(robot, state);
+		assertTrue(compiled.isFinished(state.getProgramCounter()));
+		assertEquals(2L, state.getNbConditionEvaluations());
+	}
+
+	@Test
+	public void executeStep_sharedBetweenRobots(){
+		Robot other = new Robot(board, new Position(0L, 5L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.RIGHT);
+		CompiledProgram compiled = new CompiledProgram(interpreter.readCommandList("(seq (move) (move))"));
+		ExecutionState state = new ExecutionState(0);
+		ExecutionState otherState = new ExecutionState(0);
+		compiled.executeStep(robot, state);
+		compiled.executeStep(robot, state);
+		compiled.executeStep(other, otherState);
+		assertTrue(compiled.isFinished(state.getProgramCounter()));
+		assertFalse(compiled.isFinished(otherState.getProgramCounter()));
+		assertEquals(new Position(1L, 5L), other.getPosition());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void construct_null(){
+		new CompiledProgram(null);
+	}
+}
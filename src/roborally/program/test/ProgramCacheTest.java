@@ -0,0 +1,137 @@
+package roborally.program.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.Board;
+import roborally.board.Position;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Accu;
+import roborally.model.energy.Energy;
+import roborally.program.CompiledProgram;
+import roborally.program.ProgramCache;
+import roborally.program.commands.MoveCommand;
+
+/**
+ * A class collecting tests for the class of program caches.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class ProgramCacheTest {
+
+	ProgramCache cache;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		cache = new ProgramCache(2);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void construct(){
+		assertEquals(2, cache.getCapacity());
+		assertEquals(0, cache.getNbPrograms());
+		assertEquals(0L, cache.getNbParses());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void construct_invalidCapacity(){
+		new ProgramCache(0);
+	}
+
+	@Test
+	public void readProgram_sameSourceParsedOnce(){
+		CompiledProgram first = cache.readProgram("(while (true) (move))");
+		CompiledProgram second = cache.readProgram("(while (true) (move))");
+		assertSame(first, second);
+		assertEquals(1L, cache.getNbParses());
+		assertNotSame(first, cache.readProgram("(while (true) (shoot))"));
+		assertEquals(2L, cache.getNbParses());
+	}
+
+	@Test
+	public void readProgramFromFile_sameContent() throws IOException{
+		CompiledProgram program = cache.readProgramFromFile("src/res/programs/move.prog");
+		assertSame(program, cache.readProgramFromFile("src/res/programs/move.prog"));
+		assertEquals(1L, cache.getNbParses());
+	}
+
+	@Test
+	public void readProgram_leastRecentlyUsedEvicted(){
+		CompiledProgram move = cache.readProgram("(move)");
+		cache.readProgram("(shoot)");
+		cache.readProgram("(move)");
+		cache.readProgram("(turn clockwise)");
+		assertEquals(2, cache.getNbPrograms());
+		assertSame(move, cache.readProgram("(move)"));
+		assertEquals(3L, cache.getNbParses());
+		cache.readProgram("(shoot)");
+		assertEquals(4L, cache.getNbParses());
+	}
+
+	@Test
+	public void readProgram_syntaxErrorNotCached(){
+		try{
+			cache.readProgram("(move");
+			fail();
+		}
+		catch(IllegalArgumentException e){
+			assertEquals(0, cache.getNbPrograms());
+		}
+	}
+
+	@Test
+	public void readProgram_optimizedButSourceKept(){
+		CompiledProgram program = cache.readProgram("(if (true) (move) (shoot))");
+		assertSame(MoveCommand.MOVE_COMMAND, program.getCompiledCommand());
+		assertEquals("(if(true)(move)(shoot))", program.getCommand().toRobotLanguage().replaceAll("\\s+", ""));
+		assertEquals(2, program.getCodeLength());
+	}
+
+	@Test
+	public void clear(){
+		cache.readProgram("(move)");
+		cache.clear();
+		assertEquals(0, cache.getNbPrograms());
+	}
+
+	@Test
+	public void setProgramFromFile_sharedBetweenRobots() throws IOException{
+		Board board = new Board(100L, 100L);
+		Robot[] robots = new Robot[100];
+		for(int i = 0; i < robots.length; i++){
+			robots[i] = new Robot(board, new Position(i, 0L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.DOWN);
+			robots[i].setProgramFromFile("src/res/programs/gump.prog");
+		}
+		for(int i = 1; i < robots.length; i++)
+			assertSame(robots[0].getProgram().getCompiledProgram(), robots[i].getProgram().getCompiledProgram());
+		robots[0].executeProgramStep();
+		robots[0].executeProgramStep();
+		robots[1].executeProgramStep();
+		assertEquals(new Position(0L, 2L), robots[0].getPosition());
+		assertEquals(new Position(1L, 1L), robots[1].getPosition());
+		assertEquals(2L, robots[0].getProgram().getNbConditionEvaluations());
+		assertEquals(1L, robots[1].getProgram().getNbConditionEvaluations());
+	}
+}
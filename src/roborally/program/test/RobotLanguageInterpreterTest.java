@@ -3,6 +3,7 @@ package roborally.program.test;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.io.StringReader;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -11,6 +12,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import roborally.program.RobotLanguageInterpreter;
+import roborally.program.RobotLanguageSyntaxException;
 import roborally.program.commands.*;
 
 /**
@@ -57,6 +59,78 @@ public class RobotLanguageInterpreterTest {
 		assertEquals(1, cmd.getNbSubElements());
 	}
 	
+	@Test
+	public void readCommandList_reader() throws IOException {
+		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
+		Command cmd = rli.readCommandList(new StringReader("(while\n\t(true)\n\t(turn counterclockwise)\n)"));
+		assertTrue(cmd instanceof WhileCommand);
+	}
+	
+	@Test
+	public void readCommandList_largeProgram() {
+		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
+		StringBuilder input = new StringBuilder("(seq");
+		for(int i = 0; i < 50000; i++)
+			input.append(" (if (energy-at-least 1000) (move) (turn clockwise))");
+		input.append(")");
+		SeqCommand cmd = (SeqCommand)rli.readCommandList(input.toString());
+		assertEquals(50000, cmd.getNbSubElements());
+		assertTrue(cmd.getSubElementAt(50000) instanceof IfCommand);
+	}
+	
+	@Test
+	public void readCommandList_emptySeq() {
+		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
+		SeqCommand cmd = (SeqCommand)rli.readCommandList("(seq)");
+		assertEquals(0, cmd.getNbSubElements());
+	}
+	
+	@Test
+	public void readCommandList_unknownElementPosition() {
+		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
+		try{
+			rli.readCommandList("(seq\n  (move)\n  (seQ (move)))");
+			fail();
+		}
+		catch(RobotLanguageSyntaxException e){
+			assertEquals(3, e.getLine());
+			assertEquals(4, e.getColumn());
+		}
+	}
+	
+	@Test
+	public void readCommandList_unclosedPosition() {
+		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
+		try{
+			rli.readCommandList("(while (true)\n(move)");
+			fail();
+		}
+		catch(RobotLanguageSyntaxException e){
+			assertEquals(2, e.getLine());
+			assertEquals(7, e.getColumn());
+		}
+	}
+	
+	@Test (expected = RobotLanguageSyntaxException.class)
+	public void readCommandList_conditionAsCommand() {
+		new RobotLanguageInterpreter().readCommandList("(if (move) (move) (shoot))");
+	}
+	
+	@Test (expected = RobotLanguageSyntaxException.class)
+	public void readCommandList_conditionAsProgram() {
+		new RobotLanguageInterpreter().readCommandList("(wall)");
+	}
+	
+	@Test (expected = RobotLanguageSyntaxException.class)
+	public void readCommandList_trailingElement() {
+		new RobotLanguageInterpreter().readCommandList("(move) (shoot)");
+	}
+	
+	@Test (expected = RobotLanguageSyntaxException.class)
+	public void readCommandList_unknownTurnDirection() {
+		new RobotLanguageInterpreter().readCommandList("(turn left)");
+	}
+	
 	@Test
 	public void readCommandListFromFile_normalCase1() throws IOException{
 		RobotLanguageInterpreter rli = new RobotLanguageInterpreter();
@@ -0,0 +1,195 @@
+package roborally.program.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import roborally.board.Board;
+import roborally.board.Position;
+import roborally.model.Direction;
+import roborally.model.dynamicObject.Robot;
+import roborally.model.energy.Accu;
+import roborally.model.energy.Energy;
+import roborally.model.staticObject.Wall;
+import roborally.program.CompiledProgram;
+import roborally.program.ExecutionState;
+import roborally.program.RobotLanguageInterpreter;
+import roborally.program.RobotLanguageOptimizer;
+import roborally.program.commands.*;
+import roborally.program.conditions.*;
+
+/**
+ * A class collecting tests for the class of robot language optimizers.
+ *
+ * @version	Pandora: A New Hope
+ * @author 	Matthias Moulin & Ruben Pieters
+ *
+ */
+public class RobotLanguageOptimizerTest {
+
+	RobotLanguageInterpreter interpreter;
+	RobotLanguageOptimizer optimizer;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		interpreter = new RobotLanguageInterpreter();
+		optimizer = new RobotLanguageOptimizer();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	private Command optimize(String input){
+		return optimizer.optimize(interpreter.readCommandList(input));
+	}
+
+	@Test
+	public void optimize_ifTrue(){
+		assertSame(MoveCommand.MOVE_COMMAND, optimize("(if (true) (move) (shoot))"));
+	}
+
+	@Test
+	public void optimize_ifFalse(){
+		assertSame(ShootCommand.SHOOT_COMMAND, optimize("(if (not (true)) (move) (seq (shoot)))"));
+	}
+
+	@Test
+	public void optimize_doubleNegation(){
+		WhileCommand command = (WhileCommand) optimize("(while (not (not (wall))) (move))");
+		assertSame(WallCondition.WALL_CONDITION, command.getCondition());
+	}
+
+	@Test
+	public void optimize_andTrue(){
+		WhileCommand command = (WhileCommand) optimize("(while (and (true) (at-item)) (move))");
+		assertSame(AtItemCondition.AT_ITEM_CONDITION, command.getCondition());
+	}
+
+	@Test
+	public void optimize_orTrue(){
+		WhileCommand command = (WhileCommand) optimize("(while (or (wall) (true)) (move))");
+		assertSame(TrueCondition.TRUE_CONDITION, command.getCondition());
+	}
+
+	@Test
+	public void optimize_whileFalse(){
+		SeqCommand command = (SeqCommand) optimize("(seq (while (and (wall) (not (true))) (move)))");
+		assertEquals(0, command.getNbSubElements());
+	}
+
+	@Test
+	public void optimize_nestedSeqs(){
+		SeqCommand command = (SeqCommand) optimize("(seq (seq (move) (seq (shoot))) (seq) (turn clockwise))");
+		assertEquals(3, command.getNbSubElements());
+		assertSame(MoveCommand.MOVE_COMMAND, command.getSubElementAt(1));
+		assertSame(ShootCommand.SHOOT_COMMAND, command.getSubElementAt(2));
+		assertTrue(command.getSubElementAt(3) instanceof TurnCommand);
+	}
+
+	@Test
+	public void optimize_sourceUnchanged(){
+		String input = "(seq (if (true) (move) (shoot)) (while (not (not (wall))) (seq (seq (move)))))";
+		Command command = interpreter.readCommandList(input);
+		optimizer.optimize(command);
+		assertEquals(input.replaceAll("\\s+", ""), command.toRobotLanguage().replaceAll("\\s+", ""));
+	}
+
+	@Test
+	public void optimize_sameBehaviour(){
+		Random random = new Random(11L);
+		for(int i = 0; i < 300; i++){
+			String input = generateCommand(random, 4);
+			Command command = interpreter.readCommandList(input);
+			List<String> expected = run(new CompiledProgram(command));
+			List<String> actual = run(new CompiledProgram(command, optimizer.optimize(command)));
+			assertEquals(input, expected, actual);
+		}
+	}
+
+	/**
+	 * Returns the successive states of a robot executing the given compiled program,
+	 * leaving out steps that didn't change the state of the robot.
+	 */
+	private List<String> run(CompiledProgram program){
+		Board board = new Board(10L, 10L);
+		new Wall(board, new Position(4L, 4L));
+		new Wall(board, new Position(6L, 2L));
+		Robot robot = new Robot(board, new Position(3L, 3L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.RIGHT);
+		new Robot(board, new Position(8L, 3L), new Accu(new Energy(10000), Robot.STANDARD_ROBOT_ENERGY_CAPACITY), Direction.UP);
+		List<String> states = new ArrayList<String>();
+		ExecutionState state = new ExecutionState(0);
+		for(int step = 0; step < 40 && !program.isFinished(state.getProgramCounter()); step++){
+			program.executeStep(robot, state);
+			String robotState = robot.getPosition() + " " + robot.getDirection() + " " + robot.getAccu().getAmountOfEnergy().getEnergyAmount();
+			if(states.isEmpty() || !states.get(states.size() - 1).equals(robotState))
+				states.add(robotState);
+		}
+		return states;
+	}
+
+	private String generateCommand(Random random, int depth){
+		int choice = random.nextInt(depth > 0 ? 7 : 3);
+		switch(choice){
+			case 0:
+				return "(move)";
+			case 1:
+				return "(turn " + (random.nextBoolean() ? "clockwise" : "counterclockwise") + ")";
+			case 2:
+				return "(shoot)";
+			case 3:
+			case 4:
+				String seq = "(seq";
+				int nb = random.nextInt(4);
+				for(int i = 0; i < nb; i++)
+					seq += " " + generateCommand(random, depth - 1);
+				return seq + ")";
+			case 5:
+				return "(if " + generateCondition(random, depth - 1) + " " + generateCommand(random, depth - 1) + " " + generateCommand(random, depth - 1) + ")";
+			default:
+				// The body of a while command always executes a command, or a step would never end.
+				return "(while " + generateCondition(random, depth - 1) + " (seq " + generateCommand(random, 0) + " " + generateCommand(random, depth - 1) + "))";
+		}
+	}
+
+	private String generateCondition(Random random, int depth){
+		int choice = random.nextInt(depth > 0 ? 7 : 4);
+		switch(choice){
+			case 0:
+				return "(true)";
+			case 1:
+				return "(wall)";
+			case 2:
+				return "(can-hit-robot)";
+			case 3:
+				return "(energy-at-least " + (5000 + random.nextInt(5000)) + ")";
+			case 4:
+				return "(not " + generateCondition(random, depth - 1) + ")";
+			case 5:
+				return "(and " + generateCondition(random, depth - 1) + " " + generateCondition(random, depth - 1) + ")";
+			default:
+				return "(or " + generateCondition(random, depth - 1) + " " + generateCondition(random, depth - 1) + ")";
+		}
+	}
+
+	@Test (expected = NullPointerException.class)
+	public void optimize_null(){
+		optimizer.optimize((Command) null);
+	}
+}